@@ -0,0 +1,102 @@
+package com.join.tab.application.dto;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.GameStatus;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the result of several guesses applied
+ * to a Hangman game in one request.
+ * Holds the outcome of every submitted letter, in submission order, and the state
+ * of the game after the last applied guess.
+ */
+public class BatchGuessDto {
+    private final List<LetterOutcome> results;
+    private final String currentState;
+    private final int remainingTries;
+    private final GameStatus status;
+    private final String word;
+    private final String language;
+
+    /**
+     * Constructs a new BatchGuessDto.
+     *
+     * @param results        the outcome of every submitted letter
+     * @param currentState   the current masked state of the word
+     * @param remainingTries number of remaining incorrect guesses allowed
+     * @param status         the current {@link GameStatus}
+     * @param word           the full word, exposed only if the game has ended
+     * @param language       the language code of the game
+     */
+    public BatchGuessDto (List<LetterOutcome> results, String currentState, int remainingTries,
+                          GameStatus status, String word, String language) {
+        this.results = List.copyOf(results);
+        this.currentState = currentState;
+        this.remainingTries = remainingTries;
+        this.status = status;
+        this.word = word;
+        this.language = language;
+    }
+
+    public static BatchGuessDto fromDomain (HangmanGame game, List<LetterOutcome> results) {
+        String word = game.isInProgress() ? null : game.getWord();
+        return new BatchGuessDto(
+                results,
+                game.getCurrentState(),
+                game.getRemainingTries(),
+                game.getStatus(),
+                word,
+                game.getPreferences().getLanguage().getCode()
+        );
+    }
+
+    public List<LetterOutcome> getResults () {
+        return results;
+    }
+
+    public String getCurrentState () {
+        return currentState;
+    }
+
+    public int getRemainingTries () {
+        return remainingTries;
+    }
+
+    public GameStatus getStatus () {
+        return status;
+    }
+
+    public String getWord () {
+        return word;
+    }
+
+    public String getLanguage () {
+        return language;
+    }
+
+    /**
+     * What happened to a single letter of the batch.
+     */
+    public enum Outcome {
+        /** The letter is in the word */
+        CORRECT,
+        /** The letter is not in the word and cost a try */
+        INCORRECT,
+        /** The letter was guessed before, earlier in the game or in the batch */
+        ALREADY_GUESSED,
+        /** The character is not a letter of the game's language */
+        INVALID,
+        /** The game had ended before the letter was reached */
+        SKIPPED
+    }
+
+    /**
+     * Outcome of one submitted letter.
+     *
+     * @param letter  the submitted character
+     * @param outcome what happened to it
+     */
+    public record LetterOutcome(char letter, Outcome outcome) {
+    }
+}
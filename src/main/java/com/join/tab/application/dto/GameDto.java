@@ -45,6 +45,7 @@ public class GameDto {
     /**
      * Creates a GameDto from a domain {@link HangmanGame} object.
      * The full word is only included if the game is finished.
+     * The guessed letters bitset is decoded here, once per response.
      *
      * @param game the HangmanGame domain object
      * @return a GameDto representing the current game state
@@ -61,7 +62,7 @@ public class GameDto {
                 word,
                 game.getPreferences().getLanguage().getCode(),
                 category,
-                game.getGuessedLetters()
+                game.getGuessedLetters().toLetters()
         );
     }
 
@@ -1,5 +1,6 @@
 package com.join.tab.application.service;
 
+import com.join.tab.application.dto.BatchGuessDto;
 import com.join.tab.application.dto.GameDto;
 import com.join.tab.application.dto.GuessDto;
 import com.join.tab.application.dto.LanguageInfoDto;
@@ -23,6 +24,17 @@ public interface HangmanGameService {
      */
     GuessDto guessLetter(String sessionId, char letter);
 
+    /**
+     * Makes several guesses, in order, for the specified session's current game.
+     * Letters after the guess that ends the game are skipped; invalid and repeated
+     * letters are reported in the result instead of failing the batch.
+     *
+     * @param sessionId the unique session identifier
+     * @param letters the letters being guessed, one guess per character
+     * @return a {@link BatchGuessDto} with the outcome of every letter and the final game state
+     */
+    BatchGuessDto guessLetters(String sessionId, String letters);
+
     /**
      * Retrieves the current state of the game for the specified session.
      *
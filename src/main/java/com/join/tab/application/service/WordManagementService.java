@@ -1,9 +1,14 @@
 package com.join.tab.application.service;
 
+import com.join.tab.infra.service.WordImportJob;
 import com.join.tab.infra.service.WordLoaderService;
 
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for managing the words used in the Hangman game.
@@ -24,6 +29,29 @@ public interface WordManagementService {
     /** Loads words from an InputStream into a given language and category*/
     WordLoaderService.WordLoadResult loadWordsFromStream(InputStream inputStream, String language, String category);
 
+    /**
+     * Imports words from an InputStream of any size in chunks, each committed on its own.
+     * Memory use does not grow with the size of the stream.
+     */
+    WordLoaderService.WordLoadResult streamWordsFromStream(InputStream inputStream, String language, String category);
+
+    /**
+     * Queues an import of the uploaded words as a background job and returns right away.
+     * The upload is moved, not copied, when the container already spooled it to disk.
+     *
+     * @return the queued {@link WordImportJob}
+     * @throws IllegalArgumentException if the language is not supported
+     * @throws java.util.concurrent.RejectedExecutionException if too many imports are queued
+     * @throws IOException if the words cannot be buffered for the job
+     */
+    WordImportJob submitImportJob(MultipartFile file, String language, String category) throws IOException;
+
+    /** Returns an import job by id, finished jobs included */
+    Optional<WordImportJob> getImportJob(String jobId);
+
+    /** Requests cancellation of an import job, returns the job or empty if it is unknown */
+    Optional<WordImportJob> cancelImportJob(String jobId);
+
     /** Reloads all words from predefined files, replacing the current active words. */
     void reloadAllWords();
 
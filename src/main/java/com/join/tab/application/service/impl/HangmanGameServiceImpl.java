@@ -1,12 +1,16 @@
 package com.join.tab.application.service.impl;
 
+import com.join.tab.application.dto.BatchGuessDto;
 import com.join.tab.application.dto.GameDto;
 import com.join.tab.application.dto.GuessDto;
 import com.join.tab.application.dto.LanguageInfoDto;
 import com.join.tab.application.service.HangmanGameService;
 import com.join.tab.domain.aggregate.HangmanGame;
 import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.event.GameEventPublisher;
 import com.join.tab.domain.exception.GameNotFoundException;
+import com.join.tab.domain.exception.LetterAlreadyGuessedException;
 import com.join.tab.domain.exception.UnsupportedLanguageException;
 import com.join.tab.domain.repository.GameRepository;
 import com.join.tab.domain.service.GameFactory;
@@ -14,35 +18,43 @@ import com.join.tab.domain.valueobject.GameId;
 import com.join.tab.domain.valueobject.GamePreferences;
 import com.join.tab.domain.valueobject.Language;
 import com.join.tab.domain.valueobject.Letter;
-import com.join.tab.infra.repository.jpa.impl.JpaWordRepository;
+import com.join.tab.infra.catalog.WordCountSnapshot;
+import com.join.tab.infra.catalog.WordCounts;
 import com.join.tab.monitoring.metrics.GameMetrics;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class HangmanGameServiceImpl implements HangmanGameService {
     private final static Logger log = LoggerFactory.getLogger(HangmanGameServiceImpl.class);
 
+    /** Upper bound of letters per batch, above the size of any supported alphabet */
+    public static final int MAX_BATCH_LETTERS = 64;
+
     private final GameRepository gameRepository;
     private final GameFactory gameFactory;
-    private final JpaWordRepository wordRepository;
+    private final WordCounts wordCounts;
     private final GameMetrics gameMetrics;
+    private final GameEventPublisher eventPublisher;
 
     public HangmanGameServiceImpl (
             GameRepository gameRepository, GameFactory gameFactory,
-            JpaWordRepository wordRepository, GameMetrics gameMetrics) {
+            WordCounts wordCounts, GameMetrics gameMetrics, GameEventPublisher eventPublisher) {
         this.gameRepository = gameRepository;
         this.gameFactory = gameFactory;
-        this.wordRepository = wordRepository;
+        this.wordCounts = wordCounts;
         this.gameMetrics = gameMetrics;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -50,8 +62,9 @@ public class HangmanGameServiceImpl implements HangmanGameService {
      * This method performs th following steps:
      * 1. Creates a {@link GameId} based on the provided session ID.
      * 2. Validate the {@code languageCode} and construct a {@link Language} object.
-     * 3. Detekt any existing game accosted with the session to start fresh.
-     * 4. Saves the new game to the {@link GameRepository}.
+     * 3. Creates the new game.
+     * 4. Saves it to the {@link GameRepository} in place of any existing game of the
+     *    session and publishes its start event.
      * 5. Logs the creation and returns a {@link GameDto} representing the new game.
      *
      * @param sessionId    the unique identifier of the user's session
@@ -66,17 +79,16 @@ public class HangmanGameServiceImpl implements HangmanGameService {
             GameId gameId = new GameId(sessionId);
             Language language = new Language(languageCode);
 
-            // remove existing game if any
-            gameRepository.delete(gameId);
             HangmanGame game = gameFactory.createNewGameWithLanguage(gameId, language);
+            List<GameEvent> events = game.getUncommittedEvents();
+            // read before the game is shared, a guess may change it right after the save
+            GameDto dto = GameDto.fromDomain(game);
+            // replaces the existing game if any
             gameRepository.save(game);
-
-            // record metrics
-            String category = game.getPreferences().hasCategory() ? game.getPreferences().getCategory() : null;
-            gameMetrics.recordGameStarted(languageCode, category);
+            eventPublisher.publish(events);
 
             log.info("Started new game for session {} with language {}", sessionId, languageCode);
-            return GameDto.fromDomain(game);
+            return dto;
 
         } catch (IllegalArgumentException e) {
             log.error("Invalid language code: {}", languageCode, e);
@@ -93,8 +105,9 @@ public class HangmanGameServiceImpl implements HangmanGameService {
      * <ul>
      *   <li>Validates the session ID and language code.</li>
      *   <li>Parses the difficulty level if provided.</li>
-     *   <li>Removes any existing game for the session.</li>
-     *   <li>Creates and saves a new game with the given language, category, and difficulty.</li>
+     *   <li>Creates a new game with the given language, category, and difficulty and saves it
+     *       in place of any existing game for the session.</li>
+     *   <li>Publishes the game's start event.</li>
      * </ul>
      *
      * @param sessionId    the unique session identifier
@@ -122,17 +135,18 @@ public class HangmanGameServiceImpl implements HangmanGameService {
 
             GamePreferences preferences = new GamePreferences(language, category, difficultyLevel);
 
-            // remove existing game if any
-            gameRepository.delete(gameId);
             HangmanGame game = gameFactory.createNewGameWithPreferences(gameId, preferences);
+            List<GameEvent> events = game.getUncommittedEvents();
+            // read before the game is shared, a guess may change it right after the save
+            GameDto dto = GameDto.fromDomain(game);
+            // replaces the existing game if any
             gameRepository.save(game);
-
-            gameMetrics.recordGameStarted(languageCode, category);
+            eventPublisher.publish(events);
 
             log.info("Started new game for session {} with preferences: language={}, category={}, difficulty={}",
                     sessionId, languageCode, category, difficultyLevel);
 
-            return GameDto.fromDomain(game);
+            return dto;
         } catch (IllegalArgumentException e) {
             log.error("Invalid game preferences: language={}, category={}, difficulty={}",
                     languageCode, category, difficulty, e);
@@ -145,11 +159,13 @@ public class HangmanGameServiceImpl implements HangmanGameService {
     /**
      * Mekes a guess in the current Hangman game for the given session.
      * Steps performed:
-     * 1. Finds the game associated with the session ID.
+     * 1. Updates the game associated with the session ID through {@link GameRepository#update},
+     *    so concurrent guesses of the same game are applied one after another.
      * 2. Throws {@link GameNotFoundException} if no game is found.
      * 3. Converts the input character to a {@link Letter} value object.
      * 4. Checks if the guessed letter is correct using the game logic.
-     * 5. Saves the updated game state in the repository.
+     * 5. Publishes the events raised by the guess, outside the update; metrics are
+     *    recorded from them off the request thread.
      * 6. Returns a {@link GuessDto} containing the updated game state and the result of the guess.
      *
      * @param sessionId the unique identifier of the user's session.
@@ -160,41 +176,98 @@ public class HangmanGameServiceImpl implements HangmanGameService {
     @Override
     public GuessDto guessLetter (String sessionId, char letter) {
         GameId gameId = new GameId(sessionId);
-        HangmanGame game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new GameNotFoundException("Game not found for session: " + sessionId));
+        Guess guess = gameRepository.update(gameId, game -> {
+            try {
+                Letter domainLetter = new Letter(letter);
+                int published = game.getUncommittedEventCount();
+                HangmanGame.GuessResult result = game.guessResult(domainLetter);
+                return new Guess(GuessDto.fromDomain(game, result), game.getUncommittedEventsSince(published));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid letter '{}' form game language '{}' in session {}",
+                        letter, game.getPreferences().getLanguage().getCode(), sessionId);
+                throw e;
+            }
+        }).orElseThrow(() -> new GameNotFoundException("Game not found for session: " + sessionId));
 
-        try {
-            Letter domainLetter = new Letter(letter);
-            HangmanGame.GuessResult result = game.guessResult(domainLetter);
+        eventPublisher.publish(guess.events());
 
-            gameRepository.save(game);
+        log.debug("Letter '{}' guessed for session {}, correct: {}",
+                letter, sessionId, guess.dto().isWasCorrect());
+
+        return guess.dto();
+    }
+
+    /** Result of a guess and the events it raised */
+    private record Guess(GuessDto dto, List<GameEvent> events) {
+    }
 
-            // record metrics
-            gameMetrics.recordLetterGuessed(game.getPreferences().getLanguage().getCode(), result.isWasCorrect());
+    /**
+     * Makes several guesses in the current Hangman game for the given session.
+     * Steps performed:
+     * 1. Rejects an empty batch or one longer than {@value #MAX_BATCH_LETTERS} letters.
+     * 2. Applies the letters in order inside one {@link GameRepository#update}, so the
+     *    game is loaded and saved once for the whole batch.
+     * 3. Records the outcome of every letter: a letter that is not valid for the game's
+     *    language or was already guessed is reported as such and the batch goes on;
+     *    letters after the guess that ends the game are skipped.
+     * 4. Publishes the events raised by all guesses at once, outside the update.
+     * 5. Returns a {@link BatchGuessDto} with the outcomes and the final game state.
+     *
+     * @param sessionId the unique identifier of the user's session.
+     * @param letters   the characters being guessed, one guess per character.
+     * @return a {@link BatchGuessDto} with the outcome of every letter and the final game state
+     * @throws IllegalArgumentException if the batch is empty or too long
+     * @throws GameNotFoundException if not game exists for the given session
+     */
+    @Override
+    public BatchGuessDto guessLetters (String sessionId, String letters) {
+        if (letters == null || letters.isEmpty() || letters.length() > MAX_BATCH_LETTERS) {
+            throw new IllegalArgumentException("A batch must contain 1 to " + MAX_BATCH_LETTERS + " letters");
+        }
 
-            // record game completion metrics
-            if (game.isWon()) {
-                gameMetrics.recordGameWon(game.getPreferences().getLanguage().getCode());
-            } else if (game.isLost()) {
-                gameMetrics.recordGameLost(game.getPreferences().getLanguage().getCode());
+        GameId gameId = new GameId(sessionId);
+        BatchGuess batch = gameRepository.update(gameId, game -> {
+            int published = game.getUncommittedEventCount();
+            List<BatchGuessDto.LetterOutcome> outcomes = new ArrayList<>(letters.length());
+            for (int i = 0; i < letters.length(); i++) {
+                char letter = letters.charAt(i);
+                BatchGuessDto.Outcome outcome = game.isInProgress()
+                        ? guessInBatch(game, letter)
+                        : BatchGuessDto.Outcome.SKIPPED;
+                outcomes.add(new BatchGuessDto.LetterOutcome(letter, outcome));
             }
+            return new BatchGuess(BatchGuessDto.fromDomain(game, outcomes), game.getUncommittedEventsSince(published));
+        }).orElseThrow(() -> new GameNotFoundException("Game not found for session: " + sessionId));
+
+        eventPublisher.publish(batch.events());
 
-            log.debug("Letter '{}' guessed for session {}, correct: {}",
-                    letter, sessionId, result.isWasCorrect());
+        log.debug("Batch of {} letters guessed for session {}, status: {}",
+                letters.length(), sessionId, batch.dto().getStatus());
 
-            return GuessDto.fromDomain(game, result);
+        return batch.dto();
+    }
 
+    private BatchGuessDto.Outcome guessInBatch (HangmanGame game, char letter) {
+        try {
+            return game.guessResult(new Letter(letter)).isWasCorrect()
+                    ? BatchGuessDto.Outcome.CORRECT
+                    : BatchGuessDto.Outcome.INCORRECT;
+        } catch (LetterAlreadyGuessedException e) {
+            return BatchGuessDto.Outcome.ALREADY_GUESSED;
         } catch (IllegalArgumentException e) {
-            log.warn("Invalid letter '{}' form game language '{}' in session {}",
-                    letter, game.getPreferences().getLanguage().getCode(), sessionId);
-            throw e;
+            return BatchGuessDto.Outcome.INVALID;
         }
     }
 
+    /** Result of a batch of guesses and the events it raised */
+    private record BatchGuess(BatchGuessDto dto, List<GameEvent> events) {
+    }
+
     /**
      * Retrieves the current Hangman game for the given session.
      * Steps performed:
-     * 1. Finds the game associated with the session ID.
+     * 1. Reads the game associated with the session ID through {@link GameRepository#update},
+     *    so the {@link GameDto} is not built while a guess changes the game.
      * 2. Returns the game wrapped as a {@link GameDto} if it exists.
      * 3. Returns {@code null} if no game is found for the session.
      *
@@ -204,10 +277,7 @@ public class HangmanGameServiceImpl implements HangmanGameService {
     @Override
     public GameDto getCurrentGame (String sessionId) {
         GameId gameId = new GameId(sessionId);
-        HangmanGame game = gameRepository.findById(gameId)
-                .orElse(null);
-
-        return game != null ? GameDto.fromDomain(game) : null;
+        return gameRepository.update(gameId, GameDto::fromDomain).orElse(null);
     }
 
     /**
@@ -228,9 +298,8 @@ public class HangmanGameServiceImpl implements HangmanGameService {
      * Gets detailed inf. about a single lang.
      * This method the following:
      * - Creates a {@link Language} objet from the given language code
-     * - Retrieves the number of categories available for this language form the
-     * repository
-     * - Retrieves the total number of words available for this language.
+     * - Reads the number of categories and words available for this language
+     * from the cached {@link WordCounts}, without a database query
      * - Builds and returns a {@link LanguageInfoDto} containing the lang code,
      * display name, category count, word count, and whether the language is
      * supported
@@ -242,17 +311,17 @@ public class HangmanGameServiceImpl implements HangmanGameService {
      *                                      supported
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LanguageInfoDto getLanguageInfo (String languageCode) {
         try {
             Language language = new Language(languageCode);
-            long categories = wordRepository.getCategoriesByLanguage(language);
-            long wordCount = wordRepository.getWordCountByLanguage(language);
+            WordCountSnapshot counts = wordCounts.current();
 
             return new LanguageInfoDto(
                     language.getCode(),
                     language.getDisplayName(),
-                    categories,
-                    wordCount,
+                    counts.getCategories(language.getCode()).size(),
+                    counts.getWordCount(language.getCode()),
                     language.isSupported()
             );
 
@@ -264,29 +333,39 @@ public class HangmanGameServiceImpl implements HangmanGameService {
     /**
      * Gets information about all supported lang in the game.
      * This method does the following:
-     * Fetches all supported language codes form the repository.
+     * Reads the languages that have active words from the cached {@link WordCounts}.
      * For each lang, builds a data map with:
      * -the display name of the language
      * -the list of available categories for that lang
-     * -a sample word(currently labeled as "wordCound")
+     * -the number of active words
+     * The counts are rebuilt only when the word catalog changes, so this method
+     * does no database work per call and does not open a transaction.
      *
      * @return the data in a {@link LanguageInfoDto} object
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LanguageInfoDto getAllLanguagesInfo () {
-        List<String> supportedLanguages = wordRepository.getSupportedLanguages();
-        Map<String, Object> languagesData = supportedLanguages.stream()
-                .collect(Collectors.toMap(
-                        langCode -> langCode,
-                        langCode -> {
-                            Language lang = new Language(langCode);
-                            return Map.of(
-                                    "displayName", lang.getDisplayName(),
-                                    "categories", wordRepository.getCategoriesByLanguage(lang),
-                                    "wordCound", wordRepository.getRandomWordByLanguage(lang)
-                            );
-                        }
-                ));
+        WordCountSnapshot counts = wordCounts.current();
+        Map<String, Object> languagesData = new LinkedHashMap<>();
+        List<String> supportedLanguages = new ArrayList<>();
+
+        for (String langCode : counts.getLanguages()) {
+            Language lang;
+            try {
+                lang = new Language(langCode);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping words with unsupported language '{}'", langCode);
+                continue;
+            }
+
+            supportedLanguages.add(langCode);
+            languagesData.put(langCode, Map.of(
+                    "displayName", lang.getDisplayName(),
+                    "categories", counts.getCategories(langCode),
+                    "wordCount", counts.getWordCount(langCode)
+            ));
+        }
 
         return new LanguageInfoDto(supportedLanguages, languagesData);
     }
@@ -1,14 +1,22 @@
 package com.join.tab.application.service.impl;
 
 import com.join.tab.application.service.WordManagementService;
+import com.join.tab.domain.valueobject.Alphabet;
 import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.catalog.WordCatalogChangedEvent;
 import com.join.tab.infra.entity.WordEntity;
 import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.infra.service.WordImportJob;
+import com.join.tab.infra.service.WordImportJobService;
 import com.join.tab.infra.service.WordLoaderService;
+import com.join.tab.monitoring.metrics.WordStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
@@ -20,12 +28,21 @@ public class WordManagementServiceImpl implements WordManagementService {
 
     private final WordJpaRepository wordJpaRepository;
     private final WordLoaderService wordLoadersService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WordStatistics wordStatistics;
+    private final WordImportJobService wordImportJobService;
 
     public WordManagementServiceImpl(
             WordJpaRepository wordJpaRepository,
-            WordLoaderService wordLoadService) {
+            WordLoaderService wordLoadService,
+            ApplicationEventPublisher eventPublisher,
+            WordStatistics wordStatistics,
+            WordImportJobService wordImportJobService) {
         this.wordJpaRepository = wordJpaRepository;
         this.wordLoadersService = wordLoadService;
+        this.eventPublisher = eventPublisher;
+        this.wordStatistics = wordStatistics;
+        this.wordImportJobService = wordImportJobService;
     }
 
     @Override
@@ -56,6 +73,33 @@ public class WordManagementServiceImpl implements WordManagementService {
         }
     }
 
+    @Override
+    public WordLoaderService.WordLoadResult streamWordsFromStream(InputStream inputStream, String language, String category) {
+        try {
+            return wordLoadersService.streamWords(inputStream, language, category);
+        } catch (Exception e) {
+            log.error("Failed to stream words for language: {}", language, e);
+            WordLoaderService.WordLoadResult result = new WordLoaderService.WordLoadResult(language, category);
+            result.addError("Failed to stream words: " + e.getMessage());
+            return result;
+        }
+    }
+
+    @Override
+    public WordImportJob submitImportJob(MultipartFile file, String language, String category) throws IOException {
+        return wordImportJobService.submit(file, language, category);
+    }
+
+    @Override
+    public Optional<WordImportJob> getImportJob(String jobId) {
+        return wordImportJobService.find(jobId);
+    }
+
+    @Override
+    public Optional<WordImportJob> cancelImportJob(String jobId) {
+        return wordImportJobService.cancel(jobId);
+    }
+
     public WordLoaderService.WordLoadResult loadWordsFromContent(String content, String language, String category) {
         try {
             return wordLoadersService.loadWordsForLanguageFromContent(content, language, category);
@@ -81,13 +125,13 @@ public class WordManagementServiceImpl implements WordManagementService {
 
     @Override
     public long getWordCount () {
-        return wordJpaRepository.countByIsActiveTrue();
+        return wordStatistics.getActiveWords();
     }
 
     public long getWordCountByLanguage(String language) {
         try {
             Language lang = new Language(language);
-            return wordJpaRepository.countByLanguageAndIsActiveTrue(language);
+            return wordStatistics.getActiveWords(lang.getCode());
         } catch (IllegalArgumentException e) {
             log.warn("Invalid language code: {}", language);
             return 0;
@@ -106,7 +150,7 @@ public class WordManagementServiceImpl implements WordManagementService {
     public List<String> getAvailableCategoriesForLanguage(String language) {
         try {
             Language lang  = new Language(language);
-            return wordJpaRepository.findCategoriesByLanguage(language);
+            return wordStatistics.getCategories(lang.getCode());
         } catch (IllegalArgumentException e) {
             log.warn("Invalid language code: {}, returning empty categories", language);
             return List.of();
@@ -140,7 +184,9 @@ public class WordManagementServiceImpl implements WordManagementService {
             entity.setCategory(category);
             entity.setIsActive(true);
 
-            wordJpaRepository.save(entity);
+            WordEntity saved = wordJpaRepository.save(entity);
+            wordStatistics.recordWordAdded(saved);
+            eventPublisher.publishEvent(WordCatalogChangedEvent.wordAdded(saved));
             log.info("Successfully added word: {} in language: {} and category: {}", cleanWord, language, category);
             return true;
 
@@ -163,8 +209,13 @@ public class WordManagementServiceImpl implements WordManagementService {
             Optional<WordEntity> entity = wordJpaRepository.findByContentIgnoreCaseAndLanguage(word.trim(), language);
 
             if (entity.isPresent()) {
+                boolean wasActive = Boolean.TRUE.equals(entity.get().getActive());
                 entity.get().setIsActive(false);
                 wordJpaRepository.save(entity.get());
+                if (wasActive) {
+                    wordStatistics.recordWordDeactivated(entity.get());
+                }
+                eventPublisher.publishEvent(WordCatalogChangedEvent.wordRemoved(entity.get()));
                 log.info("Successfully deactivated word: {} for language: {}", word, language);
                 return true;
             }
@@ -188,16 +239,8 @@ public class WordManagementServiceImpl implements WordManagementService {
     }
 
     private boolean isValidWordForLanguage(String word, String language) {
-        if (word == null || word.trim().isEmpty()) return false;
-
-        String cleanWord = word.trim();
-        return switch (language) {
-            case "ua" -> cleanWord.matches("^[А-ЯІЇЄҐа-яіїєґ]{3,50}$");
-            case "de" -> cleanWord.matches("^[a-zA-ZäöüÄÖÜß]{3,50}$");
-            case "fr" -> cleanWord.matches("^[a-zA-ZàâäéèêëïîôöùûüÿçÀÂÄÉÈÊËÏÎÔÖÙÛÜŸÇ]{3,50}$");
-            case "es" -> cleanWord.matches("^[a-zA-ZáéíóúüñÁÉÍÓÚÜÑ]{3,50}$");
-            case "en" -> cleanWord.matches("^[a-zA-Z]{3,50}$");
-            default -> cleanWord.matches("^[\\p{L}]{3,50}$"); // Unicode letters
-        };
+        if (word == null) return false;
+
+        return Alphabet.forCode(language).isValidWord(word.trim());
     }
 }
@@ -1,15 +1,120 @@
 package com.join.tab.configuration;
 
+import com.join.tab.domain.event.GameEventSubscriber;
+import com.join.tab.domain.repository.GameRepository;
 import com.join.tab.domain.repository.WordRepository;
 import com.join.tab.domain.service.GameFactory;
+import com.join.tab.infra.event.RingBufferGameEventBus;
+import com.join.tab.infra.repository.jpa.impl.JpaWordRepository;
+import com.join.tab.infra.repository.file.EventSourcedGameRepository;
+import com.join.tab.infra.repository.file.SpillingGameRepository;
+import com.join.tab.infra.repository.memory.CatalogWordRepository;
+import com.join.tab.infra.repository.memory.ExpiringGameRepository;
+import com.join.tab.infra.repository.memory.InMemoryGameRepository;
+import com.join.tab.infra.repository.memory.LiveGameRepository;
+import com.join.tab.infra.repository.memory.PrefetchingWordRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class DomainConfiguration {
 
+    /**
+     * Creates the word source used to start new games.
+     * {@code hangman.words.selection=catalog} (default) picks words from the
+     * in-memory catalog, {@code database} queries the words table on every game start.
+     * With {@code hangman.words.prefetch.enabled=true} the source is wrapped in a
+     * {@link PrefetchingWordRepository}, so game start only dequeues a ready word.
+     * Prefetch defaults to on for the database source only; the catalog lookup is
+     * already an in-memory read.
+     */
+    @Bean
+    public WordRepository gameWordRepository(
+            @Value("${hangman.words.selection:catalog}") String selection,
+            @Value("${hangman.words.prefetch.enabled:#{null}}") Boolean prefetchEnabled,
+            @Value("${hangman.words.prefetch.buffer-size:32}") int bufferSize,
+            @Value("${hangman.words.prefetch.batch-size:16}") int batchSize,
+            @Value("${hangman.words.prefetch.max-buffers:256}") int maxBuffers,
+            CatalogWordRepository catalogWordRepository,
+            JpaWordRepository jpaWordRepository,
+            GameMetrics gameMetrics) {
+        String source = selection.toLowerCase().trim();
+        WordRepository wordRepository = switch (source) {
+            case "catalog" -> catalogWordRepository;
+            case "database" -> jpaWordRepository;
+            default -> throw new IllegalArgumentException("Unsupported hangman.words.selection: " + selection);
+        };
+
+        boolean prefetch = prefetchEnabled != null ? prefetchEnabled : source.equals("database");
+        if (!prefetch) {
+            return wordRepository;
+        }
+        return new PrefetchingWordRepository(wordRepository, gameMetrics, bufferSize, batchSize, maxBuffers);
+    }
+
+    /**
+     * Creates the store of running games.
+     * {@code hangman.games.storage=live} (default) keeps the game aggregates themselves,
+     * {@code snapshot} stores a copy of the game state on every save and rebuilds
+     * the aggregate on every load, {@code spill} keeps up to
+     * {@code hangman.games.spill.capacity} games in memory and spills the least
+     * recently used ones to {@code hangman.games.spill.file}, {@code events} keeps the
+     * aggregates and writes their events to a log in {@code hangman.games.events.dir},
+     * replayed on startup.
+     * The store is wrapped in an {@link ExpiringGameRepository}, which removes games
+     * idle for {@code hangman.game.session-timeout} minutes (0 keeps them).
+     */
+    @Bean
+    public ExpiringGameRepository gameRepository(
+            @Value("${hangman.games.storage:live}") String storage,
+            @Value("${hangman.game.session-timeout:30}") long sessionTimeoutMinutes,
+            @Value("${hangman.games.expiry.tick:PT1S}") Duration expiryTick,
+            @Value("${hangman.games.expiry.wheel-size:512}") int wheelSize,
+            @Value("${hangman.games.spill.capacity:10000}") int spillCapacity,
+            @Value("${hangman.games.spill.file:${java.io.tmpdir}/hangman-games.spill}") Path spillFile,
+            @Value("${hangman.games.events.dir:data/events}") Path eventsDir,
+            @Value("${hangman.games.events.segment-size:64MB}") DataSize eventsSegmentSize,
+            @Value("${hangman.games.events.checkpoint-interval:PT5M}") Duration eventsCheckpointInterval,
+            @Value("${hangman.games.events.wait-for-sync:true}") boolean eventsWaitForSync,
+            GameMetrics gameMetrics) {
+        GameRepository gameRepository = switch (storage.toLowerCase().trim()) {
+            case "live" -> new LiveGameRepository();
+            case "snapshot" -> new InMemoryGameRepository();
+            case "spill" -> new SpillingGameRepository(spillCapacity, spillFile, gameMetrics);
+            case "events" -> new EventSourcedGameRepository(eventsDir, eventsSegmentSize.toBytes(),
+                    eventsCheckpointInterval, eventsWaitForSync, gameMetrics);
+            default -> throw new IllegalArgumentException("Unsupported hangman.games.storage: " + storage);
+        };
+
+        return new ExpiringGameRepository(gameRepository, gameMetrics,
+                Duration.ofMinutes(sessionTimeoutMinutes), expiryTick, wheelSize);
+    }
+
+    /**
+     * Creates the bus that delivers the games' domain events to every
+     * {@link GameEventSubscriber} bean, each on its own thread.
+     * {@code hangman.events.buffer-size} events fit between the publishers and the
+     * slowest subscriber; further events are dropped.
+     */
+    @Bean
+    public RingBufferGameEventBus gameEventPublisher(
+            @Value("${hangman.events.buffer-size:8192}") int bufferSize,
+            @Value("${hangman.events.batch-size:256}") int batchSize,
+            List<GameEventSubscriber> subscribers,
+            GameMetrics gameMetrics) {
+        return new RingBufferGameEventBus(bufferSize, batchSize, subscribers, gameMetrics);
+    }
+
     @Bean
-    public GameFactory gameFactory(WordRepository wordRepository) {
+    public GameFactory gameFactory(@Qualifier("gameWordRepository") WordRepository wordRepository) {
         return new GameFactory(wordRepository);
     }
-}
\ No newline at end of file
+}
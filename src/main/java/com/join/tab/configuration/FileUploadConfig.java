@@ -1,19 +1,30 @@
 package com.join.tab.configuration;
 
 import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.unit.DataSize;
 
+/**
+ * Multipart limits for word uploads.
+ * Parts larger than the file size threshold are written to a temporary file
+ * instead of being kept in memory, so large dictionaries are read from disk
+ * while they are imported.
+ */
 @Configuration
 public class FileUploadConfig {
 
     @Bean
-    public MultipartConfigElement multipartConfigElement() {
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${spring.servlet.multipart.max-file-size:5MB}") DataSize maxFileSize,
+            @Value("${spring.servlet.multipart.max-request-size:5MB}") DataSize maxRequestSize,
+            @Value("${spring.servlet.multipart.file-size-threshold:1MB}") DataSize fileSizeThreshold) {
         MultipartConfigFactory factory = new MultipartConfigFactory();
-        factory.setFileSizeThreshold(DataSize.ofMegabytes(5));
-        factory.setMaxRequestSize(DataSize.ofMegabytes(5));
+        factory.setFileSizeThreshold(fileSizeThreshold);
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(maxRequestSize);
 
         return factory.createMultipartConfig();
     }
@@ -0,0 +1,51 @@
+package com.join.tab.configuration;
+
+import com.join.tab.application.service.HangmanGameService;
+import com.join.tab.controller.socket.GameSocketEndpoint;
+import com.join.tab.controller.socket.GameSocketProtocol;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.server.ServerContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the game WebSocket channel with the servlet container's WebSocket support,
+ * which embedded Tomcat brings along. The endpoint is added once all beans exist and
+ * before the connectors accept handshakes.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GameSocketConfig {
+    private static final Logger log = LoggerFactory.getLogger(GameSocketConfig.class);
+
+    @Bean
+    public GameSocketEndpoint gameSocketEndpoint(HangmanGameService gameService, GameMetrics gameMetrics) {
+        GameSocketEndpoint endpoint = new GameSocketEndpoint(new GameSocketProtocol(gameService));
+        gameMetrics.registerGameChannels(endpoint::getOpenChannels);
+        return endpoint;
+    }
+
+    @Bean
+    public SmartInitializingSingleton gameSocketRegistration(ServletContext servletContext,
+                                                             GameSocketEndpoint endpoint) {
+        return () -> {
+            ServerContainer container = (ServerContainer) servletContext.getAttribute(ServerContainer.class.getName());
+            if (container == null) {
+                log.warn("No WebSocket support in the servlet container, game channel is disabled");
+                return;
+            }
+            try {
+                container.addEndpoint(endpoint.toEndpointConfig());
+                log.info("Game channel listening at {}", GameSocketEndpoint.PATH);
+            } catch (DeploymentException e) {
+                throw new IllegalStateException("Failed to register the game channel", e);
+            }
+        };
+    }
+}
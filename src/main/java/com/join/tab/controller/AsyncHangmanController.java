@@ -0,0 +1,127 @@
+package com.join.tab.controller;
+
+import com.join.tab.application.service.HangmanGameService;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variant of the game API, enabled with {@code hangman.api.mode=async}.
+ * It serves the same {@code /api/hangman} contract as {@link HangmanController}, whose
+ * handlers it reuses, but a game start no longer holds a servlet worker thread:
+ * starting a game picks a word, which can be a slow random word query, so the start
+ * runs on a small pool of {@code hangman.api.start.threads} threads and the worker
+ * returns to the container until the response is ready.
+ * Features:
+ * - Guesses, status, end and language queries only touch in-memory state and run
+ *   directly on the worker, without the cost of an async dispatch.
+ * - At most {@code hangman.api.start.queue-capacity} starts wait for a thread; further
+ *   starts are answered with HTTP 503 right away instead of piling up.
+ */
+@RestController
+@RequestMapping("/api/hangman")
+@ConditionalOnProperty(name = "hangman.api.mode", havingValue = "async")
+public class AsyncHangmanController {
+    private static final Logger log = LoggerFactory.getLogger(AsyncHangmanController.class);
+
+    private final HangmanController contract;
+    private final ThreadPoolExecutor startExecutor;
+
+    public AsyncHangmanController(
+            HangmanGameService gameService, GameMetrics gameMetrics,
+            @Value("${hangman.api.start.threads:4}") int threads,
+            @Value("${hangman.api.start.queue-capacity:256}") int queueCapacity) {
+        this.contract = new HangmanController(gameService);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.startExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "game-start-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        gameMetrics.registerGameStartQueue(() -> startExecutor.getQueue().size());
+        log.info("Async game API started with {} start threads", threads);
+    }
+
+    @PostMapping("/start")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> startGame(
+            @RequestParam(value = "lang", defaultValue = "en") String language,
+            HttpSession session) {
+        return offload(() -> contract.startGame(language, session));
+    }
+
+    @PostMapping("/start-with-preferences")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> startGameWithPreferences(
+            @RequestParam(value = "language", defaultValue = "en") String language,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "difficult", required = false) String difficult,
+            HttpSession session) {
+        return offload(() -> contract.startGameWithPreferences(language, category, difficult, session));
+    }
+
+    @PostMapping("/guess")
+    public ResponseEntity<Map<String, Object>> guessLetter(@RequestParam char letter, HttpSession session) {
+        return contract.guessLetter(letter, session);
+    }
+
+    @PostMapping("/guess/batch")
+    public ResponseEntity<Map<String, Object>> guessLetters(@RequestParam String letters, HttpSession session) {
+        return contract.guessLetters(letters, session);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getGameStatus(HttpSession session) {
+        return contract.getGameStatus(session);
+    }
+
+    @DeleteMapping("/end")
+    public ResponseEntity<Map<String, Object>> endGame(HttpSession session) {
+        return contract.endGame(session);
+    }
+
+    @GetMapping("/languages")
+    public ResponseEntity<Map<String, Object>> getSupportedLanguages() {
+        return contract.getSupportedLanguages();
+    }
+
+    @GetMapping("/languages/{languageCode}")
+    public ResponseEntity<Map<String, Object>> getLanguageInfo(@PathVariable String languageCode) {
+        return contract.getLanguageInfo(languageCode);
+    }
+
+    /** Stops the start threads on shutdown; queued starts are still answered */
+    @PreDestroy
+    public void shutdown() {
+        startExecutor.shutdown();
+    }
+
+    private CompletableFuture<ResponseEntity<Map<String, Object>>> offload(
+            Supplier<ResponseEntity<Map<String, Object>>> handler) {
+        try {
+            return CompletableFuture.supplyAsync(handler, startExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Game start rejected, {} starts already queued", startExecutor.getQueue().size());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Too many games starting, try again later")));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.join.tab.controller;
 
+import com.join.tab.application.dto.BatchGuessDto;
 import com.join.tab.application.dto.LanguageInfoDto;
 import com.join.tab.domain.exception.GameNotFoundException;
 import com.join.tab.domain.exception.LetterAlreadyGuessedException;
@@ -10,6 +11,7 @@ import com.join.tab.domain.exception.UnsupportedLanguageException;
 import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +21,7 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/hangman")
+@ConditionalOnProperty(name = "hangman.api.mode", havingValue = "blocking", matchIfMissing = true)
 public class HangmanController {
     private final static Logger log = LoggerFactory.getLogger(HangmanController.class);
     private final HangmanGameService gameService;
@@ -195,6 +198,62 @@ public class HangmanController {
         }
     }
 
+    /**
+     * Processes several letter guesses for the current Hangman game in one request.
+     * Steps performed:
+     * 1. Calls {@link HangmanGameService#guessLetters(String, String)} with the letters in order;
+     *    each character is one guess.
+     * 2. Prepares a response containing:
+     *  - "results": the outcome of every letter (CORRECT, INCORRECT, ALREADY_GUESSED,
+     *    INVALID or SKIPPED once the game has ended)
+     *  - "currentState", "remainingTries", "status" and "language" after the last guess
+     *  - "word" the complete word if the game is finished
+     * 3. Returns HTTP 200 OK with the results, also when some letters were invalid or repeated.
+     * 4. Returns HTTP 404 Not Found if no game exists for the session.
+     * 5. Returns HTTP 400 Bad Request if the batch is empty or too long.
+     * 6. Returns HTTP 500 Internal Server Error if an unexpected error occurs.
+     *
+     * @param letters the letters being guessed, in order.
+     * @param session the current HTTP session.
+     * @return a {@link ResponseEntity} containing the batch result or an error message.
+     */
+    @PostMapping("/guess/batch")
+    public ResponseEntity<Map<String, Object>> guessLetters(
+            @RequestParam String letters,
+            HttpSession session) {
+
+        try {
+            BatchGuessDto result = gameService.guessLetters(session.getId(), letters);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("results", result.getResults());
+            response.put("currentState", result.getCurrentState());
+            response.put("remainingTries", result.getRemainingTries());
+            response.put("status", result.getStatus());
+            response.put("language", result.getLanguage());
+
+            if (result.getWord() != null) {
+                response.put("word", result.getWord());
+            }
+
+            return ResponseEntity.ok(response);
+
+        } catch (GameNotFoundException e) {
+            log.warn("Batch guess attempted for non-existent game, session: {}", session.getId());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Game not found. Please start a new game."));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("Failed to process batch guess for session {}", session.getId(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to process guesses"));
+        }
+    }
+
     /**
      * Retrieves the current status of the Hangman game for the HTTP session.
      * Steps performed:
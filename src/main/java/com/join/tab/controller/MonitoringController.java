@@ -1,7 +1,7 @@
 package com.join.tab.controller;
 
-import com.join.tab.infra.repository.jpa.WordJpaRepository;
 import com.join.tab.monitoring.metrics.GameMetrics;
+import com.join.tab.monitoring.metrics.WordStatistics;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,11 +22,11 @@ import java.util.Map;
 public class MonitoringController {
 
     private final GameMetrics gameMetrics;
-    private final WordJpaRepository wordJpaRepository;
+    private final WordStatistics wordStatistics;
 
-    public MonitoringController (GameMetrics gameMetrics, WordJpaRepository wordJpaRepository) {
+    public MonitoringController (GameMetrics gameMetrics, WordStatistics wordStatistics) {
         this.gameMetrics = gameMetrics;
-        this.wordJpaRepository = wordJpaRepository;
+        this.wordStatistics = wordStatistics;
     }
 
     @GetMapping("/stats")
@@ -42,9 +42,10 @@ public class MonitoringController {
 
         // Word metrics
         Map<String, Object> wordStats = new HashMap<>();
-        wordStats.put("totalWords", wordJpaRepository.count());
-        wordStats.put("activeWords", wordJpaRepository.countByIsActiveTrue());
-        wordStats.put("languageDistribution", getLanguageDistribution());
+        wordStats.put("totalWords", wordStatistics.getTotalWords());
+        wordStats.put("activeWords", wordStatistics.getActiveWords());
+        wordStats.put("languageDistribution", wordStatistics.getActiveWordsByLanguage());
+        wordStats.put("difficultyDistribution", wordStatistics.getActiveWordsByDifficulty());
 
         stats.put("games", gameStats);
         stats.put("words", wordStats);
@@ -52,11 +53,4 @@ public class MonitoringController {
 
         return stats;
     }
-
-    private Map<String, Long> getLanguageDistribution() {
-        Map<String, Long> distribution = new HashMap<>();
-        wordJpaRepository.findSupportedLanguages().forEach(lang ->
-                distribution.put(lang, wordJpaRepository.countByLanguageAndIsActiveTrue(lang)));
-        return distribution;
-    }
 }
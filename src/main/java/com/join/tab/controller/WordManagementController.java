@@ -1,25 +1,41 @@
 package com.join.tab.controller;
 
 import com.join.tab.application.service.WordManagementService;
+import com.join.tab.infra.service.WordImportJob;
 import com.join.tab.infra.service.WordLoaderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/admin/words")
 public class WordManagementController {
     private static final Logger log = LoggerFactory.getLogger(WordManagementController.class);
     private final WordManagementService wordManagementService;
+    private final DataSize maxUploadSize;
 
-    public WordManagementController (WordManagementService wordManagementService) {
+    /**
+     * Creates the controller.
+     *
+     * @param wordManagementService the word management service
+     * @param maxUploadSize the largest file accepted by the regular upload, which reads
+     *                      the whole file in one transaction; larger files go to the
+     *                      streaming or job upload
+     */
+    public WordManagementController (
+            WordManagementService wordManagementService,
+            @Value("${hangman.words.upload.max-file-size:5MB}") DataSize maxUploadSize) {
         this.wordManagementService = wordManagementService;
+        this.maxUploadSize = maxUploadSize;
     }
 
     /**
@@ -59,11 +75,15 @@ public class WordManagementController {
     *         <li><b>language</b> – target language code</li>
     *         <li><b>loaded</b> – number of words successfully loaded</li>
     *         <li><b>skipped</b> – number of words skipped (duplicates, invalid, or already existing)</li>
-    *         <li><b>errors</b> – list of errors encountered during processing</li>
+    *         <li><b>durationMs</b> / <b>wordsPerSecond</b> – load time and throughput</li>
+    *         <li><b>errors</b> – the first errors encountered during processing</li>
+    *         <li><b>errorCount</b> – number of errors encountered during processing</li>
     *         <li><b>success</b> – {@code true} if no errors occurred, otherwise {@code false}</li>
     *       </ul>
     *   </li>
     *   <li>Return HTTP 200 OK if processing succeeds.</li>
+    *   <li>Return HTTP 413 Payload Too Large if the file exceeds {@code hangman.words.upload.max-file-size};
+    *       such files are imported with the streaming or job upload.</li>
     *   <li>Return HTTP 500 Internal Server Error with an error message if an unexpected error occurs.</li>
     * </ol>
     *
@@ -78,27 +98,172 @@ public class WordManagementController {
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "category", defaultValue = "general") String category) {
 
+        if (file.getSize() > maxUploadSize.toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of(
+                    "error", "File exceeds " + maxUploadSize + ", use /api/admin/words/" + language
+                            + "/upload/stream or /api/admin/words/" + language + "/upload/jobs"));
+        }
+
         try {
             // This would require extending WordManagementService to handle language-specific uploads
             WordLoaderService.WordLoadResult result = wordManagementService.loadWordsFromStream(
                     file.getInputStream(), language, category);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("language", language);
-            response.put("loaded", result.getLoadedCount());
-            response.put("skipped", result.getSkippedCount());
-            response.put("errors", result.getErrors());
-            response.put("success", !result.hasErrors());
+            return ResponseEntity.ok(uploadResponse(language, result));
 
+        } catch (Exception e) {
+            log.error("Failed to upload words for language: {}", language, e);
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "Failed to upload words for " + language));
+        }
+    }
+
+    /**
+     * Uploads a large word file for a specific language in streaming mode.
+     * Steps performed:
+     * 1. Reads the uploaded file line by line, large files are buffered on disk by the container.
+     * 2. Commits the accepted words in chunks of {@code hangman.words.import.chunk-size} words,
+     *    so memory use does not depend on the file size. Chunks committed before a failure are kept.
+     * 3. Returns HTTP 200 OK with the same summary as the regular upload, plus the number of <b>chunks</b>.
+     * 4. Returns HTTP 500 Internal Server Error with an error message if an unexpected error occurs.
+     *
+     * @param language the ISO code of the language for which words are uploaded
+     * @param file the uploaded file containing words (one per line, UTF-8 encoded)
+     * @param category the category to assign the uploaded words (default is {@code "general"})
+     * @return a {@link ResponseEntity} with the upload summary or an error response
+     */
+    @PostMapping("/{language}/upload/stream")
+    public ResponseEntity<Map<String, Object>> streamWordsForLanguage(
+            @PathVariable String language,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "category", defaultValue = "general") String category) {
+
+        try {
+            WordLoaderService.WordLoadResult result = wordManagementService.streamWordsFromStream(
+                    file.getInputStream(), language, category);
+
+            Map<String, Object> response = uploadResponse(language, result);
+            response.put("chunks", result.getChunkCount());
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
-            log.error("Failed to upload words for language: {}", language, e);
+            log.error("Failed to stream words for language: {}", language, e);
             return ResponseEntity.status(500)
                     .body(Map.of("error", "Failed to upload words for " + language));
         }
     }
 
+    /**
+     * Submits a word upload as a background import job.
+     * Steps performed:
+     * 1. Takes over the uploaded file and queues its import, see {@link WordManagementService#submitImportJob}.
+     *    The import runs like the streaming upload, on a dedicated thread pool.
+     * 2. Returns HTTP 202 Accepted with the <b>jobId</b> and the <b>statusUrl</b> to poll.
+     * 3. Returns HTTP 400 Bad Request if the language is not supported.
+     * 4. Returns HTTP 503 Service Unavailable if too many imports are queued.
+     * 5. Returns HTTP 500 Internal Server Error with an error message if an unexpected error occurs.
+     *
+     * @param language the ISO code of the language for which words are uploaded
+     * @param file the uploaded file containing words (one per line, UTF-8 encoded)
+     * @param category the category to assign the uploaded words (default is {@code "general"})
+     * @return a {@link ResponseEntity} with the job id or an error response
+     */
+    @PostMapping("/{language}/upload/jobs")
+    public ResponseEntity<Map<String, Object>> submitUploadJob(
+            @PathVariable String language,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "category", defaultValue = "general") String category) {
+
+        try {
+            WordImportJob job = wordManagementService.submitImportJob(file, language, category);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "jobId", job.getId(),
+                    "status", job.getStatus(),
+                    "statusUrl", "/api/admin/words/upload/jobs/" + job.getId()
+            ));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Unsupported language: " + language));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Too many word imports queued, try again later"));
+        } catch (Exception e) {
+            log.error("Failed to submit word import for language: {}", language, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to upload words for " + language));
+        }
+    }
+
+    /**
+     * Returns the progress of a word import job: lines processed, loaded, skipped,
+     * errors so far and throughput.
+     * Returns HTTP 404 Not Found if the job is unknown.
+     *
+     * @param jobId the job id returned on submission
+     * @return a {@link ResponseEntity} with the job status
+     */
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getUploadJob(@PathVariable String jobId) {
+        return wordManagementService.getImportJob(jobId)
+                .map(job -> ResponseEntity.ok(jobResponse(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Import job not found: " + jobId)));
+    }
+
+    /**
+     * Cancels a word import job. Words committed before the job stops are kept.
+     * Returns HTTP 200 OK with the job status, or HTTP 404 Not Found if the job is unknown.
+     *
+     * @param jobId the job id returned on submission
+     * @return a {@link ResponseEntity} with the job status
+     */
+    @DeleteMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelUploadJob(@PathVariable String jobId) {
+        return wordManagementService.cancelImportJob(jobId)
+                .map(job -> ResponseEntity.ok(jobResponse(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Import job not found: " + jobId)));
+    }
+
+    private Map<String, Object> jobResponse(WordImportJob job) {
+        WordLoaderService.WordLoadResult result = job.getResult();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", job.getId());
+        response.put("language", job.getLanguage());
+        response.put("category", job.getCategory());
+        response.put("status", job.getStatus());
+        response.put("cancelRequested", job.isCancelRequested());
+        response.put("linesProcessed", result.getLinesProcessed());
+        response.put("loaded", result.getLoadedCount());
+        response.put("skipped", result.getSkippedCount());
+        response.put("chunks", result.getChunkCount());
+        response.put("errors", result.getErrors());
+        response.put("errorCount", result.getErrorCount());
+        response.put("elapsedMs", job.getElapsedMillis());
+        response.put("wordsPerSecond", Math.round(job.getWordsPerSecond()));
+        response.put("submittedAt", job.getSubmittedAt().toString());
+        if (job.getFailure() != null) {
+            response.put("failure", job.getFailure());
+        }
+        return response;
+    }
+
+    private Map<String, Object> uploadResponse(String language, WordLoaderService.WordLoadResult result) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("language", language);
+        response.put("loaded", result.getLoadedCount());
+        response.put("skipped", result.getSkippedCount());
+        response.put("durationMs", result.getDurationMillis());
+        response.put("wordsPerSecond", Math.round(result.getWordsPerSecond()));
+        response.put("errors", result.getErrors());
+        response.put("errorCount", result.getErrorCount());
+        response.put("success", !result.hasErrors());
+        return response;
+    }
+
     /**
      * Add a single word to the Hangman game repository.
      * Steps performed:
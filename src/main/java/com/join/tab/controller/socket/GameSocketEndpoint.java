@@ -0,0 +1,146 @@
+package com.join.tab.controller.socket;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerEndpointConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket endpoint of the game channel, at {@value #PATH}.
+ * A channel plays the game of the HTTP session it was opened in, so the page starts
+ * a game over REST (which creates the session cookie) and then sends its guesses over
+ * one persistent connection instead of one POST per letter. The requests and replies
+ * are described in {@link GameSocketProtocol}; the REST API keeps working next to it.
+ * Features:
+ * - A handshake without an HTTP session, or from a page of another origin, is accepted
+ *   and closed right away with a policy violation.
+ * - The container delivers the frames of a connection one after another, so the
+ *   replies of a channel come back in request order.
+ */
+public class GameSocketEndpoint extends Endpoint {
+    private static final Logger log = LoggerFactory.getLogger(GameSocketEndpoint.class);
+
+    public static final String PATH = "/ws/hangman";
+
+    private static final String SESSION_ID = "hangman.sessionId";
+
+    private final GameSocketProtocol protocol;
+    private final AtomicInteger openChannels = new AtomicInteger();
+
+    public GameSocketEndpoint(GameSocketProtocol protocol) {
+        this.protocol = protocol;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        String sessionId = (String) config.getUserProperties().get(SESSION_ID);
+        if (sessionId == null) {
+            close(session, new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "No game session"));
+            return;
+        }
+        session.getUserProperties().put(SESSION_ID, sessionId);
+        openChannels.incrementAndGet();
+        session.addMessageHandler(String.class, request -> reply(session, protocol.handle(sessionId, request)));
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        if (session.getUserProperties().remove(SESSION_ID) != null) {
+            openChannels.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onError(Session session, Throwable error) {
+        log.debug("Game channel {} failed", session.getId(), error);
+    }
+
+    /** Returns the number of open game channels */
+    public int getOpenChannels() {
+        return openChannels.get();
+    }
+
+    /**
+     * Builds the endpoint's configuration, which hands this instance to the container
+     * and attaches the HTTP session of the handshake to the connection.
+     */
+    public ServerEndpointConfig toEndpointConfig() {
+        return ServerEndpointConfig.Builder.create(GameSocketEndpoint.class, PATH)
+                .configurator(new Configurator(this))
+                .build();
+    }
+
+    private void reply(Session session, String reply) {
+        try {
+            session.getBasicRemote().sendText(reply);
+        } catch (IOException e) {
+            log.debug("Failed to reply on game channel {}", session.getId(), e);
+            close(session, new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "Reply failed"));
+        }
+    }
+
+    private void close(Session session, CloseReason reason) {
+        try {
+            session.close(reason);
+        } catch (IOException e) {
+            log.debug("Failed to close game channel {}", session.getId(), e);
+        }
+    }
+
+    private static final class Configurator extends ServerEndpointConfig.Configurator {
+        private final GameSocketEndpoint endpoint;
+
+        Configurator(GameSocketEndpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void modifyHandshake(ServerEndpointConfig config, HandshakeRequest request, HandshakeResponse response) {
+            // the container hands a per-connection copy of the configuration to the handshake
+            if (request.getHttpSession() instanceof HttpSession httpSession && isSameOrigin(request)) {
+                config.getUserProperties().put(SESSION_ID, httpSession.getId());
+            }
+        }
+
+        @Override
+        public <T> T getEndpointInstance(Class<T> endpointClass) {
+            return endpointClass.cast(endpoint);
+        }
+
+        /** Browsers send an origin; other clients may leave it out */
+        private static boolean isSameOrigin(HandshakeRequest request) {
+            String origin = first(request, "Origin");
+            if (origin == null) {
+                return true;
+            }
+            String host = first(request, "Host");
+            try {
+                return host != null && host.equalsIgnoreCase(URI.create(origin).getAuthority());
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private static String first(HandshakeRequest request, String header) {
+            for (Map.Entry<String, List<String>> entry : request.getHeaders().entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(header)) {
+                    List<String> values = entry.getValue();
+                    return values == null || values.isEmpty() ? null : values.get(0);
+                }
+            }
+            return null;
+        }
+    }
+}
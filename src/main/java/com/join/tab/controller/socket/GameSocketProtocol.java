@@ -0,0 +1,115 @@
+package com.join.tab.controller.socket;
+
+import com.join.tab.application.dto.GameDto;
+import com.join.tab.application.dto.GuessDto;
+import com.join.tab.application.service.HangmanGameService;
+import com.join.tab.domain.exception.GameNotFoundException;
+import com.join.tab.domain.exception.InvalidGameStatusException;
+import com.join.tab.domain.exception.LetterAlreadyGuessedException;
+import com.join.tab.domain.exception.UnsupportedLanguageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact text protocol of the game WebSocket channel.
+ * A request is one frame: the first character is the command, the rest its argument.
+ * Requests:
+ * - {@code g<letter>} guesses a letter, e.g. {@code ga}
+ * - {@code s} reads the current game
+ * - {@code n<language>} starts a new game, e.g. {@code nen}; the language defaults to {@code en}
+ * Every request gets exactly one reply frame, in request order, with fields separated by {@code :}
+ * - {@code g:<1|0>:<remainingTries>:<status>:<currentState>[:<word>]} after a guess
+ * - {@code s:<remainingTries>:<status>:<currentState>[:<word>]} for a new or the current game
+ * - {@code e:<reason>} if the request failed; the reasons are {@code no-game}, {@code game-over},
+ *   {@code already-guessed}, {@code invalid-letter}, {@code unsupported-language},
+ *   {@code bad-request} and {@code error}
+ * The word is only sent once the game has ended.
+ */
+public class GameSocketProtocol {
+    private static final Logger log = LoggerFactory.getLogger(GameSocketProtocol.class);
+
+    private static final char GUESS = 'g';
+    private static final char STATUS = 's';
+    private static final char NEW_GAME = 'n';
+    private static final char SEPARATOR = ':';
+
+    private final HangmanGameService gameService;
+
+    public GameSocketProtocol(HangmanGameService gameService) {
+        this.gameService = gameService;
+    }
+
+    /**
+     * Carries out a request for the game of the given session.
+     *
+     * @param sessionId the HTTP session the channel was opened in
+     * @param request the request frame
+     * @return the reply frame
+     */
+    public String handle(String sessionId, String request) {
+        if (request == null || request.isEmpty()) {
+            return error("bad-request");
+        }
+        String argument = request.substring(1);
+        try {
+            switch (request.charAt(0)) {
+                case GUESS:
+                    if (argument.length() != 1) {
+                        return error("bad-request");
+                    }
+                    return guessReply(gameService.guessLetter(sessionId, argument.charAt(0)));
+                case STATUS:
+                    GameDto game = gameService.getCurrentGame(sessionId);
+                    return game != null ? gameReply(game) : error("no-game");
+                case NEW_GAME:
+                    return gameReply(gameService.startNewGameWithLanguage(
+                            sessionId, argument.isEmpty() ? "en" : argument));
+                default:
+                    return error("bad-request");
+            }
+        } catch (GameNotFoundException e) {
+            return error("no-game");
+        } catch (InvalidGameStatusException e) {
+            return error("game-over");
+        } catch (LetterAlreadyGuessedException e) {
+            return error("already-guessed");
+        } catch (UnsupportedLanguageException e) {
+            return error("unsupported-language");
+        } catch (IllegalArgumentException e) {
+            return error("invalid-letter");
+        } catch (RuntimeException e) {
+            log.error("Failed to handle game channel request '{}' for session {}", request, sessionId, e);
+            return error("error");
+        }
+    }
+
+    private String guessReply(GuessDto guess) {
+        StringBuilder reply = new StringBuilder(32)
+                .append(GUESS).append(SEPARATOR)
+                .append(guess.isWasCorrect() ? '1' : '0').append(SEPARATOR)
+                .append(guess.getRemainingTries()).append(SEPARATOR)
+                .append(guess.getStatus()).append(SEPARATOR)
+                .append(guess.getCurrentState());
+        return appendWord(reply, guess.getWord());
+    }
+
+    private String gameReply(GameDto game) {
+        StringBuilder reply = new StringBuilder(32)
+                .append(STATUS).append(SEPARATOR)
+                .append(game.getRemainingTries()).append(SEPARATOR)
+                .append(game.getStatus()).append(SEPARATOR)
+                .append(game.getCurrentState());
+        return appendWord(reply, game.getWord());
+    }
+
+    private String appendWord(StringBuilder reply, String word) {
+        if (word != null) {
+            reply.append(SEPARATOR).append(word);
+        }
+        return reply.toString();
+    }
+
+    private String error(String reason) {
+        return "e" + SEPARATOR + reason;
+    }
+}
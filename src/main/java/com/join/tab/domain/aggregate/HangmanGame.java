@@ -6,16 +6,19 @@ import com.join.tab.domain.event.GameStartedEvent;
 import com.join.tab.domain.event.LetterGuessedEvent;
 import com.join.tab.domain.exception.InvalidGameStatusException;
 import com.join.tab.domain.exception.LetterAlreadyGuessedException;
+import com.join.tab.domain.valueobject.Alphabet;
 import com.join.tab.domain.valueobject.GameId;
 import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.GuessedLetters;
 import com.join.tab.domain.valueobject.Language;
 import com.join.tab.domain.valueobject.Letter;
 import com.join.tab.domain.model.Word;
+import com.join.tab.domain.model.WordIndex;
 import com.join.tab.domain.enums.GameStatus;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -27,6 +30,10 @@ import java.util.Set;
  * - Track the word to guess, guessed letters, mistakes, and game status.
  * - Publishes domain events such as {@link GameStartedEvent}, {@link LetterGuessedEvent}, and {@link GameEndedEvent}.
  * - Supports gameplay operations like guessing letters and retrieving the current word state.
+ * - Keeps the masked word as a {@code char[]} updated from the word's {@link WordIndex} on every
+ *   correct guess, and a count of revealed positions, so a guess never rescans the word.
+ * - Keeps the guessed letters as two {@code long} words indexed by the language's {@link Alphabet},
+ *   see {@link GuessedLetters}.
  * Usage:
  * <pre>
  *     HangmanGame game = new HangmanGame(new GameId("ex123"), new Word("ex"));
@@ -39,8 +46,13 @@ public class HangmanGame {
     private final GameId gameId;
     private final Word word;
     private final GamePreferences preferences;
-    private final Set<Letter> guessedLetters;
+    private final Alphabet alphabet;
     private final List<GameEvent> events;
+    private final WordIndex index;
+    private final char[] maskedWord;
+    private int revealedCount;
+    private long guessedLow;
+    private long guessedHigh;
     private int mistakeCount;
     private GameStatus status;
 
@@ -54,8 +66,10 @@ public class HangmanGame {
         this.gameId = gameId;
         this.word = word;
         this.preferences = gamePreferences;
-        this.guessedLetters = new HashSet<>();
+        this.alphabet = Alphabet.of(word.getLanguage());
         this.events = new ArrayList<>();
+        this.index = word.getIndex();
+        this.maskedWord = newMaskedWord(word);
         this.mistakeCount = 0;
         this.status = GameStatus.IN_PROGRESS;
 
@@ -63,7 +77,8 @@ public class HangmanGame {
                 gameId,
                 word.getContent(),
                 word.getLanguage(),
-                preferences.getCategory()
+                preferences.getCategory(),
+                preferences.getDifficulty()
                 ));
     }
 
@@ -78,13 +93,47 @@ public class HangmanGame {
      */
     public HangmanGame (GameId gameId, Word word, GamePreferences preferences, Set<Letter> guessedLetters,
                         int mistakeCount, GameStatus status) {
+        this(gameId, word, preferences,
+                GuessedLetters.of(Alphabet.of(word.getLanguage()), guessedLetters), mistakeCount, status);
+    }
+
+    /**
+     * Loads an existing Hangman game with its guessed letters as a bitset.
+     *
+     * @param gameId the unique ID of the game
+     * @param word the word to guess
+     * @param guessedLetters the letters already guessed
+     * @param mistakeCount the number of incorrect guessed so far
+     * @param status the current status of game.
+     */
+    public HangmanGame (GameId gameId, Word word, GamePreferences preferences, GuessedLetters guessedLetters,
+                        int mistakeCount, GameStatus status) {
         this.gameId = gameId;
         this.word = word;
         this.preferences = preferences;
-        this.guessedLetters = new HashSet<>(guessedLetters);
+        this.alphabet = Alphabet.of(word.getLanguage());
         this.events = new ArrayList<>();
+        this.index = word.getIndex();
+        this.maskedWord = newMaskedWord(word);
         this.mistakeCount = mistakeCount;
         this.status = status;
+
+        GuessedLetters guessed = guessedLetters.getAlphabet() == alphabet
+                ? guessedLetters
+                : GuessedLetters.of(alphabet, guessedLetters.toLetters());
+        this.guessedLow = guessed.getLow();
+        this.guessedHigh = guessed.getHigh();
+        for (int i = 0; i < alphabet.size(); i++) {
+            if (GuessedLetters.contains(guessedLow, guessedHigh, i)) {
+                reveal(alphabet.letterAt(i));
+            }
+        }
+    }
+
+    private static char[] newMaskedWord(Word word) {
+        char[] masked = new char[word.getLength()];
+        Arrays.fill(masked, '_');
+        return masked;
     }
 
     /**
@@ -103,22 +152,22 @@ public class HangmanGame {
      */
     public GuessResult guessResult(Letter letter) {
         validateGameInProgress();
-        validateLetterForLanguage(letter);
+        int letterIndex = validateLetterForLanguage(letter);
         validateLetterNotGuessed(letter);
 
-        guessedLetters.add(letter);
-        boolean isCorrect = word.contains(letter.getValue());
+        markGuessed(letterIndex);
+        boolean isCorrect = reveal(letter.getValue());
 
         if (!isCorrect) {
             mistakeCount++;
         }
 
         updateGameStatus();
-        addEvent(new LetterGuessedEvent(gameId, letter, isCorrect));
+        addEvent(new LetterGuessedEvent(gameId, letter, isCorrect, word.getLanguage()));
 
         if (status != GameStatus.IN_PROGRESS) {
             addEvent(new GameEndedEvent(
-                    gameId, status == GameStatus.WON, word.getContent())
+                    gameId, status == GameStatus.WON, word.getContent(), word.getLanguage())
             );
         }
 
@@ -147,59 +196,16 @@ public class HangmanGame {
      * Validates that a given letter belongs to the alphabet of the word's language
      * Throws IllegalArgumentException if the letter is not valid for the language.
      * @param letter the {@link Letter} to validate.
+     * @return the index of the letter in the alphabet
      */
-    private void validateLetterForLanguage(Letter letter) {
-        if (!isValidLetterForLanguage(letter.getValue(), word.getLanguage())) {
+    private int validateLetterForLanguage(Letter letter) {
+        int letterIndex = alphabet.indexOf(letter.getValue());
+        if (letterIndex < 0) {
             throw new IllegalArgumentException(
                     String.format("Letter '%c' is not valid for language '%s'",
                             letter.getValue(), word.getLanguage().getCode()));
         }
-    }
-
-    /**
-     * Check if a character is valid for the specified language.
-     *
-     * <p>Rules:</p>
-     * <ul>
-     *     <li>Ukrainian ("ua") -> Cyrillic letters only</li>
-     *     <li>English, German, French, Spanish ("en", "de", "fr", "es") ->
-     *         Latin letters only</li>
-     *     <li>Other languages -> Latin or Cyrillic letters</li>
-     * </ul>
-     *
-     * @param letter the character to check
-     * @param language the {@link Letter} to validate again
-     * @return true if the letter is valid for the language, false otherwise
-     */
-    private boolean isValidLetterForLanguage(char letter, Language language) {
-        return switch (language.getCode()) {
-            case "ua" -> isCyrillicLetter(letter);
-            case "en", "de", "fr", "es" -> isLatinLetter(letter);
-            default  -> isLatinLetter(letter) || isCyrillicLetter(letter);
-        };
-    }
-
-    /**
-     * Check if the given character is a Latin letter(A-Z, a-z).
-     * @param letter the character to check
-     * @return true if the character is a Latin letter, false otherwise.
-     */
-    private boolean isLatinLetter(char letter) {
-        return (letter >= 'a' && letter <= 'z') || (letter >= 'A' && letter <= 'Z');
-    }
-
-    /**
-     * Check if the given character is a Cyrillic letter
-     * @param letter the character to check
-     * @return true if the character belongs to any Cyrillic Unicode block, false
-     * otherwise.
-     */
-    private boolean isCyrillicLetter(char letter) {
-        Character.UnicodeBlock block = Character.UnicodeBlock.of(letter);
-        return block == Character.UnicodeBlock.CYRILLIC
-                || block == Character.UnicodeBlock.CYRILLIC_SUPPLEMENTARY
-                || block == Character.UnicodeBlock.CYRILLIC_EXTENDED_A
-                || block == Character.UnicodeBlock.CYRILLIC_EXTENDED_B;
+        return letterIndex;
     }
 
     /**
@@ -221,7 +227,35 @@ public class HangmanGame {
      * @return {@code ture} if the letter has been guessed, {@code false} otherwise
      */
     public boolean hasGuessedLetter(Letter letter) {
-        return guessedLetters.contains(letter);
+        return GuessedLetters.contains(guessedLow, guessedHigh, alphabet.indexOf(letter.getValue()));
+    }
+
+    private void markGuessed(int letterIndex) {
+        if (letterIndex < Long.SIZE) {
+            guessedLow |= 1L << letterIndex;
+        } else {
+            guessedHigh |= 1L << (letterIndex - Long.SIZE);
+        }
+    }
+
+    /**
+     * Reveals all positions of a letter in the masked word.
+     *
+     * @param letter the guessed letter
+     * @return {@code true} if the word contains the letter
+     */
+    private boolean reveal(char letter) {
+        int slot = index.slotOf(letter);
+        if (slot < 0) {
+            return false;
+        }
+
+        int[] positions = index.positionsOf(slot);
+        for (int position : positions) {
+            maskedWord[position] = word.getCharAt(position);
+        }
+        revealedCount += positions.length;
+        return true;
     }
 
     /**
@@ -244,13 +278,7 @@ public class HangmanGame {
      * @return {@code ture} if every letter in the word has been guessed, {@code false} otherwise
      */
     private boolean isWordCompletelyGuessed() {
-        for (int i = 0; i < word.getLength(); i++) {
-            Letter wordLetter = new Letter(word.getCharAt(i));
-            if (!guessedLetters.contains(wordLetter)) {
-                return false;
-            }
-        }
-        return true;
+        return revealedCount == maskedWord.length;
     }
 
     /**
@@ -261,17 +289,7 @@ public class HangmanGame {
      * @return a string representing the current state of the word
      */
     public String getCurrentState() {
-        StringBuilder state = new StringBuilder();
-        for (int i = 0; i < word.getLength(); i++) {
-            char ch = word.getCharAt(i);
-            Letter letter = new Letter(ch);
-            if (guessedLetters.contains(letter)) {
-                state.append(ch);
-            } else {
-                state.append('_');
-            }
-        }
-        return state.toString();
+        return new String(maskedWord);
     }
 
     /**
@@ -306,8 +324,9 @@ public class HangmanGame {
         return preferences;
     }
 
-    public Set<Letter> getGuessedLetters() {
-        return new HashSet<>(guessedLetters);
+    /** Returns the guessed letters as an immutable bitset */
+    public GuessedLetters getGuessedLetters() {
+        return new GuessedLetters(alphabet, guessedLow, guessedHigh);
     }
 
     public boolean isWon() {
@@ -333,6 +352,22 @@ public class HangmanGame {
         return new ArrayList<>(events);
     }
 
+    /** Returns the number of uncommitted domain events */
+    public int getUncommittedEventCount() {
+        return events.size();
+    }
+
+    /**
+     * Returns the uncommitted domain events recorded after the first {@code from} ones,
+     * e.g. the events of one operation when earlier events were not cleared.
+     *
+     * @param from the number of events to skip
+     * @return a new {@link List} with the later events
+     */
+    public List<GameEvent> getUncommittedEventsSince(int from) {
+        return new ArrayList<>(events.subList(Math.min(from, events.size()), events.size()));
+    }
+
     public void clearEvents() {
         events.clear();
     }
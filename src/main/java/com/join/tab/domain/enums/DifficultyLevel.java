@@ -2,5 +2,17 @@ package com.join.tab.domain.enums;
 
 /** Enum representation word difficulty levels. **/
 public enum DifficultyLevel {
-    EASY, MEDIUM, HARD
+    EASY, MEDIUM, HARD;
+
+    /**
+     * Determines difficulty level based on word length
+     *
+     * @param wordLength the length of the word
+     * @return the corresponding {@link DifficultyLevel}
+     */
+    public static DifficultyLevel fromWordLength(int wordLength) {
+        if (wordLength <= 4) return EASY;
+        if (wordLength <= 7) return MEDIUM;
+        return HARD;
+    }
 }
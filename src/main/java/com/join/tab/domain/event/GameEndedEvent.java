@@ -1,6 +1,7 @@
 package com.join.tab.domain.event;
 
 import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.Language;
 
 /**
  * Domain event that represent the end a Hangman game.
@@ -16,11 +17,17 @@ import com.join.tab.domain.valueobject.GameId;
 public class GameEndedEvent extends  GameEvent{
     private final boolean playerWon;
     private final String word;
+    private final Language language;
 
     public GameEndedEvent (GameId gameId, boolean playerWon, String word) {
+        this(gameId, playerWon, word, null);
+    }
+
+    public GameEndedEvent (GameId gameId, boolean playerWon, String word, Language language) {
         super(gameId);
         this.playerWon = playerWon;
         this.word = word;
+        this.language = language;
     }
 
     public boolean isPlayerWon () {
@@ -30,4 +37,8 @@ public class GameEndedEvent extends  GameEvent{
     public String getWord () {
         return word;
     }
+
+    public Language getLanguage () {
+        return language;
+    }
 }
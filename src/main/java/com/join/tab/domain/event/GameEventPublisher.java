@@ -0,0 +1,24 @@
+package com.join.tab.domain.event;
+
+import java.util.List;
+
+/**
+ * Publishes the domain events of Hangman games to their subscribers.
+ * Implementations deliver asynchronously: {@link #publish(List)} does not wait for
+ * the subscribers, and may drop events when they cannot keep up.
+ * Usage:
+ * <pre>
+ *     List&lt;GameEvent&gt; events = game.getUncommittedEvents();
+ *     gameRepository.save(game);
+ *     publisher.publish(events);
+ * </pre>
+ */
+public interface GameEventPublisher {
+
+    /**
+     * Publishes events, in order.
+     *
+     * @param events the events to publish
+     */
+    void publish(List<GameEvent> events);
+}
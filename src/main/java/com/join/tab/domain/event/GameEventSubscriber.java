@@ -0,0 +1,23 @@
+package com.join.tab.domain.event;
+
+import java.util.List;
+
+/**
+ * Receives the domain events published through a {@link GameEventPublisher}.
+ * Each subscriber is called from one thread of its own, with the events in
+ * publication order, in batches of whatever was published since its last call.
+ */
+public interface GameEventSubscriber {
+
+    /**
+     * Handles a batch of events. The list is reused after the call returns.
+     *
+     * @param events the events, oldest first
+     */
+    void onEvents(List<GameEvent> events);
+
+    /** Returns the name used for the subscriber's thread and metrics */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -1,5 +1,6 @@
 package com.join.tab.domain.event;
 
+import com.join.tab.domain.enums.DifficultyLevel;
 import com.join.tab.domain.valueobject.GameId;
 import com.join.tab.domain.valueobject.Language;
 
@@ -21,6 +22,7 @@ public class GameStartedEvent extends GameEvent{
     private final String word;
     private final Language language;
     private final String category;
+    private final DifficultyLevel difficulty;
 
     /**
      * Creates a new GameStartedEvent
@@ -28,12 +30,24 @@ public class GameStartedEvent extends GameEvent{
      * @param word the word chosen for the game
      */
     public GameStartedEvent(GameId gameId, String word, Language language, String category) {
+        this(gameId, word, language, category, null);
+    }
+
+    /**
+     * Creates a new GameStartedEvent with the requested difficulty,
+     * so the game can be rebuilt from its events alone.
+     * @param gameId the ID of the game that was started
+     * @param word the word chosen for the game
+     * @param difficulty the requested difficulty, may be {@code null}
+     */
+    public GameStartedEvent(GameId gameId, String word, Language language, String category,
+                            DifficultyLevel difficulty) {
         super(gameId);
 
         this.word = word;
         this.language = language;
         this.category = category;
-
+        this.difficulty = difficulty;
     }
 
     /**
@@ -52,4 +66,8 @@ public class GameStartedEvent extends GameEvent{
     public String getCategory() {
         return this.category;
     }
+
+    public DifficultyLevel getDifficulty() {
+        return this.difficulty;
+    }
 }
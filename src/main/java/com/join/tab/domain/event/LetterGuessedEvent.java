@@ -1,6 +1,7 @@
 package com.join.tab.domain.event;
 
 import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.Language;
 import com.join.tab.domain.valueobject.Letter;
 
 /**
@@ -18,6 +19,7 @@ import com.join.tab.domain.valueobject.Letter;
 public class LetterGuessedEvent extends  GameEvent{
     private final Letter letter;
     private final boolean wasCorrect;
+    private final Language language;
 
     /**
      * Created a new LetterGuessedEvent.
@@ -27,9 +29,19 @@ public class LetterGuessedEvent extends  GameEvent{
      * @param wasCorrect {@code true} if the guess was correct, {@code false} otherwise
      */
     public LetterGuessedEvent(GameId gameId, Letter letter, boolean wasCorrect) {
+        this(gameId, letter, wasCorrect, null);
+    }
+
+    /**
+     * Created a new LetterGuessedEvent with the language of the game.
+     *
+     * @param language the language of the game's word, may be {@code null}
+     */
+    public LetterGuessedEvent(GameId gameId, Letter letter, boolean wasCorrect, Language language) {
         super(gameId);
         this.letter = letter;
         this.wasCorrect = wasCorrect;
+        this.language = language;
     }
 
     public Letter getLetter () {
@@ -39,4 +51,8 @@ public class LetterGuessedEvent extends  GameEvent{
     public boolean isWasCorrect () {
         return wasCorrect;
     }
+
+    public Language getLanguage () {
+        return language;
+    }
 }
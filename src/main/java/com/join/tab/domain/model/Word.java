@@ -12,6 +12,7 @@ import java.util.Objects;
  * Features:
  *  - Immutability: The word cannot be changed once created.
  *  - Provides character-level access and length information
+ *  - Caches a {@link WordIndex} of its letters for the games using the word
  *  - Proper {@link #equals(Object)} and {@link #hashCode()} implementations
  *    for use in collection and comparisons.
  * Usage:
@@ -23,6 +24,8 @@ import java.util.Objects;
 public class Word {
     private final String content;
     private final Language language;
+    /** built on first use, racy initialization is fine as the index is immutable */
+    private WordIndex index;
 
     /**
      * Create a new Word.
@@ -70,6 +73,21 @@ public class Word {
         return this.language;
     }
 
+    /**
+     * Returns the letter index of the word, built on first use.
+     *
+     * @return the {@link WordIndex}
+     * @throws IllegalArgumentException if the word has a character outside its language alphabet
+     */
+    public WordIndex getIndex() {
+        WordIndex current = index;
+        if (current == null) {
+            current = WordIndex.of(this);
+            index = current;
+        }
+        return current;
+    }
+
     /**
      * Returns the length of the word.
      *
@@ -0,0 +1,113 @@
+package com.join.tab.domain.model;
+
+import com.join.tab.domain.valueobject.Alphabet;
+
+/**
+ * Precomputed letter index of a {@link Word}: its distinct letters and the
+ * positions of every letter.
+ * Built once per word and shared by all games that use the word, so a guess
+ * finds the positions to reveal with two array reads.
+ * Letters are matched ignoring case through the {@link Alphabet} of the word's language.
+ * Usage:
+ * <pre>
+ *     WordIndex index = word.getIndex();
+ *     int slot = index.slotOf('a');
+ *     int[] positions = slot >= 0 ? index.positionsOf(slot) : new int[0];
+ * </pre>
+ */
+public final class WordIndex {
+
+    private final Alphabet alphabet;
+    /** slot + 1 of every alphabet letter, 0 if the word does not contain it */
+    private final byte[] slotByLetter;
+    private final char[] letters;
+    private final int[][] positions;
+
+    private WordIndex(Alphabet alphabet, byte[] slotByLetter, char[] letters, int[][] positions) {
+        this.alphabet = alphabet;
+        this.slotByLetter = slotByLetter;
+        this.letters = letters;
+        this.positions = positions;
+    }
+
+    /**
+     * Builds the index of a word.
+     *
+     * @param word the word to index
+     * @return the index
+     * @throws IllegalArgumentException if the word has a character outside its language alphabet
+     */
+    static WordIndex of(Word word) {
+        Alphabet alphabet = Alphabet.of(word.getLanguage());
+        String content = word.getContent();
+
+        byte[] slotByLetter = new byte[alphabet.size()];
+        int[] counts = new int[content.length()];
+        char[] letters = new char[content.length()];
+        int slots = 0;
+
+        for (int i = 0; i < content.length(); i++) {
+            int letterIndex = alphabet.indexOf(content.charAt(i));
+            if (letterIndex < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Word '%s' has a letter outside the '%s' alphabet", content, alphabet.getCode()));
+            }
+            if (slotByLetter[letterIndex] == 0) {
+                letters[slots] = alphabet.letterAt(letterIndex);
+                slotByLetter[letterIndex] = (byte) ++slots;
+            }
+            counts[slotByLetter[letterIndex] - 1]++;
+        }
+
+        int[][] positions = new int[slots][];
+        for (int slot = 0; slot < slots; slot++) {
+            positions[slot] = new int[counts[slot]];
+            counts[slot] = 0;
+        }
+        for (int i = 0; i < content.length(); i++) {
+            int slot = slotByLetter[alphabet.indexOf(content.charAt(i))] - 1;
+            positions[slot][counts[slot]++] = i;
+        }
+
+        char[] distinct = new char[slots];
+        System.arraycopy(letters, 0, distinct, 0, slots);
+        return new WordIndex(alphabet, slotByLetter, distinct, positions);
+    }
+
+    /**
+     * Returns the slot of a letter in this word.
+     *
+     * @param letter the letter, in upper or lower case
+     * @return the slot in {@code 0 .. distinctLetters() - 1}, or -1 if the word does not contain the letter
+     */
+    public int slotOf(char letter) {
+        int letterIndex = alphabet.indexOf(letter);
+        return letterIndex < 0 ? -1 : slotByLetter[letterIndex] - 1;
+    }
+
+    /**
+     * Returns the positions of the letter in a slot, in ascending order.
+     * The returned array is shared and must not be modified.
+     *
+     * @param slot the slot, see {@link #slotOf(char)}
+     * @return the positions of the letter in the word
+     */
+    public int[] positionsOf(int slot) {
+        return positions[slot];
+    }
+
+    /**
+     * Returns the lowercase letter of a slot.
+     *
+     * @param slot the slot, see {@link #slotOf(char)}
+     * @return the letter
+     */
+    public char letterAt(int slot) {
+        return letters[slot];
+    }
+
+    /** Returns the number of distinct letters of the word */
+    public int distinctLetters() {
+        return letters.length;
+    }
+}
@@ -4,32 +4,75 @@ import com.join.tab.domain.aggregate.HangmanGame;
 import com.join.tab.domain.valueobject.GameId;
 
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Repository interface for managing {@link HangmanGame} aggregate.
- * Provides basic CRUD operations for storing, retrieving, and deleting games.
+ * Provides basic CRUD operations for storing, retrieving, and deleting games,
+ * and {@link #update(GameId, Function)} to change a stored game atomically.
  */
 public interface GameRepository {
 
     /**
      * Saves or updated the given game.
+     * A stored game with the same ID is replaced, so starting a new game for a
+     * session needs no {@link #delete(GameId)} first.
      *
      * @param game the game to save.
      */
     void save(HangmanGame game);
 
     /**
-     * Finds a game by its ID
+     * Finds a game by its ID.
+     * Implementations may return the stored instance, which other threads can change;
+     * to read a consistent state use {@link #update(GameId, Function)}.
      *
      * @param gameId the ID the game to find
      * @return an {@link Optional} containing the game if found, otherwise empty
      */
     Optional<HangmanGame> findById(GameId gameId);
 
+    /**
+     * Atomically loads a game, applies a change to it and saves it.
+     * Concurrent updates of the same game are serialized, so no update is lost;
+     * updates of different games never wait for each other.
+     * An implementation may apply the change more than once to fresh copies of the
+     * game, so it must not have side effects outside the game and its result.
+     * If the change throws, the game is not saved.
+     *
+     * @param gameId the ID of the game to update
+     * @param change the change, returning a result computed from the updated game
+     * @param <R> the type of the result
+     * @return the result of the change, or empty if the game was not found
+     */
+    <R> Optional<R> update(GameId gameId, Function<HangmanGame, R> change);
+
+    /**
+     * Visits every stored game, e.g. to write a snapshot.
+     * A game is not changed while the action visits it.
+     * Visiting does not count as an access of the game.
+     *
+     * @param action called once per game
+     */
+    void forEach(Consumer<HangmanGame> action);
+
     /**
      * Deletes gameId the ID of the game to delete
      *
      * @param gameId the ID of the game to delete
      */
     void delete(GameId gameId);
+
+    /**
+     * Deletes a game that is no longer needed, e.g. an idle one.
+     * Unlike {@link #delete(GameId)}, an implementation that persists games may return
+     * before the deletion is durable; if it is lost in a crash the game comes back
+     * and is removed again later.
+     *
+     * @param gameId the ID of the game to remove
+     */
+    default void evict(GameId gameId) {
+        delete(gameId);
+    }
 }
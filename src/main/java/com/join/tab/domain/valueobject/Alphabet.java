@@ -0,0 +1,176 @@
+package com.join.tab.domain.valueobject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The letters allowed in words of a {@link Language}.
+ * Built once per language as a lookup table over the character range of the
+ * alphabet, so checking a letter or a whole word is a few array reads with no
+ * regular expression and no allocation.
+ * Features:
+ *  - {@link #contains(char)} accepts upper and lower case letters.
+ *  - {@link #indexOf(char)} maps a letter to a dense index {@code 0 .. size() - 1},
+ *    upper and lower case share the index.
+ *  - At most {@link #MAX_SIZE} letters, so guessed letters fit a two word bitset.
+ *  - {@link #isValidWord(CharSequence)} checks the length (3 - 50) and every letter of a word.
+ *  - Unknown language codes get an alphabet with the letters of all supported languages.
+ * Usage:
+ * <pre>
+ *     Alphabet alphabet = Alphabet.of(new Language("ua"));
+ *     alphabet.isValidWord("кіт"); // true
+ *     alphabet.contains('q');      // false
+ * </pre>
+ */
+public final class Alphabet {
+
+    public static final int MIN_WORD_LENGTH = 3;
+    public static final int MAX_WORD_LENGTH = 50;
+    /** Upper bound of {@link #size()}, so an index fits the two words of {@link GuessedLetters} */
+    public static final int MAX_SIZE = 2 * Long.SIZE;
+
+    private static final Alphabet ENGLISH = new Alphabet("en", "abcdefghijklmnopqrstuvwxyz");
+    private static final Alphabet UKRAINIAN = new Alphabet("ua", "абвгґдеєжзиіїйклмнопрстуфхцчшщьюя");
+    private static final Alphabet GERMAN = new Alphabet("de", ENGLISH.letters + "äöüß");
+    private static final Alphabet FRENCH = new Alphabet("fr", ENGLISH.letters + "àâäéèêëïîôöùûüÿç");
+    private static final Alphabet SPANISH = new Alphabet("es", ENGLISH.letters + "áéíóúüñ");
+    private static final Alphabet ANY = new Alphabet("*",
+            GERMAN.letters + FRENCH.letters + SPANISH.letters + UKRAINIAN.letters);
+
+    private static final Map<String, Alphabet> BY_LANGUAGE = Map.of(
+            "en", ENGLISH,
+            "ua", UKRAINIAN,
+            "de", GERMAN,
+            "fr", FRENCH,
+            "es", SPANISH
+    );
+
+    private final String code;
+    private final String letters;
+    /** index + 1 of every letter, 0 for characters outside the alphabet */
+    private final short[] indexes;
+    private final int size;
+
+    private Alphabet(String code, String lowercaseLetters) {
+        this.code = code;
+
+        Map<Character, Integer> indexByLetter = new HashMap<>();
+        StringBuilder distinct = new StringBuilder();
+        char max = 0;
+        for (char letter : lowercaseLetters.toCharArray()) {
+            if (!indexByLetter.containsKey(letter)) {
+                indexByLetter.put(letter, indexByLetter.size());
+                distinct.append(letter);
+                max = (char) Math.max(max, Math.max(letter, Character.toUpperCase(letter)));
+            }
+        }
+
+        short[] table = new short[max + 1];
+        indexByLetter.forEach((letter, index) -> {
+            table[letter] = (short) (index + 1);
+            // ß has no single char upper case and maps to itself
+            table[Character.toUpperCase(letter)] = (short) (index + 1);
+        });
+
+        if (indexByLetter.size() > MAX_SIZE) {
+            throw new IllegalStateException("Alphabet '" + code + "' has more than " + MAX_SIZE + " letters");
+        }
+
+        this.letters = distinct.toString();
+        this.indexes = table;
+        this.size = indexByLetter.size();
+    }
+
+    /**
+     * Returns the alphabet of a language.
+     *
+     * @param language the language
+     * @return the alphabet, never {@code null}
+     */
+    public static Alphabet of(Language language) {
+        return forCode(language.getCode());
+    }
+
+    /**
+     * Returns the alphabet of a language code.
+     *
+     * @param code the language code, e.g. "en"
+     * @return the alphabet, or one with the letters of all languages if the code is unknown
+     */
+    public static Alphabet forCode(String code) {
+        Alphabet alphabet = code != null ? BY_LANGUAGE.get(code) : null;
+        return alphabet != null ? alphabet : ANY;
+    }
+
+    /**
+     * Checks if a character is a letter of any supported language.
+     *
+     * @param letter the character to check
+     * @return {@code true} if some alphabet contains the letter
+     */
+    public static boolean isKnownLetter(char letter) {
+        return ANY.contains(letter);
+    }
+
+    /**
+     * Checks if the alphabet contains a letter, in upper or lower case.
+     *
+     * @param letter the character to check
+     * @return {@code true} if the letter belongs to this alphabet
+     */
+    public boolean contains(char letter) {
+        return letter < indexes.length && indexes[letter] != 0;
+    }
+
+    /**
+     * Returns the index of a letter in this alphabet.
+     *
+     * @param letter the letter, in upper or lower case
+     * @return the index in {@code 0 .. size() - 1}, or -1 if the alphabet does not contain the letter
+     */
+    public int indexOf(char letter) {
+        return letter < indexes.length ? indexes[letter] - 1 : -1;
+    }
+
+    /**
+     * Returns the lowercase letter at an index.
+     *
+     * @param index the index in {@code 0 .. size() - 1}
+     * @return the letter
+     */
+    public char letterAt(int index) {
+        return letters.charAt(index);
+    }
+
+    /**
+     * Checks if a word has 3 to 50 characters that all belong to this alphabet.
+     *
+     * @param word the word to check
+     * @return {@code true} if the word is valid for this alphabet
+     */
+    public boolean isValidWord(CharSequence word) {
+        if (word == null || word.length() < MIN_WORD_LENGTH || word.length() > MAX_WORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (!contains(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the number of distinct letters, ignoring case */
+    public int size() {
+        return size;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return code + " " + letters;
+    }
+}
@@ -0,0 +1,167 @@
+package com.join.tab.domain.valueobject;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The letters guessed in a game, stored as a bitset over the index of each
+ * letter in the game's {@link Alphabet}.
+ * Two {@code long} words hold up to {@link Alphabet#MAX_SIZE} letters: every
+ * language alphabet fits in the first one, only the combined alphabet of unknown
+ * language codes needs the second.
+ * Features:
+ *  - Immutability: {@link #with(char)} returns a new instance.
+ *  - {@link #contains(char)} is a bit test, without creating a {@link Letter}.
+ *  - {@link #toLetters()} decodes the bits in alphabet order, for responses only.
+ * Usage:
+ * <pre>
+ *     GuessedLetters guessed = GuessedLetters.empty(Alphabet.of(new Language("en")));
+ *     guessed = guessed.with('a');
+ *     guessed.contains('A'); // true
+ * </pre>
+ */
+public final class GuessedLetters {
+
+    private final Alphabet alphabet;
+    private final long low;
+    private final long high;
+
+    /**
+     * Creates a bitset from its two words.
+     *
+     * @param alphabet the alphabet the bits are indexed by
+     * @param low the bits of the letters {@code 0 .. 63}
+     * @param high the bits of the letters {@code 64 .. 127}
+     */
+    public GuessedLetters(Alphabet alphabet, long low, long high) {
+        this.alphabet = Objects.requireNonNull(alphabet, "alphabet");
+        this.low = low;
+        this.high = high;
+    }
+
+    public static GuessedLetters empty(Alphabet alphabet) {
+        return new GuessedLetters(alphabet, 0L, 0L);
+    }
+
+    /**
+     * Encodes a collection of letters.
+     *
+     * @param alphabet the alphabet of the game
+     * @param letters the guessed letters
+     * @return the bitset
+     * @throws IllegalArgumentException if a letter is not in the alphabet
+     */
+    public static GuessedLetters of(Alphabet alphabet, Collection<Letter> letters) {
+        GuessedLetters guessed = empty(alphabet);
+        for (Letter letter : letters) {
+            guessed = guessed.with(letter.getValue());
+        }
+        return guessed;
+    }
+
+    /**
+     * Returns a bitset with one more letter.
+     *
+     * @param letter the letter, in upper or lower case
+     * @return the new bitset
+     * @throws IllegalArgumentException if the letter is not in the alphabet
+     */
+    public GuessedLetters with(char letter) {
+        int index = alphabet.indexOf(letter);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Letter '%c' is not in alphabet '%s'", letter, alphabet.getCode()));
+        }
+        return index < Long.SIZE
+                ? new GuessedLetters(alphabet, low | 1L << index, high)
+                : new GuessedLetters(alphabet, low, high | 1L << (index - Long.SIZE));
+    }
+
+    /**
+     * Checks if a letter was guessed.
+     *
+     * @param letter the letter, in upper or lower case
+     * @return {@code true} if the letter is in the set
+     */
+    public boolean contains(char letter) {
+        return contains(low, high, alphabet.indexOf(letter));
+    }
+
+    /**
+     * Tests the bit of an alphabet index in a two word bitset.
+     *
+     * @param low the bits of the letters {@code 0 .. 63}
+     * @param high the bits of the letters {@code 64 .. 127}
+     * @param index the alphabet index, negative for letters outside the alphabet
+     * @return {@code true} if the bit is set
+     */
+    public static boolean contains(long low, long high, int index) {
+        if (index < 0) {
+            return false;
+        }
+        return index < Long.SIZE
+                ? (low & 1L << index) != 0
+                : (high & 1L << (index - Long.SIZE)) != 0;
+    }
+
+    public int size() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    public boolean isEmpty() {
+        return (low | high) == 0;
+    }
+
+    /**
+     * Decodes the bitset into letters, in alphabet order.
+     *
+     * @return a read-only set of the guessed letters
+     */
+    public Set<Letter> toLetters() {
+        Set<Letter> letters = new LinkedHashSet<>();
+        decode(low, 0, letters);
+        decode(high, Long.SIZE, letters);
+        return Collections.unmodifiableSet(letters);
+    }
+
+    private void decode(long bits, int offset, Set<Letter> letters) {
+        while (bits != 0) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            letters.add(new Letter(alphabet.letterAt(offset + bit)));
+            bits &= bits - 1;
+        }
+    }
+
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GuessedLetters that = (GuessedLetters) o;
+        return low == that.low && high == that.high && alphabet == that.alphabet;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(alphabet.getCode(), low, high);
+    }
+
+    @Override
+    public String toString() {
+        return toLetters().toString();
+    }
+}
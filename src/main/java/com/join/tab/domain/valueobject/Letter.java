@@ -5,8 +5,8 @@ import java.util.Objects;
 /**
  * Represents a single letter used in the Hangman game.
  * This is a Value Object that encapsulates a single character.
- * It ensures that only valid letters (a-z, A-Z) are allowed and stores
- * the value in lowercase for consistency.
+ * It ensures that only letters of a supported {@link Alphabet} are allowed
+ * and stores the value in lowercase for consistency.
  * Features:
  *  - Immutability: Once create, the value cannot be changed.
  *  - Proper {@link #equals(Object)} and {@link #hashCode()} implementations
@@ -22,7 +22,7 @@ public class Letter {
     /**
      * Create a new Letter value object.
      *
-     * @param value the character to represent; must be a valid letter(a-z or A-Z)
+     * @param value the character to represent; must be a letter of a supported alphabet
      * @throws IllegalArgumentException if the character is not a valid letter
      */
     public Letter(char value) {
@@ -33,19 +33,16 @@ public class Letter {
     }
 
     private boolean isValidLetter(char letter) {
-        return isLatinLetter(letter) || isCyrillicLetter(letter);
+        return Alphabet.isKnownLetter(letter);
     }
 
     private boolean isLatinLetter(char letter) {
         return (letter >= 'a' && letter <= 'z') || (letter >= 'A' && letter <= 'Z');
     }
 
+    /** Range check over the Cyrillic and Cyrillic Supplementary blocks */
     private boolean isCyrillicLetter(char letter) {
-        Character.UnicodeBlock block = Character.UnicodeBlock.of(letter);
-        return block == Character.UnicodeBlock.CYRILLIC
-                || block == Character.UnicodeBlock.CYRILLIC_SUPPLEMENTARY
-                || block == Character.UnicodeBlock.CYRILLIC_EXTENDED_A
-                || block == Character.UnicodeBlock.CYRILLIC_EXTENDED_B;
+        return letter >= '\u0400' && letter <= '\u052F';
     }
 
     public boolean isLatinAlphabet() {
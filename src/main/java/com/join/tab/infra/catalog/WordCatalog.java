@@ -0,0 +1,154 @@
+package com.join.tab.infra.catalog;
+
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.Alphabet;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.catalog.WordCatalogChangedEvent.WordChange;
+import com.join.tab.infra.entity.WordEntity;
+import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Holds the in-memory word catalog used for word selection.
+ * The catalog is an immutable, versioned {@link WordCatalogSnapshot} (a generation)
+ * published through a single volatile reference, so readers never lock and
+ * never see a partially built catalog.
+ * Features:
+ * - Loads all active words from the {@code words} table.
+ * - Builds the next generation after every committed {@link WordCatalogChangedEvent}
+ *   and swaps it in atomically; single word changes are copied onto the current
+ *   generation, other changes reload all active words.
+ * - Builds lazily on first access if no change event was seen yet.
+ * - Skips words that are not valid for their language's {@link Alphabet},
+ *   so every catalog word can start a game.
+ */
+@Component
+public class WordCatalog {
+    private static final Logger log = LoggerFactory.getLogger(WordCatalog.class);
+
+    private final WordJpaRepository wordJpaRepository;
+    private volatile WordCatalogSnapshot snapshot;
+    private long generation;
+
+    public WordCatalog(WordJpaRepository wordJpaRepository) {
+        this.wordJpaRepository = wordJpaRepository;
+    }
+
+    /**
+     * Returns the current catalog snapshot, loading it on first use.
+     *
+     * @return the current {@link WordCatalogSnapshot}
+     */
+    public WordCatalogSnapshot current() {
+        WordCatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = rebuild();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Rebuilds the catalog once the change that triggered the event is committed.
+     * Runs before the other listeners, so they see the new generation.
+     *
+     * @param event the catalog change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(WordCatalogChangedEvent event) {
+        log.debug("Word catalog changed ({}), rebuilding", event.getReason());
+        if (event.hasChanges()) {
+            apply(event.getChanges());
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds the next generation from the current one with the given word changes
+     * and atomically replaces the current snapshot.
+     * Falls back to {@link #rebuild()} if the catalog was not loaded yet.
+     *
+     * @param changes the added and removed words
+     * @return the new snapshot
+     */
+    public synchronized WordCatalogSnapshot apply(List<WordChange> changes) {
+        WordCatalogSnapshot current = snapshot;
+        if (current == null) {
+            return rebuild();
+        }
+
+        WordCatalogSnapshot.Builder builder = WordCatalogSnapshot.builder(current);
+        for (WordChange change : changes) {
+            // removing first makes a repeated add a no-op
+            builder.remove(change.language(), change.content());
+            if (change.active()) {
+                Word word = toPlayableWord(change.content(), change.language());
+                if (word != null) {
+                    builder.add(word, change.category(), change.difficulty());
+                }
+            }
+        }
+
+        WordCatalogSnapshot next = builder.generation(++generation).build();
+        this.snapshot = next;
+
+        log.debug("Word catalog generation {}: {} words after {} changes", next.getGeneration(), next.size(), changes.size());
+        return next;
+    }
+
+    /**
+     * Loads all active words and atomically replaces the current snapshot.
+     *
+     * @return the new snapshot
+     */
+    public synchronized WordCatalogSnapshot rebuild() {
+        long startTime = System.currentTimeMillis();
+        WordCatalogSnapshot.Builder builder = WordCatalogSnapshot.builder();
+
+        for (WordEntity entity : wordJpaRepository.findByIsActiveTrue()) {
+            Word word = toPlayableWord(entity.getContent(), entity.getLanguage());
+            if (word != null) {
+                builder.add(word, entity.getCategory(), entity.getDifficultlyLevel());
+            }
+        }
+
+        WordCatalogSnapshot rebuilt = builder.generation(++generation).build();
+        this.snapshot = rebuilt;
+
+        log.info("Word catalog rebuilt: {} words in {} ms (generation {})",
+                rebuilt.size(), System.currentTimeMillis() - startTime, rebuilt.getGeneration());
+        return rebuilt;
+    }
+
+    /**
+     * Creates the domain word, or returns {@code null} if the language is unsupported
+     * or the word has letters outside the language's alphabet.
+     */
+    private static Word toPlayableWord(String content, String languageCode) {
+        Language language;
+        try {
+            language = new Language(languageCode);
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping word '{}' with unsupported language '{}'", content, languageCode);
+            return null;
+        }
+        if (!Alphabet.of(language).isValidWord(content)) {
+            log.warn("Skipping word '{}' with letters outside the '{}' alphabet", content, languageCode);
+            return null;
+        }
+        return new Word(content, language);
+    }
+}
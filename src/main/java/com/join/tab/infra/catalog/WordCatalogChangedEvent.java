@@ -0,0 +1,80 @@
+package com.join.tab.infra.catalog;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.infra.entity.WordEntity;
+
+import java.util.List;
+
+/**
+ * Application event published whenever the set of active words changes
+ * (startup load, uploads, single word add/remove, reload).
+ * Listeners use it to refresh anything derived from the words table.
+ * Single word changes carry the changed word, so the word catalog can build
+ * its next generation from the current one instead of reloading all words.
+ * Usage:
+ * <pre>
+ *     eventPublisher.publishEvent(new WordCatalogChangedEvent("upload"));
+ *     eventPublisher.publishEvent(WordCatalogChangedEvent.wordAdded(savedEntity));
+ * </pre>
+ */
+public class WordCatalogChangedEvent {
+    private final String reason;
+    private final List<WordChange> changes;
+
+    /**
+     * Creates a new WordCatalogChangedEvent without details, listeners reload all words.
+     *
+     * @param reason short description of what changed the catalog (for logging)
+     */
+    public WordCatalogChangedEvent(String reason) {
+        this(reason, List.of());
+    }
+
+    private WordCatalogChangedEvent(String reason, List<WordChange> changes) {
+        this.reason = reason;
+        this.changes = changes;
+    }
+
+    /**
+     * Creates an event for a single word that became active.
+     *
+     * @param word the saved word entity
+     * @return the event
+     */
+    public static WordCatalogChangedEvent wordAdded(WordEntity word) {
+        return new WordCatalogChangedEvent("add " + word.getContent(), List.of(WordChange.of(word, true)));
+    }
+
+    /**
+     * Creates an event for a single word that was deactivated.
+     *
+     * @param word the deactivated word entity
+     * @return the event
+     */
+    public static WordCatalogChangedEvent wordRemoved(WordEntity word) {
+        return new WordCatalogChangedEvent("remove " + word.getContent(), List.of(WordChange.of(word, false)));
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /** Returns the changed words, empty if the change is not described word by word */
+    public List<WordChange> getChanges() {
+        return changes;
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /** A word that was added to or removed from the active words */
+    public record WordChange(String content, String language, String category,
+                             DifficultyLevel difficulty, boolean active) {
+
+        private static WordChange of(WordEntity word, boolean active) {
+            return new WordChange(word.getContent(), word.getLanguage(), word.getCategory(),
+                    word.getDifficultlyLevel(), active);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.join.tab.infra.catalog;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.model.Word;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Immutable, in-memory view of all active words, bucketed by language,
+ * category and {@link DifficultyLevel}.
+ * Every bucket is a flat array, so picking a random word is a single random
+ * index and never touches the database.
+ * Buckets are precomputed for every combination the word selection supports:
+ * <ul>
+ *     <li>language</li>
+ *     <li>language + difficulty</li>
+ *     <li>language + category</li>
+ *     <li>language + category + difficulty</li>
+ *     <li>any word (fallback)</li>
+ * </ul>
+ * Every snapshot is a catalog generation: it carries a generation number and
+ * its build time. The next generation is built off to the side from the
+ * current one with {@link #builder(WordCatalogSnapshot)}; the current one is
+ * never modified.
+ * Usage:
+ * <pre>
+ *     WordCatalogSnapshot snapshot = WordCatalogSnapshot.builder().add(word, "animals", EASY).build();
+ *     Word word = snapshot.pick("en", "animals", null, random);
+ *     WordCatalogSnapshot next = WordCatalogSnapshot.builder(snapshot).remove("en", "cat").build();
+ * </pre>
+ */
+public final class WordCatalogSnapshot {
+
+    private static final Word[] NO_WORDS = new Word[0];
+
+    private final Map<String, LanguageBuckets> languages;
+    private final Word[] allWords;
+    /** language -> category -> difficulty -> words, kept to build the next generation */
+    private final Map<String, Map<String, Map<DifficultyLevel, Word[]>>> leaves;
+    private final long generation;
+    private final Instant builtAt;
+
+    private WordCatalogSnapshot(Map<String, LanguageBuckets> languages, Word[] allWords,
+                                Map<String, Map<String, Map<DifficultyLevel, Word[]>>> leaves,
+                                long generation, Instant builtAt) {
+        this.languages = languages;
+        this.allWords = allWords;
+        this.leaves = leaves;
+        this.generation = generation;
+        this.builtAt = builtAt;
+    }
+
+    /**
+     * Returns an empty snapshot.
+     *
+     * @return a snapshot that contains no words
+     */
+    public static WordCatalogSnapshot empty() {
+        return new WordCatalogSnapshot(Map.of(), NO_WORDS, Map.of(), 0, Instant.now());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder that starts with all words of the given snapshot.
+     * The snapshot itself is left untouched.
+     *
+     * @param base the snapshot to copy
+     * @return a builder holding the words of {@code base}
+     */
+    public static Builder builder(WordCatalogSnapshot base) {
+        Builder builder = new Builder();
+        base.leaves.forEach((language, categories) -> categories.forEach((category, difficulties) ->
+                difficulties.forEach((difficulty, bucket) -> {
+                    builder.bucket(language, category, difficulty).addAll(Arrays.asList(bucket));
+                    builder.size += bucket.length;
+                })));
+        return builder;
+    }
+
+    /**
+     * Picks a random word that matches all the given criteria.
+     *
+     * @param language the language code, required
+     * @param category the category, or {@code null} for any category
+     * @param difficulty the difficulty, or {@code null} for any difficulty
+     * @param random the source of randomness
+     * @return a matching {@link Word}, or {@code null} if the bucket is empty
+     */
+    public Word pick(String language, String category, DifficultyLevel difficulty, Random random) {
+        LanguageBuckets buckets = languages.get(language);
+        if (buckets == null) {
+            return null;
+        }
+
+        Word[] bucket;
+        if (category != null) {
+            CategoryBuckets categoryBuckets = buckets.byCategory.get(category);
+            if (categoryBuckets == null) {
+                return null;
+            }
+            bucket = difficulty != null ? categoryBuckets.byDifficulty(difficulty) : categoryBuckets.all;
+        } else {
+            bucket = difficulty != null ? buckets.byDifficulty(difficulty) : buckets.all;
+        }
+
+        return pickFrom(bucket, random);
+    }
+
+    /**
+     * Picks a random word of the given language.
+     *
+     * @param language the language code
+     * @param random the source of randomness
+     * @return a matching {@link Word}, or {@code null} if the language has no words
+     */
+    public Word pickByLanguage(String language, Random random) {
+        return pick(language, null, null, random);
+    }
+
+    /**
+     * Picks a random word of any language.
+     *
+     * @param random the source of randomness
+     * @return a {@link Word}, or {@code null} if the catalog is empty
+     */
+    public Word pickAny(Random random) {
+        return pickFrom(allWords, random);
+    }
+
+    /** Returns the total number of words in the snapshot */
+    public int size() {
+        return allWords.length;
+    }
+
+    public boolean isEmpty() {
+        return allWords.length == 0;
+    }
+
+    /** Returns the generation number, 0 for snapshots built outside the catalog */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    private static Word pickFrom(Word[] bucket, Random random) {
+        if (bucket.length == 0) {
+            return null;
+        }
+        return bucket[random.nextInt(bucket.length)];
+    }
+
+    /** Buckets of a single language */
+    private static final class LanguageBuckets {
+        private final Word[] all;
+        private final EnumMap<DifficultyLevel, Word[]> byDifficulty;
+        private final Map<String, CategoryBuckets> byCategory;
+
+        private LanguageBuckets(Word[] all, EnumMap<DifficultyLevel, Word[]> byDifficulty,
+                                Map<String, CategoryBuckets> byCategory) {
+            this.all = all;
+            this.byDifficulty = byDifficulty;
+            this.byCategory = byCategory;
+        }
+
+        private Word[] byDifficulty(DifficultyLevel difficulty) {
+            return byDifficulty.getOrDefault(difficulty, NO_WORDS);
+        }
+    }
+
+    /** Buckets of a single category inside a language */
+    private static final class CategoryBuckets {
+        private final Word[] all;
+        private final EnumMap<DifficultyLevel, Word[]> byDifficulty;
+
+        private CategoryBuckets(Word[] all, EnumMap<DifficultyLevel, Word[]> byDifficulty) {
+            this.all = all;
+            this.byDifficulty = byDifficulty;
+        }
+
+        private Word[] byDifficulty(DifficultyLevel difficulty) {
+            return byDifficulty.getOrDefault(difficulty, NO_WORDS);
+        }
+    }
+
+    /**
+     * Collects words and freezes them into flat bucket arrays.
+     * Not thread-safe; a builder is meant to be filled by a single thread.
+     */
+    public static final class Builder {
+        private final Map<String, Map<String, Map<DifficultyLevel, List<Word>>>> words = new HashMap<>();
+        private int size;
+        private long generation;
+
+        private Builder() { }
+
+        /**
+         * Adds a word to the snapshot.
+         *
+         * @param word the word to add
+         * @param category the word category, may be {@code null}
+         * @param difficulty the difficulty level, may be {@code null}
+         * @return this builder
+         */
+        public Builder add(Word word, String category, DifficultyLevel difficulty) {
+            bucket(word.getLanguage().getCode(), category, difficulty).add(word);
+            size++;
+            return this;
+        }
+
+        /**
+         * Removes a word from every bucket of its language.
+         *
+         * @param language the language code
+         * @param content the word content
+         * @return this builder
+         */
+        public Builder remove(String language, String content) {
+            Map<String, Map<DifficultyLevel, List<Word>>> categories = words.get(language);
+            if (categories != null) {
+                categories.values().forEach(difficulties -> difficulties.values().forEach(bucket -> {
+                    int before = bucket.size();
+                    bucket.removeIf(word -> word.getContent().equals(content));
+                    size -= before - bucket.size();
+                }));
+            }
+            return this;
+        }
+
+        /**
+         * Sets the generation number of the snapshot to build.
+         *
+         * @param generation the generation number
+         * @return this builder
+         */
+        public Builder generation(long generation) {
+            this.generation = generation;
+            return this;
+        }
+
+        private List<Word> bucket(String language, String category, DifficultyLevel difficulty) {
+            return words.computeIfAbsent(language, k -> new HashMap<>())
+                    .computeIfAbsent(category, k -> new HashMap<>())
+                    .computeIfAbsent(difficulty, k -> new ArrayList<>());
+        }
+
+        public WordCatalogSnapshot build() {
+            Map<String, LanguageBuckets> languages = new HashMap<>();
+            Map<String, Map<String, Map<DifficultyLevel, Word[]>>> leaves = new HashMap<>();
+            List<Word> allWords = new ArrayList<>(size);
+
+            words.forEach((language, categories) -> {
+                List<Word> languageWords = new ArrayList<>();
+                Map<DifficultyLevel, List<Word>> languageByDifficulty = new EnumMap<>(DifficultyLevel.class);
+                Map<String, CategoryBuckets> byCategory = new HashMap<>();
+
+                categories.forEach((category, difficulties) -> {
+                    List<Word> categoryWords = new ArrayList<>();
+                    difficulties.forEach((difficulty, bucket) -> {
+                        if (bucket.isEmpty()) {
+                            return;
+                        }
+                        leaves.computeIfAbsent(language, k -> new HashMap<>())
+                                .computeIfAbsent(category, k -> new HashMap<>())
+                                .put(difficulty, toArray(bucket));
+                        categoryWords.addAll(bucket);
+                        if (difficulty != null) {
+                            languageByDifficulty.computeIfAbsent(difficulty, k -> new ArrayList<>()).addAll(bucket);
+                        }
+                    });
+
+                    // words without a category can only be reached through the language buckets
+                    if (category != null && !categoryWords.isEmpty()) {
+                        byCategory.put(category, new CategoryBuckets(toArray(categoryWords), freeze(difficulties)));
+                    }
+                    languageWords.addAll(categoryWords);
+                });
+
+                if (languageWords.isEmpty()) {
+                    return;
+                }
+                languages.put(language, new LanguageBuckets(
+                        toArray(languageWords), freeze(languageByDifficulty), Collections.unmodifiableMap(byCategory)));
+                allWords.addAll(languageWords);
+            });
+
+            return new WordCatalogSnapshot(Collections.unmodifiableMap(languages), toArray(allWords),
+                    leaves, generation, Instant.now());
+        }
+
+        private static EnumMap<DifficultyLevel, Word[]> freeze(Map<DifficultyLevel, List<Word>> buckets) {
+            EnumMap<DifficultyLevel, Word[]> frozen = new EnumMap<>(DifficultyLevel.class);
+            buckets.forEach((difficulty, bucket) -> {
+                if (difficulty != null && !bucket.isEmpty()) {
+                    frozen.put(difficulty, toArray(bucket));
+                }
+            });
+            return frozen;
+        }
+
+        private static Word[] toArray(List<Word> bucket) {
+            return bucket.isEmpty() ? NO_WORDS : bucket.toArray(NO_WORDS);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.join.tab.infra.catalog;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.BucketCount;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable active word counts, grouped by language, category and {@link DifficultyLevel}.
+ * Built from per-bucket count rows, so language and category
+ * listings can be answered without touching the database.
+ * Usage:
+ * <pre>
+ *     WordCountSnapshot counts = WordCountSnapshot.from(wordStatistics.getActiveBucketCounts());
+ *     long total = counts.getWordCount("en");
+ *     List&lt;String&gt; categories = counts.getCategories("en");
+ * </pre>
+ */
+public final class WordCountSnapshot {
+
+    private final Map<String, LanguageCounts> languages;
+    private final List<String> languageCodes;
+    private final long totalWords;
+
+    private WordCountSnapshot(Map<String, LanguageCounts> languages, long totalWords) {
+        this.languages = languages;
+        this.languageCodes = List.copyOf(languages.keySet());
+        this.totalWords = totalWords;
+    }
+
+    /**
+     * Returns a snapshot without any words.
+     *
+     * @return an empty snapshot
+     */
+    public static WordCountSnapshot empty() {
+        return new WordCountSnapshot(Map.of(), 0);
+    }
+
+    /**
+     * Builds a snapshot from aggregate bucket rows.
+     *
+     * @param buckets the per-bucket word counts
+     * @return the snapshot
+     */
+    public static WordCountSnapshot from(Iterable<? extends BucketCount> buckets) {
+        Map<String, LanguageCounts> languages = new TreeMap<>();
+        long total = 0;
+
+        for (BucketCount bucket : buckets) {
+            languages.computeIfAbsent(bucket.getLanguage(), k -> new LanguageCounts())
+                    .add(bucket.getCategory(), bucket.getDifficultyLevel(), bucket.getWordCount());
+            total += bucket.getWordCount();
+        }
+
+        languages.values().forEach(LanguageCounts::freeze);
+        return new WordCountSnapshot(Collections.unmodifiableMap(languages), total);
+    }
+
+    /** Returns the codes of all languages with active words, in alphabetical order */
+    public List<String> getLanguages() {
+        return languageCodes;
+    }
+
+    /**
+     * Returns the categories of a language, in alphabetical order.
+     *
+     * @param language the language code
+     * @return the category names, empty if the language has no categorized words
+     */
+    public List<String> getCategories(String language) {
+        LanguageCounts counts = languages.get(language);
+        return counts != null ? counts.categoryNames : List.of();
+    }
+
+    /**
+     * Returns the number of active words of a language.
+     *
+     * @param language the language code
+     * @return the word count, 0 if the language is unknown
+     */
+    public long getWordCount(String language) {
+        LanguageCounts counts = languages.get(language);
+        return counts != null ? counts.total : 0;
+    }
+
+    /**
+     * Returns the number of active words of a language category.
+     *
+     * @param language the language code
+     * @param category the category name
+     * @return the word count, 0 if there are no such words
+     */
+    public long getWordCount(String language, String category) {
+        LanguageCounts counts = languages.get(language);
+        return counts != null ? counts.byCategory.getOrDefault(category, 0L) : 0;
+    }
+
+    /**
+     * Returns the number of active words of a language and difficulty.
+     *
+     * @param language the language code
+     * @param difficulty the difficulty level
+     * @return the word count, 0 if there are no such words
+     */
+    public long getWordCount(String language, DifficultyLevel difficulty) {
+        LanguageCounts counts = languages.get(language);
+        return counts != null ? counts.byDifficulty.getOrDefault(difficulty, 0L) : 0;
+    }
+
+    /** Returns the total number of active words */
+    public long getTotalWords() {
+        return totalWords;
+    }
+
+    /** Counts of a single language */
+    private static final class LanguageCounts {
+        private final Map<String, Long> byCategory = new TreeMap<>();
+        private final Map<DifficultyLevel, Long> byDifficulty = new EnumMap<>(DifficultyLevel.class);
+        private List<String> categoryNames = List.of();
+        private long total;
+
+        private void add(String category, DifficultyLevel difficulty, long count) {
+            if (category != null) {
+                byCategory.merge(category, count, Long::sum);
+            }
+            if (difficulty != null) {
+                byDifficulty.merge(difficulty, count, Long::sum);
+            }
+            total += count;
+        }
+
+        private void freeze() {
+            categoryNames = List.copyOf(byCategory.keySet());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.join.tab.infra.catalog;
+
+import com.join.tab.monitoring.metrics.WordStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the active word counts used by the language endpoints.
+ * The counts are an immutable {@link WordCountSnapshot} built from the
+ * {@link WordStatistics} counters and rebuilt only when those counters change,
+ * so reading them never goes to the database.
+ */
+@Component
+public class WordCounts {
+    private static final Logger log = LoggerFactory.getLogger(WordCounts.class);
+
+    private final WordStatistics wordStatistics;
+    private volatile Versioned snapshot;
+
+    public WordCounts(WordStatistics wordStatistics) {
+        this.wordStatistics = wordStatistics;
+    }
+
+    /**
+     * Returns the current counts, rebuilding them if the statistics changed
+     * since the last call.
+     *
+     * @return the current {@link WordCountSnapshot}
+     */
+    public WordCountSnapshot current() {
+        Versioned current = snapshot;
+        if (current == null || current.version() != wordStatistics.getVersion()) {
+            current = rebuild();
+        }
+        return current.counts();
+    }
+
+    /**
+     * Reads the version before the counters, so a change applied while the
+     * snapshot is built triggers another rebuild on the next call.
+     */
+    private synchronized Versioned rebuild() {
+        long version = wordStatistics.getVersion();
+        Versioned current = snapshot;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        WordCountSnapshot rebuilt = WordCountSnapshot.from(wordStatistics.getActiveBucketCounts());
+        current = new Versioned(version, rebuilt);
+        this.snapshot = current;
+
+        log.debug("Word counts rebuilt: {} words in {} languages", rebuilt.getTotalWords(), rebuilt.getLanguages().size());
+        return current;
+    }
+
+    private record Versioned(long version, WordCountSnapshot counts) {
+    }
+}
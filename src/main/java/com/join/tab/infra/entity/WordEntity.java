@@ -1,6 +1,7 @@
 package com.join.tab.infra.entity;
 
 import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.valueobject.Alphabet;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -17,8 +18,11 @@ import java.time.LocalDateTime;
  * - Indexes:
  *  - idx_word_length on "length"
  *  - idx_word_category on "category"
+ *  - idx_word_bucket_id on "language, category, difficulty_level, id" (random word pick)
+ *  - idx_word_language_id, idx_word_language_difficulty_id and idx_word_difficulty_id
+ *    (random word pick in buckets without a category or language)
  *  Features:
- *  - Enforces non-black, alphabetic word content of 3 - 50 characters.
+ *  - Enforces non-black word content of 3 - 50 letters of the word's {@link Alphabet}.
  *  - Automatically calculates word length and normalizes content to lowercase.
  *  - Determined difficulty level based on word length if not explicitly set.
  *  - Supports options category and active status.
@@ -29,7 +33,11 @@ import java.time.LocalDateTime;
         @Index(name = "idx_word_category", columnList = "category"),
         @Index(name = "idx_word_language", columnList = "language"),
         @Index(name = "idx_word_language_category", columnList = "language, category"),
-        @Index(name = "idx_word_active_language", columnList =  "is_active, language")
+        @Index(name = "idx_word_active_language", columnList =  "is_active, language"),
+        @Index(name = "idx_word_bucket_id", columnList = "language, category, difficulty_level, id"),
+        @Index(name = "idx_word_language_id", columnList = "language, id"),
+        @Index(name = "idx_word_language_difficulty_id", columnList = "language, difficulty_level, id"),
+        @Index(name = "idx_word_difficulty_id", columnList = "difficulty_level, id")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_word_language", columnNames = {"content", "language"})
@@ -45,12 +53,11 @@ public class WordEntity {
 
     /**
      * The word content.
-     * Must be alphabetic, 3-50 char, and unique.
+     * Must be 3-50 letters of the language alphabet, and unique.
      */
     @Column(name = "content", nullable = false, unique = true, length = 50)
     @NotBlank(message = "Word content cannot be blank")
     @Size(min = 3, max = 50, message = "Word must be between 3 and 50 characters")
-    @Pattern(regexp = "^[a-zA-Zа-яА-ЯёЁіІїЇєЄґҐ]+$", message = "Word must contain only letters")
     private String content;
 
     @Column(name = "language", nullable = false, length = 5)
@@ -112,20 +119,23 @@ public class WordEntity {
     }
 
     private void validateAndNormalize() {
+        if (language != null) {
+            this.language = language.toLowerCase().trim();
+        }
+
         if (content != null) {
             this.content = normalizeWordByLanguage(content, language);
+            if (!Alphabet.forCode(language).isValidWord(this.content)) {
+                throw new IllegalArgumentException("Word must contain only letters of language " + language + ": " + content);
+            }
             this.length = this.content.length();
 
             // Set difficulty based on length if not specified
             if (this.difficultlyLevel == null) {
-                this.difficultlyLevel = determineDifficultyLevel(this.length);
+                this.difficultlyLevel = DifficultyLevel.fromWordLength(this.length);
             }
         }
 
-        if (language != null) {
-            this.language = language.toLowerCase().trim();
-        }
-
         if (category != null) {
             this.category = category.toLowerCase().trim();
         }
@@ -142,18 +152,6 @@ public class WordEntity {
         };
     }
 
-    /**
-     * Determines difficulty level based on word length
-     *
-     * @param wordLength the length of the word
-     * @return the corresponding {@link DifficultyLevel}
-     */
-    private DifficultyLevel determineDifficultyLevel(int wordLength) {
-        if (wordLength <= 4) return DifficultyLevel.EASY;
-        if (wordLength <= 7) return DifficultyLevel.MEDIUM;
-        return DifficultyLevel.HARD;
-    }
-
     public Long getId () {
         return id;
     }
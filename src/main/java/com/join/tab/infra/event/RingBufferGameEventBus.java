@@ -0,0 +1,230 @@
+package com.join.tab.infra.event;
+
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.event.GameEventPublisher;
+import com.join.tab.domain.event.GameEventSubscriber;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link GameEventPublisher} backed by a preallocated ring buffer, with one consumer
+ * thread per {@link GameEventSubscriber}.
+ * Publishers claim a range of sequence numbers with one CAS, write the events into
+ * their slots and mark each slot available with the lap of its sequence, so nothing is
+ * allocated or locked per event. Each consumer follows with its own sequence and hands
+ * the subscriber every event available since its last call, in order, as one batch.
+ * Features:
+ * - Publishing never blocks the request thread: events that do not fit into the free
+ *   slots, counted up to the slowest consumer, are dropped and counted in
+ *   {@code hangman.events.dropped}.
+ * - The number of events not yet consumed by every subscriber and each subscriber's lag
+ *   are gauges, see {@link GameMetrics#registerGameEventBus}.
+ * - An idle consumer spins briefly and then parks until a publisher wakes it. It raises a
+ *   flag before its last check for events, and a publisher unparks the flagged consumers
+ *   after marking its slots, so a consumer never sleeps past a published event and an
+ *   idle bus costs no CPU.
+ * - A subscriber that throws loses that batch only; the error is logged.
+ * - {@link #shutdown()} lets the consumers finish the published events.
+ */
+public class RingBufferGameEventBus implements GameEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(RingBufferGameEventBus.class);
+
+    private static final int SPINS = 100;
+
+    private final GameEvent[] entries;
+    private final AtomicIntegerArray laps;
+    private final int mask;
+    private final int lapShift;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final GameMetrics gameMetrics;
+    private volatile boolean running = true;
+
+    /**
+     * Creates the bus and starts one consumer thread per subscriber.
+     *
+     * @param bufferSize the number of slots, rounded up to a power of two
+     * @param batchSize the maximum number of events handed to a subscriber at once
+     * @param subscribers the subscribers
+     * @param gameMetrics metrics for the queue depth, consumer lag and dropped events
+     */
+    public RingBufferGameEventBus(int bufferSize, int batchSize, List<GameEventSubscriber> subscribers, GameMetrics gameMetrics) {
+        if (bufferSize < 1 || bufferSize > (1 << 30)) {
+            throw new IllegalArgumentException("Event buffer size must be between 1 and 2^30");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Event batch size must be positive");
+        }
+        int capacity = Integer.highestOneBit(bufferSize - 1) << 1;
+        if (bufferSize == 1) {
+            capacity = 1;
+        }
+        this.entries = new GameEvent[capacity];
+        this.laps = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            laps.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.lapShift = Integer.numberOfTrailingZeros(capacity);
+        this.gameMetrics = gameMetrics;
+
+        for (GameEventSubscriber subscriber : subscribers) {
+            consumers.add(new Consumer(subscriber, batchSize));
+        }
+        gameMetrics.registerGameEventBus(capacity, this::getDepth);
+        for (Consumer consumer : consumers) {
+            gameMetrics.registerGameEventConsumer(consumer.subscriber.getName(), consumer::getLag);
+            consumer.thread.start();
+        }
+        log.info("Game event bus started with {} slots and {} subscribers", capacity, consumers.size());
+    }
+
+    /**
+     * Claims slots for the events and publishes them, or drops them all if the
+     * slowest subscriber has not freed enough slots.
+     */
+    @Override
+    public void publish(List<GameEvent> events) {
+        int count = events.size();
+        if (count == 0 || consumers.isEmpty()) {
+            return;
+        }
+
+        long current;
+        long last;
+        do {
+            current = cursor.get();
+            last = current + count;
+            if (!running || count > entries.length || last - entries.length > slowestSequence()) {
+                gameMetrics.recordGameEventsDropped(count);
+                return;
+            }
+        } while (!cursor.compareAndSet(current, last));
+
+        for (int i = 0; i < count; i++) {
+            long sequence = current + 1 + i;
+            int index = (int) sequence & mask;
+            entries[index] = events.get(i);
+            laps.set(index, (int) (sequence >>> lapShift));
+        }
+        wakeConsumers();
+    }
+
+    /** Returns the number of published events not yet handled by every subscriber */
+    public long getDepth() {
+        return consumers.isEmpty() ? 0 : cursor.get() - slowestSequence();
+    }
+
+    /**
+     * Stops accepting events, waits until the consumers have handled the published
+     * ones and stops their threads.
+     */
+    public void shutdown() {
+        running = false;
+        wakeConsumers();
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (consumer.thread.isAlive()) {
+                log.warn("Game event subscriber {} did not stop, {} events left",
+                        consumer.subscriber.getName(), consumer.getLag());
+            }
+        }
+    }
+
+    private void wakeConsumers() {
+        for (Consumer consumer : consumers) {
+            if (consumer.parked) {
+                consumer.parked = false;
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+    }
+
+    private long slowestSequence() {
+        long slowest = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            slowest = Math.min(slowest, consumer.sequence.get());
+        }
+        return slowest;
+    }
+
+    private boolean isPublished(long sequence) {
+        return laps.get((int) sequence & mask) == (int) (sequence >>> lapShift);
+    }
+
+    private final class Consumer implements Runnable {
+        private final GameEventSubscriber subscriber;
+        private final int batchSize;
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private final List<GameEvent> batch;
+        private final Thread thread;
+        /** set by the consumer before it parks, cleared by the publisher that wakes it */
+        private volatile boolean parked;
+
+        Consumer(GameEventSubscriber subscriber, int batchSize) {
+            this.subscriber = subscriber;
+            this.batchSize = batchSize;
+            this.batch = new ArrayList<>(batchSize);
+            this.thread = new Thread(this, "game-events-" + subscriber.getName());
+            this.thread.setDaemon(true);
+        }
+
+        long getLag() {
+            return cursor.get() - sequence.get();
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int idle = 0;
+
+            while (true) {
+                long end = next;
+                long limit = next + batchSize;
+                while (end < limit && isPublished(end)) {
+                    batch.add(entries[(int) end & mask]);
+                    end++;
+                }
+
+                if (batch.isEmpty()) {
+                    if (!running && cursor.get() < next) {
+                        return;
+                    }
+                    if (++idle < SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        parked = true;
+                        if (running && !isPublished(next)) {
+                            LockSupport.park(this);
+                        }
+                        parked = false;
+                    }
+                    continue;
+                }
+
+                idle = 0;
+                try {
+                    subscriber.onEvents(batch);
+                } catch (RuntimeException e) {
+                    log.error("Game event subscriber {} failed on {} events", subscriber.getName(), batch.size(), e);
+                }
+                batch.clear();
+                sequence.set(end - 1);
+                next = end;
+            }
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package com.join.tab.infra.repository.file;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.event.GameStartedEvent;
+import com.join.tab.domain.event.LetterGuessedEvent;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.Alphabet;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.GuessedLetters;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link GameRepository} that persists games as their domain events.
+ * Live games are kept in memory as in {@link com.join.tab.infra.repository.memory.LiveGameRepository};
+ * every save, guess and delete appends the game's uncommitted events to a {@link GameEventLog},
+ * and on startup the games are rebuilt by replaying the log.
+ * Record layout:
+ * <pre>
+ *     byte    type: 1 started, 2 letter guessed, 3 deleted, 4 snapshot
+ *     UTF     game id
+ *     started:   UTF word, UTF language code, UTF category (empty for none),
+ *                byte difficulty ordinal + 1 (0 for none)
+ *     guessed:   char letter
+ *     snapshot:  the game's {@link GameCodec} record
+ * </pre>
+ * Features:
+ * - Records of one game are appended while holding its monitor, so the log has them in the
+ *   order they were applied. {@code GameEndedEvent}s are not written, replaying the last
+ *   guess ends the game again.
+ * - A saved game without a pending {@link GameStartedEvent}, e.g. a restored one, is
+ *   written as a snapshot record.
+ * - With {@code waitForSync} a change returns once its records are synced to disk; the
+ *   log syncs many concurrent changes at once (group commit). The wait happens after the
+ *   records are appended and every lock is released. {@link #evict(GameId)} does not wait,
+ *   so expiring idle games costs no sync per game.
+ * - A game whose records fail to be written is dropped: its in-memory state is ahead of
+ *   the log and cannot be rolled back, since later changes may already build on it. It is
+ *   removed from memory and a deleted record is appended, so memory and a later replay
+ *   agree that the game is gone. The failure is only recorded where it is reported, which
+ *   may be inside a lock; the game is dropped by the waiting caller, or else by the next
+ *   change, once no lock is held. With {@code waitForSync} the change that hit the failure
+ *   also throws; the player has to start a new game.
+ * - Every {@code checkpointInterval} and on {@link #close()} a snapshot of each live game
+ *   is written and older segments are deleted, so the log keeps one record per live game
+ *   plus the events since, and replay time stays bounded by the checkpoint interval.
+ *   Changes hold a read lock while they append and change the map, and the checkpoint holds
+ *   the write lock while it starts the new segment and writes the snapshots, so no record
+ *   lands in a deleted segment without its game being in the snapshot.
+ */
+public class EventSourcedGameRepository implements GameRepository, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(EventSourcedGameRepository.class);
+
+    private static final byte STARTED = 1;
+    private static final byte GUESSED = 2;
+    private static final byte DELETED = 3;
+    private static final byte SNAPSHOT = 4;
+    private static final DifficultyLevel[] DIFFICULTIES = DifficultyLevel.values();
+
+    private final Map<GameId, HangmanGame> games = new ConcurrentHashMap<>();
+    private final GameEventLog eventLog;
+    private final boolean waitForSync;
+    private final ScheduledExecutorService checkpointExecutor;
+    private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+    private final Queue<HangmanGame> failedGames = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Opens the event log in a directory and replays it.
+     *
+     * @param dir the directory of the event log
+     * @param segmentBytes the size after which a new log segment is started
+     * @param checkpointInterval the time between checkpoints, zero to only checkpoint on close
+     * @param waitForSync whether changes wait until their records are synced to disk
+     * @param gameMetrics metrics for the event log
+     * @throws UncheckedIOException if the log cannot be opened
+     */
+    public EventSourcedGameRepository(Path dir, long segmentBytes, Duration checkpointInterval,
+                                      boolean waitForSync, GameMetrics gameMetrics) {
+        this.eventLog = new GameEventLog(dir, segmentBytes, gameMetrics);
+        this.waitForSync = waitForSync;
+
+        long start = System.nanoTime();
+        Replay replay = new Replay();
+        long records = eventLog.replay(replay::apply);
+        games.putAll(replay.games);
+        eventLog.start();
+        log.info("Replayed {} game events into {} games from {} in {} ms", records, games.size(), dir,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        if (checkpointInterval.isZero() || checkpointInterval.isNegative()) {
+            this.checkpointExecutor = null;
+        } else {
+            this.checkpointExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-event-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = checkpointInterval.toMillis();
+            checkpointExecutor.scheduleWithFixedDelay(this::checkpointSafely, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stores the game and appends its pending start event, or a snapshot of it.
+     * @param game the game to save.
+     */
+    @Override
+    public void save(HangmanGame game) {
+        dropFailedGames();
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        checkpointLock.readLock().lock();
+        try {
+            games.compute(game.getGameId(), (gameId, previous) -> {
+                // a replaced game's pending update appends its records first
+                synchronized (previous != null ? previous : game) {
+                    synchronized (game) {
+                        List<GameEvent> events = game.getUncommittedEvents();
+                        CompletableFuture<Void> appended = !events.isEmpty() && events.get(0) instanceof GameStartedEvent
+                                ? appendEvents(game)
+                                : eventLog.append(snapshotRecord(game));
+                        game.clearEvents();
+                        recordFailure(game, appended);
+                        propagate(appended, written);
+                    }
+                }
+                return game;
+            });
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+        awaitSync(written, game);
+    }
+
+    @Override
+    public Optional<HangmanGame> findById(GameId gameId) {
+        return Optional.ofNullable(games.get(gameId));
+    }
+
+    /**
+     * Applies a change to the stored game while holding its monitor, and appends
+     * the events it raised.
+     */
+    @Override
+    public <R> Optional<R> update(GameId gameId, Function<HangmanGame, R> change) {
+        dropFailedGames();
+        while (true) {
+            HangmanGame game = games.get(gameId);
+            if (game == null) {
+                return Optional.empty();
+            }
+            CompletableFuture<Void> written;
+            R result;
+            checkpointLock.readLock().lock();
+            try {
+                synchronized (game) {
+                    if (games.get(gameId) != game) {
+                        continue;
+                    }
+                    try {
+                        result = change.apply(game);
+                    } finally {
+                        written = appendEvents(game);
+                        game.clearEvents();
+                        recordFailure(game, written);
+                    }
+                }
+            } finally {
+                checkpointLock.readLock().unlock();
+            }
+            awaitSync(written, game);
+            return Optional.ofNullable(result);
+        }
+    }
+
+    /** Visits every game while holding its monitor */
+    @Override
+    public void forEach(Consumer<HangmanGame> action) {
+        for (HangmanGame game : games.values()) {
+            synchronized (game) {
+                action.accept(game);
+            }
+        }
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        awaitSync(remove(gameId), null);
+    }
+
+    /** Appends the game's deleted record without waiting for it to be synced */
+    @Override
+    public void evict(GameId gameId) {
+        remove(gameId);
+    }
+
+    private CompletableFuture<Void> remove(GameId gameId) {
+        dropFailedGames();
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        checkpointLock.readLock().lock();
+        try {
+            games.compute(gameId, (id, game) -> {
+                if (game == null) {
+                    written.complete(null);
+                    return null;
+                }
+                synchronized (game) {
+                    propagate(eventLog.append(record(DELETED, id, out -> { })), written);
+                }
+                return null;
+            });
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+        return written;
+    }
+
+    /**
+     * Writes a snapshot record of every live game and drops the log segments before it.
+     */
+    public void checkpoint() {
+        dropFailedGames();
+        long start = System.nanoTime();
+        int[] count = {0};
+        checkpointLock.writeLock().lock();
+        try {
+            eventLog.checkpoint(() -> {
+                for (HangmanGame game : games.values()) {
+                    synchronized (game) {
+                        eventLog.append(snapshotRecord(game));
+                        count[0]++;
+                    }
+                }
+            });
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+        log.debug("Checkpointed {} games in {} ms", count[0],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void checkpointSafely() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.error("Game event log checkpoint failed", e);
+        }
+    }
+
+    /** Returns the number of stored games */
+    public int size() {
+        return games.size();
+    }
+
+    /**
+     * Stops the checkpoints, writes a final one and closes the log.
+     */
+    @Override
+    public void close() {
+        if (checkpointExecutor != null) {
+            checkpointExecutor.shutdownNow();
+        }
+        checkpointSafely();
+        eventLog.close();
+    }
+
+    /** Appends the uncommitted events of a game, must hold its monitor */
+    private CompletableFuture<Void> appendEvents(HangmanGame game) {
+        CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+        for (GameEvent event : game.getUncommittedEvents()) {
+            if (event instanceof GameStartedEvent started) {
+                last = eventLog.append(startedRecord(started));
+            } else if (event instanceof LetterGuessedEvent guessed) {
+                last = eventLog.append(record(GUESSED, guessed.getGameid(),
+                        out -> out.writeChar(guessed.getLetter().getValue())));
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Records the game for dropping if its records could not be written. The callback may
+     * run inline under the caller's locks or on the log's writer thread, so it takes none.
+     */
+    private void recordFailure(HangmanGame game, CompletableFuture<Void> written) {
+        written.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                failedGames.add(game);
+            }
+        });
+    }
+
+    /** Drops the games whose records could not be written, must hold no lock */
+    private void dropFailedGames() {
+        HangmanGame game;
+        while ((game = failedGames.poll()) != null) {
+            drop(game);
+        }
+    }
+
+    private void drop(HangmanGame game) {
+        checkpointLock.readLock().lock();
+        try {
+            games.compute(game.getGameId(), (gameId, current) -> {
+                if (current != game) {
+                    return current;
+                }
+                log.warn("Dropping game {} after its events could not be written", gameId.getValue());
+                eventLog.append(record(DELETED, gameId, out -> { }));
+                return null;
+            });
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Waits for the records if {@code waitForSync} is set, dropping the game if they failed.
+     *
+     * @param game the changed game, or null if the change removed it
+     */
+    private void awaitSync(CompletableFuture<Void> written, HangmanGame game) {
+        if (!waitForSync) {
+            return;
+        }
+        try {
+            written.join();
+        } catch (CompletionException e) {
+            if (game != null) {
+                drop(game);
+            }
+            throw new UncheckedIOException("Failed to write game events",
+                    e.getCause() instanceof IOException io ? io : new IOException(e.getCause()));
+        }
+    }
+
+    private static void propagate(CompletableFuture<Void> from, CompletableFuture<Void> to) {
+        from.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                to.completeExceptionally(failure);
+            } else {
+                to.complete(null);
+            }
+        });
+    }
+
+    private static byte[] startedRecord(GameStartedEvent event) {
+        return record(STARTED, event.getGameid(), out -> {
+            out.writeUTF(event.getWord());
+            out.writeUTF(event.getLanguage().getCode());
+            out.writeUTF(event.getCategory() != null ? event.getCategory() : "");
+            out.writeByte(event.getDifficulty() != null ? event.getDifficulty().ordinal() + 1 : 0);
+        });
+    }
+
+    private static byte[] snapshotRecord(HangmanGame game) {
+        return record(SNAPSHOT, game.getGameId(), out -> GameCodec.write(game, out));
+    }
+
+    private static byte[] record(byte type, GameId gameId, RecordBody body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(type);
+            out.writeUTF(gameId.getValue());
+            body.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface RecordBody {
+        void write(DataOutput out) throws IOException;
+    }
+
+    /** Rebuilds the games from the log records, sharing word instances */
+    private static final class Replay {
+        private final Map<GameId, HangmanGame> games = new HashMap<>();
+        private final GameCodec.Reader reader = GameCodec.reader();
+        private final Map<String, Language> languages = new HashMap<>();
+        private final Map<String, Word> words = new HashMap<>();
+
+        void apply(ByteBuffer payload) {
+            DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(payload.array(), payload.position(), payload.remaining()));
+            try {
+                byte type = in.readByte();
+                GameId gameId = new GameId(in.readUTF());
+                switch (type) {
+                    case STARTED -> games.put(gameId, started(gameId, in));
+                    case GUESSED -> guessed(games.get(gameId), in.readChar());
+                    case DELETED -> games.remove(gameId);
+                    case SNAPSHOT -> games.put(gameId, reader.read(in));
+                    default -> log.warn("Skipping game event record of unknown type {}", type);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable game event record", e);
+            }
+        }
+
+        private HangmanGame started(GameId gameId, DataInputStream in) throws IOException {
+            String content = in.readUTF();
+            Language language = languages.computeIfAbsent(in.readUTF(), Language::new);
+            String category = in.readUTF();
+            int difficulty = in.readByte();
+
+            Word word = words.computeIfAbsent(language.getCode() + ':' + content,
+                    key -> new Word(content, language));
+            GamePreferences preferences = new GamePreferences(language,
+                    category.isEmpty() ? null : category,
+                    difficulty > 0 ? DIFFICULTIES[difficulty - 1] : null);
+            return new HangmanGame(gameId, word, preferences, GuessedLetters.empty(Alphabet.of(language)),
+                    0, GameStatus.IN_PROGRESS);
+        }
+
+        /**
+         * Replays a guess. Events of games unknown here precede the game's snapshot
+         * in the first segment after a checkpoint; the snapshot already contains them.
+         */
+        private void guessed(HangmanGame game, char letter) {
+            if (game == null) {
+                return;
+            }
+            game.guessResult(new Letter(letter));
+            game.clearEvents();
+        }
+    }
+}
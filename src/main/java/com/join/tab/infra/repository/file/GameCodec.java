@@ -0,0 +1,180 @@
+package com.join.tab.infra.repository.file;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.Alphabet;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.GuessedLetters;
+import com.join.tab.domain.valueobject.Language;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary encoding of a {@link HangmanGame}'s state.
+ * A game takes a few dozen bytes: the ids and the word as modified UTF-8,
+ * the guessed letters as the two words of their {@link GuessedLetters} bitset.
+ * Record layout, version 1:
+ * <pre>
+ *     byte    version
+ *     UTF     game id
+ *     UTF     word
+ *     UTF     language code
+ *     UTF     category, empty for none
+ *     byte    difficulty ordinal + 1, 0 for none
+ *     long    guessed letters, low word
+ *     long    guessed letters, high word
+ *     byte    mistake count
+ *     byte    status ordinal
+ * </pre>
+ * Domain events are not encoded; a decoded game has none.
+ * {@link #reader()} decodes many games sharing one {@link Word} per distinct word,
+ * so the word's letter index is built once per word instead of once per game.
+ */
+public final class GameCodec {
+
+    private static final byte VERSION = 1;
+    private static final DifficultyLevel[] DIFFICULTIES = DifficultyLevel.values();
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    private GameCodec() {
+    }
+
+    /**
+     * Writes the state of a game.
+     *
+     * @param game the game
+     * @param out the output
+     * @throws IOException if the output fails
+     */
+    public static void write(HangmanGame game, DataOutput out) throws IOException {
+        GamePreferences preferences = game.getPreferences();
+        GuessedLetters guessed = game.getGuessedLetters();
+
+        out.writeByte(VERSION);
+        out.writeUTF(game.getGameId().getValue());
+        out.writeUTF(game.getWord());
+        out.writeUTF(preferences.getLanguage().getCode());
+        out.writeUTF(preferences.hasCategory() ? preferences.getCategory() : "");
+        out.writeByte(preferences.getDifficulty() != null ? preferences.getDifficulty().ordinal() + 1 : 0);
+        out.writeLong(guessed.getLow());
+        out.writeLong(guessed.getHigh());
+        out.writeByte(game.getMistakeCount());
+        out.writeByte(game.getStatus().ordinal());
+    }
+
+    /**
+     * Reads a game written by {@link #write(HangmanGame, DataOutput)}.
+     *
+     * @param in the input
+     * @return the game
+     * @throws IOException if the input fails or holds an unknown version
+     */
+    public static HangmanGame read(DataInput in) throws IOException {
+        return new Reader(false).read(in);
+    }
+
+    /**
+     * Returns a reader that shares {@link Word} and {@link Language} instances
+     * between the games it reads. Not thread-safe.
+     *
+     * @return a new reader
+     */
+    public static Reader reader() {
+        return new Reader(true);
+    }
+
+    /** Decodes games, optionally reusing the value objects of earlier games */
+    public static final class Reader {
+        private final Map<String, Language> languages;
+        private final Map<String, Word> words;
+
+        private Reader(boolean shared) {
+            this.languages = shared ? new HashMap<>() : null;
+            this.words = shared ? new HashMap<>() : null;
+        }
+
+        /**
+         * Reads a game written by {@link GameCodec#write(HangmanGame, DataOutput)}.
+         *
+         * @param in the input
+         * @return the game
+         * @throws IOException if the input fails or holds an unknown version
+         */
+        public HangmanGame read(DataInput in) throws IOException {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported game record version: " + version);
+            }
+
+            GameId gameId = new GameId(in.readUTF());
+            String content = in.readUTF();
+            Language language = language(in.readUTF());
+            String category = in.readUTF();
+            int difficulty = in.readByte();
+            long low = in.readLong();
+            long high = in.readLong();
+            int mistakeCount = in.readByte();
+            GameStatus status = STATUSES[in.readByte()];
+
+            GamePreferences preferences = new GamePreferences(
+                    language,
+                    category.isEmpty() ? null : category,
+                    difficulty > 0 ? DIFFICULTIES[difficulty - 1] : null);
+            return new HangmanGame(gameId, word(content, language), preferences,
+                    new GuessedLetters(Alphabet.of(language), low, high), mistakeCount, status);
+        }
+
+        private Language language(String code) {
+            return languages != null ? languages.computeIfAbsent(code, Language::new) : new Language(code);
+        }
+
+        private Word word(String content, Language language) {
+            if (words == null) {
+                return new Word(content, language);
+            }
+            return words.computeIfAbsent(language.getCode() + ':' + content, key -> new Word(content, language));
+        }
+    }
+
+    /**
+     * Encodes a game into a new byte array.
+     *
+     * @param game the game
+     * @return the record
+     */
+    public static byte[] encode(HangmanGame game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try {
+            write(game, new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game from a record.
+     *
+     * @param record the bytes written by {@link #encode(HangmanGame)}
+     * @return the game
+     */
+    public static HangmanGame decode(byte[] record) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(record)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
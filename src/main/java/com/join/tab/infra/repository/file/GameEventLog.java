@@ -0,0 +1,475 @@
+package com.join.tab.infra.repository.file;
+
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmented, append-only log of opaque records with group commit.
+ * Records are appended to numbered segment files in a directory, each framed as
+ * <pre>
+ *     int     payload length
+ *     int     CRC32C of the payload
+ *     byte[]  payload
+ * </pre>
+ * Features:
+ * - One writer thread drains the queued appends, writes them with one buffered write and
+ *   syncs the segment once per batch; an append's future completes after that sync.
+ *   The appends queued while a sync runs form the next batch, so the number of syncs
+ *   follows the disk, not the request rate.
+ * - A segment is closed and a new one started once it reaches the segment size.
+ * - {@link #checkpoint(Runnable)} starts a new segment, lets the caller append the full
+ *   state, and then records that segment in the {@code checkpoint} file and deletes the
+ *   older ones, so {@link #replay(Consumer)} reads at most the records since the last
+ *   checkpoint.
+ * - A torn or corrupt record ends the replay of its segment; later segments are still read.
+ * - A failed write or sync fails the commands of its batch only. The writer then continues
+ *   in a new segment, so the torn tail is left behind; the failed records may or may not
+ *   be replayed. A checkpoint fails if any record was lost while it wrote the state.
+ * - Batch sizes and sync times are recorded in {@link GameMetrics}.
+ */
+public class GameEventLog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(GameEventLog.class);
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String SEGMENT_PREFIX = "events-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final int MAX_BATCH = 4096;
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final Path dir;
+    private final long segmentBytes;
+    private final GameMetrics gameMetrics;
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Object checkpointLock = new Object();
+    private Thread writer;
+    private volatile boolean closed;
+
+    // owned by the writer thread once started
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private FileChannel segment;
+    private long segmentId;
+    private long segmentSize;
+    private boolean broken;
+    private boolean lostSinceRoll;
+
+    /**
+     * Opens the log in a directory, creating it if needed.
+     *
+     * @param dir the directory holding the segments and the checkpoint file
+     * @param segmentBytes the size after which a new segment is started
+     * @param gameMetrics metrics for batch sizes and sync times
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public GameEventLog(Path dir, long segmentBytes, GameMetrics gameMetrics) {
+        if (segmentBytes < HEADER_BYTES + 1) {
+            throw new IllegalArgumentException("Event log segment size is too small");
+        }
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.gameMetrics = gameMetrics;
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create game event log directory " + dir, e);
+        }
+    }
+
+    /**
+     * Reads the records of the segments since the last checkpoint, oldest first.
+     * Must be called before {@link #start()}.
+     *
+     * @param action receives each record's payload
+     * @return the number of records read
+     */
+    public long replay(Consumer<ByteBuffer> action) {
+        long first = readCheckpoint();
+        long count = 0;
+        for (long id : segmentIds()) {
+            if (id < first) {
+                continue;
+            }
+            count += replaySegment(segmentPath(id), action);
+        }
+        return count;
+    }
+
+    private long replaySegment(Path path, Consumer<ByteBuffer> action) {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            CRC32C check = new CRC32C();
+            long position = 0;
+
+            while (position + HEADER_BYTES <= size) {
+                header.clear();
+                channel.read(header, position);
+                int length = header.getInt(0);
+                int expected = header.getInt(4);
+                if (length <= 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length > size) {
+                    break;
+                }
+
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                channel.read(payload, position + HEADER_BYTES);
+                payload.flip();
+                check.reset();
+                check.update(payload.duplicate());
+                if ((int) check.getValue() != expected) {
+                    break;
+                }
+
+                action.accept(payload);
+                count++;
+                position += HEADER_BYTES + length;
+            }
+
+            if (position < size) {
+                log.warn("Game event log segment {} ends with {} unreadable bytes", path, size - position);
+            }
+        } catch (IOException e) {
+            log.error("Failed to read game event log segment {}", path, e);
+        }
+        return count;
+    }
+
+    /**
+     * Opens a new segment after the existing ones and starts the writer thread.
+     *
+     * @throws UncheckedIOException if the segment cannot be created
+     */
+    public void start() {
+        List<Long> ids = segmentIds();
+        try {
+            openSegment(ids.isEmpty() ? 0 : ids.get(ids.size() - 1) + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open game event log in " + dir, e);
+        }
+        writer = new Thread(this::run, "game-event-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a record.
+     *
+     * @param payload the record, at most 1 MB
+     * @return a future completed once the record is synced to disk, or failed if the
+     *         record could not be written or the log is closed
+     */
+    public CompletableFuture<Void> append(byte[] payload) {
+        if (payload.length == 0 || payload.length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Invalid event log record size: " + payload.length);
+        }
+        Command command = new Command(Command.APPEND, payload);
+        enqueue(command);
+        return command.done;
+    }
+
+    /**
+     * Writes a checkpoint: starts a new segment, runs {@code writeState}, which must
+     * append a record for every live entity, and then drops the segments before the new one.
+     * Records appended concurrently by other threads land in the new segment too.
+     *
+     * @param writeState appends the full state
+     * @throws UncheckedIOException if the checkpoint cannot be written
+     */
+    public void checkpoint(Runnable writeState) {
+        synchronized (checkpointLock) {
+            Command roll = new Command(Command.ROLL, null);
+            enqueue(roll);
+            roll.done.join();
+
+            writeState.run();
+
+            Command complete = new Command(Command.CHECKPOINT, null);
+            complete.segmentId = roll.segmentId;
+            enqueue(complete);
+            complete.done.join();
+        }
+    }
+
+    /**
+     * Writes the queued records, stops the writer thread and closes the segment.
+     */
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        closed = true;
+        Command stop = new Command(Command.STOP, null);
+        queue.add(stop);
+        try {
+            stop.done.join();
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Game event log did not close cleanly", e);
+        }
+        writer = null;
+        // commands queued while the log closed
+        Command command;
+        while ((command = queue.poll()) != null) {
+            command.done.completeExceptionally(new IOException("Game event log is closed"));
+        }
+    }
+
+    /** Queues a command, or fails it right away once the log is closed */
+    private void enqueue(Command command) {
+        if (closed) {
+            command.done.completeExceptionally(new IOException("Game event log is closed"));
+            return;
+        }
+        queue.add(command);
+    }
+
+    private void run() {
+        List<Command> batch = new ArrayList<>();
+        List<Command> appended = new ArrayList<>();
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            try {
+                if (broken) {
+                    recover();
+                }
+                for (Command command : batch) {
+                    switch (command.type) {
+                        case Command.APPEND -> {
+                            write(command.payload);
+                            appended.add(command);
+                        }
+                        case Command.ROLL -> {
+                            sync(appended);
+                            openSegment(segmentId + 1);
+                            command.segmentId = segmentId;
+                            lostSinceRoll = false;
+                        }
+                        case Command.CHECKPOINT -> {
+                            sync(appended);
+                            if (lostSinceRoll) {
+                                throw new IOException("Records were lost while the checkpoint was written");
+                            }
+                            writeCheckpoint(command.segmentId);
+                        }
+                        case Command.STOP -> {
+                            sync(appended);
+                            segment.close();
+                            running = false;
+                        }
+                        default -> throw new IllegalStateException("Unknown command " + command.type);
+                    }
+                    if (command.type != Command.APPEND) {
+                        command.done.complete(null);
+                    }
+                }
+                sync(appended);
+            } catch (IOException | RuntimeException e) {
+                log.error("Game event log write failed, failing a batch of {} commands", batch.size(), e);
+                IOException failure = e instanceof IOException io ? io : new IOException(e);
+                for (Command command : batch) {
+                    // commands completed before the failure keep their result
+                    command.done.completeExceptionally(failure);
+                    if (command.type == Command.STOP) {
+                        running = false;
+                    }
+                }
+                appended.clear();
+                lostSinceRoll = true;
+                broken = true;
+                if (running) {
+                    recoverSafely();
+                } else {
+                    closeSegmentQuietly();
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(byte[] payload) throws IOException {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (buffer.remaining() < recordSize) {
+            flush();
+        }
+        crc.reset();
+        crc.update(payload);
+
+        if (recordSize > buffer.capacity()) {
+            ByteBuffer record = ByteBuffer.allocate(recordSize);
+            record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+            while (record.hasRemaining()) {
+                segment.write(record);
+            }
+        } else {
+            buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        segmentSize += recordSize;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Writes the buffered records, syncs the segment and completes the appends */
+    private void sync(List<Command> appended) throws IOException {
+        if (appended.isEmpty()) {
+            return;
+        }
+        flush();
+        long start = System.nanoTime();
+        segment.force(false);
+        gameMetrics.recordEventLogSync(appended.size(), System.nanoTime() - start);
+
+        for (Command command : appended) {
+            command.done.complete(null);
+        }
+        appended.clear();
+
+        if (segmentSize >= segmentBytes) {
+            openSegment(segmentId + 1);
+        }
+    }
+
+    /**
+     * Drops the buffered records and continues in a new segment after every existing
+     * file, leaving the failed segment's tail as it is.
+     */
+    private void recover() throws IOException {
+        buffer.clear();
+        closeSegmentQuietly();
+        List<Long> ids = segmentIds();
+        openSegment(Math.max(segmentId, ids.isEmpty() ? 0 : ids.get(ids.size() - 1)) + 1);
+        broken = false;
+        log.info("Game event log continues in segment {}", segmentId);
+    }
+
+    /** Recovers now if possible; otherwise the next batch tries again and fails if it cannot */
+    private void recoverSafely() {
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to open a new game event log segment", e);
+        }
+    }
+
+    private void closeSegmentQuietly() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close game event log segment {}", segmentId, e);
+        }
+        segment = null;
+    }
+
+    private void openSegment(long id) throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+        segment = FileChannel.open(segmentPath(id), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        segmentId = id;
+        segmentSize = 0;
+    }
+
+    private void writeCheckpoint(long firstSegment) throws IOException {
+        Path checkpoint = dir.resolve(CHECKPOINT_FILE);
+        Path temp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, firstSegment));
+            channel.force(false);
+        }
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (long id : segmentIds()) {
+            if (id < firstSegment) {
+                Files.deleteIfExists(segmentPath(id));
+            }
+        }
+    }
+
+    private long readCheckpoint() {
+        Path checkpoint = dir.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        try {
+            return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read game event log checkpoint {}, replaying all segments", checkpoint, e);
+            return 0;
+        }
+    }
+
+    private List<Long> segmentIds() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list game event log segments in " + dir, e);
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static final class Command {
+        static final int APPEND = 0;
+        static final int ROLL = 1;
+        static final int CHECKPOINT = 2;
+        static final int STOP = 3;
+
+        final int type;
+        final byte[] payload;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        long segmentId;
+
+        Command(int type, byte[] payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.join.tab.infra.repository.file;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link GameRepository} that keeps at most {@code capacity} games in memory and
+ * spills the least recently used ones to an append-only file.
+ * A spilled game is read back and kept in memory again by the next
+ * {@link #findById(GameId)} or {@link #update(GameId, Function)}.
+ * Hot games behave as in {@link com.join.tab.infra.repository.memory.LiveGameRepository}:
+ * the stored instance is returned, and updates hold its monitor.
+ * Features:
+ * - Every access stamps the game with {@link System#nanoTime()}; when the capacity is
+ *   exceeded one thread spills the oldest games in a batch of 1/16 of the capacity.
+ * - A game is marked retired under its monitor when it is encoded for spilling, so an
+ *   update that runs before the slot is replaced retries on the faulted-in copy instead
+ *   of changing the dropped instance.
+ * - Records are encoded with {@link GameCodec} and never rewritten; when dead records
+ *   outweigh live ones the file is compacted in place.
+ * - Spills, faults, and the number of games in memory and on disk are recorded in {@link GameMetrics}.
+ * - The file is truncated on start and deleted on {@link #close()}.
+ */
+public class SpillingGameRepository implements GameRepository, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(SpillingGameRepository.class);
+
+    private static final long MIN_COMPACT_BYTES = 1 << 20;
+
+    private final int capacity;
+    private final int evictionBatch;
+    private final Path file;
+    private final FileChannel channel;
+    private final GameMetrics gameMetrics;
+    private final Map<GameId, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger hotCount = new AtomicInteger();
+    private final AtomicInteger spilledCount = new AtomicInteger();
+    private final AtomicLong deadBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /** read for faults, write for appends and compaction */
+    private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private long fileEnd;
+
+    /**
+     * Creates a new spilling repository.
+     *
+     * @param capacity the maximum number of games kept in memory
+     * @param file the spill file, created or truncated
+     * @param gameMetrics metrics for spills, faults and store sizes
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public SpillingGameRepository(int capacity, Path file, GameMetrics gameMetrics) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Game store capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.evictionBatch = Math.max(1, capacity / 16);
+        this.file = file;
+        this.gameMetrics = gameMetrics;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open game spill file " + file, e);
+        }
+        gameMetrics.registerGameStore(capacity, hotCount::get, spilledCount::get);
+        log.info("Game store keeps {} games in memory, spilling to {}", capacity, file);
+    }
+
+    @Override
+    public void save(HangmanGame game) {
+        Slot previous = slots.put(game.getGameId(), new Hot(game));
+        released(previous);
+        hotCount.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    @Override
+    public Optional<HangmanGame> findById(GameId gameId) {
+        Hot hot = hot(gameId);
+        return hot != null ? Optional.of(hot.game) : Optional.empty();
+    }
+
+    /**
+     * Applies a change to the game while holding its monitor, reading it back
+     * from the spill file first if needed.
+     */
+    @Override
+    public <R> Optional<R> update(GameId gameId, Function<HangmanGame, R> change) {
+        while (true) {
+            Hot hot = hot(gameId);
+            if (hot == null) {
+                return Optional.empty();
+            }
+            synchronized (hot.game) {
+                if (!hot.retired && slots.get(gameId) == hot) {
+                    return Optional.ofNullable(change.apply(hot.game));
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Visits the games in memory while holding their monitor, and decodes the
+     * spilled ones without moving them back into memory.
+     */
+    @Override
+    public void forEach(Consumer<HangmanGame> action) {
+        for (Slot slot : slots.values()) {
+            if (slot instanceof Hot hot) {
+                synchronized (hot.game) {
+                    action.accept(hot.game);
+                }
+            } else if (slot instanceof Spilled spilled) {
+                action.accept(GameCodec.decode(read(spilled)));
+            }
+        }
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        released(slots.remove(gameId));
+    }
+
+    /** Returns the in-memory slot of a game, faulting it in from the file if it was spilled */
+    private Hot hot(GameId gameId) {
+        Slot slot = slots.get(gameId);
+        if (slot instanceof Hot hot && !hot.retired) {
+            hot.stamp = System.nanoTime();
+            return hot;
+        }
+        if (slot == null) {
+            return null;
+        }
+
+        boolean[] faulted = {false};
+        Slot current = slots.computeIfPresent(gameId, (id, existing) -> {
+            if (existing instanceof Spilled spilled) {
+                HangmanGame game = GameCodec.decode(read(spilled));
+                markDead(spilled);
+                spilledCount.decrementAndGet();
+                hotCount.incrementAndGet();
+                faulted[0] = true;
+                return new Hot(game);
+            }
+            return existing;
+        });
+
+        if (faulted[0]) {
+            gameMetrics.recordGameFaultedIn();
+            evictIfNeeded();
+        }
+        return current instanceof Hot hot ? hot : null;
+    }
+
+    private void released(Slot slot) {
+        if (slot instanceof Hot) {
+            hotCount.decrementAndGet();
+        } else if (slot instanceof Spilled spilled) {
+            spilledCount.decrementAndGet();
+            markDead(spilled);
+        }
+    }
+
+    /**
+     * Counts a record as dead. Takes the file read lock so that compaction, which
+     * recomputes the dead bytes under the write lock, sees either both the flag and
+     * the count or neither.
+     */
+    private void markDead(Spilled spilled) {
+        fileLock.readLock().lock();
+        try {
+            spilled.dead = true;
+            deadBytes.addAndGet(spilled.length);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (hotCount.get() <= capacity || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = hotCount.get() - capacity;
+            if (excess <= 0) {
+                return;
+            }
+
+            List<Map.Entry<GameId, Hot>> candidates = new ArrayList<>();
+            for (Map.Entry<GameId, Slot> entry : slots.entrySet()) {
+                if (entry.getValue() instanceof Hot hot) {
+                    candidates.add(Map.entry(entry.getKey(), hot));
+                }
+            }
+            candidates.sort(Comparator.comparingLong(entry -> entry.getValue().stamp));
+
+            int spilled = 0;
+            int target = Math.min(candidates.size(), excess + evictionBatch - 1);
+            for (int i = 0; i < target; i++) {
+                if (spill(candidates.get(i).getKey(), candidates.get(i).getValue())) {
+                    spilled++;
+                }
+            }
+            gameMetrics.recordGamesSpilled(spilled);
+            compactIfNeeded();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean spill(GameId gameId, Hot hot) {
+        boolean[] spilled = {false};
+        slots.computeIfPresent(gameId, (id, existing) -> {
+            if (existing != hot) {
+                return existing;
+            }
+            byte[] record;
+            synchronized (hot.game) {
+                record = GameCodec.encode(hot.game);
+                // the slot is only replaced when this lambda returns, so changes must stop here
+                hot.retired = true;
+            }
+            long offset;
+            try {
+                offset = append(record);
+            } catch (RuntimeException e) {
+                synchronized (hot.game) {
+                    hot.retired = false;
+                }
+                throw e;
+            }
+            hotCount.decrementAndGet();
+            spilledCount.incrementAndGet();
+            spilled[0] = true;
+            return new Spilled(offset, record.length);
+        });
+        return spilled[0];
+    }
+
+    private long append(byte[] record) {
+        fileLock.writeLock().lock();
+        try {
+            long offset = fileEnd;
+            writeFully(ByteBuffer.wrap(record), offset);
+            fileEnd += record.length;
+            return offset;
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private byte[] read(Spilled spilled) {
+        fileLock.readLock().lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(spilled.length);
+            readFully(buffer, spilled.offset);
+            return buffer.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spilled game", e);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the live records to the front of the file when dead records take more
+     * than half of it. Records only move towards the start, so they are copied in
+     * offset order without a second file. Records of games that are being faulted
+     * in are still in the map, so they are copied too and stay counted as dead.
+     */
+    private void compactIfNeeded() {
+        fileLock.writeLock().lock();
+        try {
+            if (fileEnd < MIN_COMPACT_BYTES || deadBytes.get() * 2 < fileEnd) {
+                return;
+            }
+
+            List<Spilled> live = new ArrayList<>();
+            for (Slot slot : slots.values()) {
+                if (slot instanceof Spilled spilled) {
+                    live.add(spilled);
+                }
+            }
+            live.sort(Comparator.comparingLong(spilled -> spilled.offset));
+
+            long position = 0;
+            long dead = 0;
+            for (Spilled spilled : live) {
+                if (spilled.offset != position) {
+                    ByteBuffer buffer = ByteBuffer.allocate(spilled.length);
+                    readFully(buffer, spilled.offset);
+                    buffer.flip();
+                    writeFully(buffer, position);
+                    spilled.offset = position;
+                }
+                position += spilled.length;
+                if (spilled.dead) {
+                    dead += spilled.length;
+                }
+            }
+            channel.truncate(position);
+            log.debug("Compacted game spill file from {} to {} bytes", fileEnd, position);
+            deadBytes.set(dead);
+            fileEnd = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact game spill file", e);
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of game spill file");
+            }
+            position += read;
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) {
+        try {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write game spill file", e);
+        }
+    }
+
+    /** Closes and deletes the spill file */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete game spill file {}", file, e);
+        }
+    }
+
+    public int getHotCount() {
+        return hotCount.get();
+    }
+
+    public int getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    public long getDeadBytes() {
+        return deadBytes.get();
+    }
+
+    /** A stored game, in memory or in the spill file */
+    private interface Slot {
+    }
+
+    private static final class Hot implements Slot {
+        private final HangmanGame game;
+        private volatile long stamp = System.nanoTime();
+        /** set under the game's monitor once the game is encoded for spilling */
+        private volatile boolean retired;
+
+        Hot(HangmanGame game) {
+            this.game = game;
+        }
+    }
+
+    private static final class Spilled implements Slot {
+        /** moved by compaction under the file write lock */
+        private volatile long offset;
+        private final int length;
+        /** set once the game was faulted in, replaced or deleted */
+        private volatile boolean dead;
+
+        Spilled(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
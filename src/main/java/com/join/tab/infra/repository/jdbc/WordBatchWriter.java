@@ -0,0 +1,101 @@
+package com.join.tab.infra.repository.jdbc;
+
+import com.join.tab.infra.entity.WordEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts new words with plain JDBC batches instead of one JPA {@code save} per word,
+ * and switches the active flag of many words with bulk {@code UPDATE} statements.
+ * Runs inside the caller's transaction.
+ * <p>
+ *     The words are expected to be validated, normalized and deduplicated
+ *     already; {@link WordEntity} is only used as a value holder here, the
+ *     JPA lifecycle callbacks are not invoked.
+ * </p>
+ * The batch size, also used as the id count of one bulk update, is set by
+ * {@code hangman.words.import.batch-size}.
+ */
+@Repository
+public class WordBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO words (content, language, length, category, difficulty_level, created_at, updated_at, is_active)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_ACTIVE_SQL = "UPDATE words SET is_active = ?, updated_at = ? WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public WordBatchWriter(JdbcTemplate jdbcTemplate, @Value("${hangman.words.import.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("hangman.words.import.batch-size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts the given words in batches.
+     *
+     * @param words the words to insert
+     * @return the number of inserted words
+     */
+    public int insert(List<WordEntity> words) {
+        if (words.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, words, batchSize, (ps, word) -> {
+            ps.setString(1, word.getContent());
+            ps.setString(2, word.getLanguage());
+            ps.setInt(3, word.getLength());
+            ps.setString(4, word.getCategory());
+            ps.setString(5, word.getDifficultlyLevel().name());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setBoolean(8, Boolean.TRUE.equals(word.getActive()));
+        });
+        return words.size();
+    }
+
+    /**
+     * Sets the active flag of the given words, with one {@code UPDATE ... WHERE id IN (...)}
+     * statement per batch of ids.
+     *
+     * @param ids the ids of the words to update
+     * @param active the new active flag
+     * @return the number of updated rows
+     */
+    public int updateActive(List<Long> ids, boolean active) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = 0;
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String sql = String.format(UPDATE_ACTIVE_SQL, String.join(",", Collections.nCopies(batch.size(), "?")));
+
+            Object[] args = new Object[batch.size() + 2];
+            args[0] = active;
+            args[1] = now;
+            for (int i = 0; i < batch.size(); i++) {
+                args[i + 2] = batch.get(i);
+            }
+            updated += jdbcTemplate.update(sql, args);
+        }
+        return updated;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
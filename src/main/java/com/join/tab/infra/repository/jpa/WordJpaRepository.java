@@ -1,10 +1,12 @@
 package com.join.tab.infra.repository.jpa;
 
+import com.join.tab.domain.enums.DifficultyLevel;
 import com.join.tab.infra.entity.WordEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,8 +15,9 @@ import java.util.Optional;
  * Provides methods to fetch random words, filter by difficulty, length, or category,
  * find by content, list active words, and retrieve statistics such as categories or total count.
  * Extend {@link  JpaRepository} to provide standard CRUD operation.
+ * The id-range sampling queries come from {@link WordSamplingQueries}.
  */
-public interface WordJpaRepository extends JpaRepository<WordEntity, Long> {
+public interface WordJpaRepository extends JpaRepository<WordEntity, Long>, WordSamplingQueries {
 
     /**
      * Finds a single random active word with the specified difficulty level.
@@ -65,6 +68,13 @@ public interface WordJpaRepository extends JpaRepository<WordEntity, Long> {
      */
     List<WordEntity> findByIsActiveTrueOrderByContentAsc();
 
+    /**
+     * Retrieves all active words, used to build the in-memory word catalog.
+     *
+     * @return a list of active {@link WordEntity} objects
+     */
+    List<WordEntity> findByIsActiveTrue();
+
     /** Random word by language */
     @Query(value = """
             SELECT *
@@ -143,6 +153,54 @@ public interface WordJpaRepository extends JpaRepository<WordEntity, Long> {
             @Param("maxLength") int maxLength
     );
 
+    /**
+     * Returns the content of every word of a language, active or not.
+     * Used by bulk imports to check for existing words in memory instead of
+     * querying once per imported word.
+     *
+     * @param language the language code
+     * @return the lowercase word contents
+     */
+    @Query("""
+            SELECT LOWER(w.content)
+            FROM WordEntity w
+            WHERE w.language = :language""")
+    List<String> findContentsByLanguage(@Param("language") String language);
+
+    /**
+     * Returns which of the given words are already stored for a language, active or not.
+     * Used by streaming imports, which only keep one chunk of words in memory.
+     *
+     * @param language the language code
+     * @param contents the lowercase word contents to look up
+     * @return the stored contents among {@code contents}
+     */
+    @Query("""
+            SELECT w.content
+            FROM WordEntity w
+            WHERE
+                w.language = :language
+                AND w.content IN :contents""")
+    List<String> findStoredContents(
+            @Param("language") String language,
+            @Param("contents") Collection<String> contents);
+
+    /**
+     * Returns the id, content and active flag of every stored word.
+     * Used by the reload to diff the word files against the database
+     * without loading full entities.
+     *
+     * @return one row per word, with lowercase content
+     */
+    @Query("""
+            SELECT
+                w.id AS id,
+                w.language AS language,
+                LOWER(w.content) AS content,
+                w.isActive AS active
+            FROM WordEntity w""")
+    List<WordState> findAllWordStates();
+
     /**  Check if word exists for specific language */
     Optional<WordEntity> findByContentIgnoreCaseAndLanguage(
             String content, String language);
@@ -196,6 +254,23 @@ public interface WordJpaRepository extends JpaRepository<WordEntity, Long> {
     long countByLanguageAndCategoryAndIsActiveTrue(
             String language, String category);
 
+    /**
+     * Counts all words of every (language, category, difficulty) bucket,
+     * split into active and inactive words, in a single aggregate query.
+     *
+     * @return one row per non-empty bucket and status
+     */
+    @Query("""
+            SELECT
+                w.language AS language,
+                w.category AS category,
+                w.difficultlyLevel AS difficultyLevel,
+                w.isActive AS active,
+                COUNT(w) AS wordCount
+            FROM WordEntity w
+            GROUP BY w.language, w.category, w.difficultlyLevel, w.isActive""")
+    List<BucketStatusCount> countWordsByBucketAndStatus();
+
     /**  fallback - get any random word if no words found for specific language */
     @Query(value = """
         SELECT *
@@ -204,4 +279,31 @@ public interface WordJpaRepository extends JpaRepository<WordEntity, Long> {
         ORDER BY RANDOM()
         LIMIT 1""", nativeQuery = true)
     Optional<WordEntity> findAnyRandomWord();
+
+    /** Projection of the active word count of a word bucket */
+    interface BucketCount {
+        String getLanguage();
+        String getCategory();
+        DifficultyLevel getDifficultyLevel();
+        long getWordCount();
+    }
+
+    /** Projection of the word count of a word bucket with a given active flag */
+    interface BucketStatusCount extends BucketCount {
+        Boolean getActive();
+    }
+
+    /** Projection of the stored state of a word */
+    interface WordState {
+        Long getId();
+        String getLanguage();
+        String getContent();
+        Boolean getActive();
+    }
+
+    /** Projection of the id bounds of a word bucket */
+    interface IdRange {
+        Long getMinId();
+        Long getMaxId();
+    }
 }
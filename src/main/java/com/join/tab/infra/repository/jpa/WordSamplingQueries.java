@@ -0,0 +1,60 @@
+package com.join.tab.infra.repository.jpa;
+
+import com.join.tab.infra.entity.WordEntity;
+
+import java.util.Optional;
+
+/**
+ * Bucket queries of the id-range sampling strategy.
+ * Each combination of given criteria gets its own SQL statement with only the
+ * predicates it needs, so the database plans it against the index whose prefix
+ * matches those criteria instead of one generic plan for all combinations.
+ */
+public interface WordSamplingQueries {
+
+    /**
+     * Returns the smallest and largest id of the active words in a bucket.
+     * Used by the id-range sampling strategy to pick a random starting point
+     * without sorting the bucket. {@code null} criteria match any value.
+     *
+     * @param language the language code, or {@code null} for any language
+     * @param category the category, or {@code null} for any category
+     * @param level the difficulty level, or {@code null} for any level
+     * @return the id range, with {@code null} bounds if the bucket is empty
+     */
+    WordJpaRepository.IdRange findActiveIdRange(String language, String category, String level);
+
+    /**
+     * Seeks to the first active word of a bucket whose id is greater than or equal
+     * to the given id. Served by an index range scan, no sort of the bucket.
+     *
+     * @param language the language code, or {@code null} for any language
+     * @param category the category, or {@code null} for any category
+     * @param level the difficulty level, or {@code null} for any level
+     * @param fromId the id to start seeking from
+     * @return an {@link Optional} containing the word, or empty if no active word follows {@code fromId}
+     */
+    Optional<WordEntity> findFirstActiveWordFromId(String language, String category, String level, long fromId);
+
+    /**
+     * Counts the active words of a bucket. {@code null} criteria match any value.
+     *
+     * @param language the language code, or {@code null} for any language
+     * @param category the category, or {@code null} for any category
+     * @param level the difficulty level, or {@code null} for any level
+     * @return the number of active words
+     */
+    long countActiveWords(String language, String category, String level);
+
+    /**
+     * Returns the active word of a bucket at a position in id order. Served by walking
+     * the bucket index from its start, no sort of the bucket.
+     *
+     * @param language the language code, or {@code null} for any language
+     * @param category the category, or {@code null} for any category
+     * @param level the difficulty level, or {@code null} for any level
+     * @param offset the zero-based position of the word
+     * @return an {@link Optional} containing the word, or empty if the bucket has fewer words
+     */
+    Optional<WordEntity> findActiveWordAt(String language, String category, String level, long offset);
+}
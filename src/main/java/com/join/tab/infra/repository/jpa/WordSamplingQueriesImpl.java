@@ -0,0 +1,116 @@
+package com.join.tab.infra.repository.jpa;
+
+import com.join.tab.infra.entity.WordEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the bucket queries of {@link WordSamplingQueries} from the given criteria.
+ * The statements, one per query and combination of language, category and difficulty,
+ * are built once; the database caches a plan for each of them.
+ */
+public class WordSamplingQueriesImpl implements WordSamplingQueries {
+
+    private static final String[] ID_RANGE_SQL = new String[8];
+    private static final String[] SEEK_SQL = new String[8];
+    private static final String[] COUNT_SQL = new String[8];
+    private static final String[] OFFSET_SQL = new String[8];
+
+    static {
+        for (int shape = 0; shape < 8; shape++) {
+            String where = bucketPredicates(shape);
+            ID_RANGE_SQL[shape] = "SELECT MIN(id), MAX(id) FROM words WHERE " + where;
+            SEEK_SQL[shape] = "SELECT * FROM words WHERE " + where + " AND id >= :fromId ORDER BY id LIMIT 1";
+            COUNT_SQL[shape] = "SELECT COUNT(*) FROM words WHERE " + where;
+            OFFSET_SQL[shape] = "SELECT * FROM words WHERE " + where + " ORDER BY id LIMIT 1 OFFSET :offset";
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public WordJpaRepository.IdRange findActiveIdRange(String language, String category, String level) {
+        Query query = entityManager.createNativeQuery(ID_RANGE_SQL[shape(language, category, level)]);
+        bind(query, language, category, level);
+        Object[] row = (Object[]) query.getSingleResult();
+        return new Range(toLong(row[0]), toLong(row[1]));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<WordEntity> findFirstActiveWordFromId(String language, String category, String level, long fromId) {
+        Query query = entityManager.createNativeQuery(SEEK_SQL[shape(language, category, level)], WordEntity.class);
+        bind(query, language, category, level);
+        query.setParameter("fromId", fromId);
+        List<WordEntity> words = query.getResultList();
+        return words.stream().findFirst();
+    }
+
+    @Override
+    public long countActiveWords(String language, String category, String level) {
+        Query query = entityManager.createNativeQuery(COUNT_SQL[shape(language, category, level)]);
+        bind(query, language, category, level);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<WordEntity> findActiveWordAt(String language, String category, String level, long offset) {
+        Query query = entityManager.createNativeQuery(OFFSET_SQL[shape(language, category, level)], WordEntity.class);
+        bind(query, language, category, level);
+        query.setParameter("offset", offset);
+        List<WordEntity> words = query.getResultList();
+        return words.stream().findFirst();
+    }
+
+    private static int shape(String language, String category, String level) {
+        return (language != null ? 1 : 0) | (category != null ? 2 : 0) | (level != null ? 4 : 0);
+    }
+
+    private static String bucketPredicates(int shape) {
+        StringBuilder where = new StringBuilder("is_active = true");
+        if ((shape & 1) != 0) {
+            where.append(" AND language = :language");
+        }
+        if ((shape & 2) != 0) {
+            where.append(" AND category = :category");
+        }
+        if ((shape & 4) != 0) {
+            where.append(" AND difficulty_level = :level");
+        }
+        return where.toString();
+    }
+
+    private static void bind(Query query, String language, String category, String level) {
+        if (language != null) {
+            query.setParameter("language", language);
+        }
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (level != null) {
+            query.setParameter("level", level);
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private record Range(Long minId, Long maxId) implements WordJpaRepository.IdRange {
+        @Override
+        public Long getMinId() {
+            return minId;
+        }
+
+        @Override
+        public Long getMaxId() {
+            return maxId;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.join.tab.infra.repository.jpa.impl;
+
+import com.join.tab.infra.catalog.WordCatalogChangedEvent;
+import com.join.tab.infra.entity.WordEntity;
+import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks random words in the database without sorting the matching rows.
+ * Features:
+ * - A bucket with any criterion (language, category, difficulty) caches its number of
+ *   active words, draws a random position and reads the word at that position in id
+ *   order, walking the bucket index from its start. Every word is equally likely.
+ *   Seeking to a random id would not be: a bucket's ids interleave with those of the
+ *   other buckets, so a word would be picked in proportion to the run of foreign ids
+ *   before it.
+ * - The bucket of all words caches the smallest and largest active id, draws a random id
+ *   in that range and seeks to the first active word at or after it through the primary
+ *   key. Only deactivated rows leave gaps there; words after a large gap are picked
+ *   slightly more often, which is fine for a game.
+ * - The cache is dropped whenever the word catalog changes.
+ */
+@Component
+public class IdRangeWordSampler {
+    private static final Logger log = LoggerFactory.getLogger(IdRangeWordSampler.class);
+
+    private final WordJpaRepository jpaRepository;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public IdRangeWordSampler(WordJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    /**
+     * Picks a random active word of a bucket. {@code null} criteria match any value.
+     *
+     * @param language the language code, or {@code null} for any language
+     * @param category the category, or {@code null} for any category
+     * @param level the difficulty level name, or {@code null} for any level
+     * @return an {@link Optional} containing a random word, or empty if the bucket is empty
+     */
+    public Optional<WordEntity> sample(String language, String category, String level) {
+        String key = language + '|' + category + '|' + level;
+        Bucket bucket = buckets.computeIfAbsent(key, k -> loadBucket(language, category, level));
+        if (bucket.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<WordEntity> word = bucket.counted()
+                ? sampleByPosition(language, category, level, bucket)
+                : sampleById(bucket);
+
+        if (word.isEmpty()) {
+            // the tail of the bucket was deactivated after it was cached
+            log.debug("Stale bounds for bucket {}, wrapping around", key);
+            buckets.remove(key);
+            word = bucket.counted()
+                    ? jpaRepository.findActiveWordAt(language, category, level, 0)
+                    : jpaRepository.findFirstActiveWordFromId(null, null, null, bucket.minId);
+        }
+        return word;
+    }
+
+    private Optional<WordEntity> sampleByPosition(String language, String category, String level, Bucket bucket) {
+        long offset = ThreadLocalRandom.current().nextLong(bucket.count);
+        return jpaRepository.findActiveWordAt(language, category, level, offset);
+    }
+
+    private Optional<WordEntity> sampleById(Bucket bucket) {
+        long fromId = ThreadLocalRandom.current().nextLong(bucket.minId, bucket.maxId + 1);
+        return jpaRepository.findFirstActiveWordFromId(null, null, null, fromId);
+    }
+
+    /**
+     * Drops all cached id ranges once a catalog change is committed.
+     *
+     * @param event the catalog change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(WordCatalogChangedEvent event) {
+        buckets.clear();
+    }
+
+    private Bucket loadBucket(String language, String category, String level) {
+        if (language != null || category != null || level != null) {
+            return Bucket.counted(jpaRepository.countActiveWords(language, category, level));
+        }
+        WordJpaRepository.IdRange range = jpaRepository.findActiveIdRange(null, null, null);
+        if (range == null || range.getMinId() == null || range.getMaxId() == null) {
+            return Bucket.EMPTY;
+        }
+        return new Bucket(range.getMinId(), range.getMaxId(), -1);
+    }
+
+    /** Cached bounds of one bucket: its word count, or its id range if it has no criteria */
+    private static final class Bucket {
+        private static final Bucket EMPTY = new Bucket(0, -1, 0);
+
+        private final long minId;
+        private final long maxId;
+        private final long count;
+
+        private Bucket(long minId, long maxId, long count) {
+            this.minId = minId;
+            this.maxId = maxId;
+            this.count = count;
+        }
+
+        private static Bucket counted(long count) {
+            return new Bucket(0, -1, count);
+        }
+
+        private boolean counted() {
+            return count >= 0;
+        }
+
+        private boolean isEmpty() {
+            return counted() ? count == 0 : maxId < minId;
+        }
+    }
+}
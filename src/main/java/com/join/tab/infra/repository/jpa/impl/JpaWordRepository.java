@@ -11,6 +11,7 @@ import com.join.tab.infra.repository.jpa.WordJpaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
@@ -26,6 +27,8 @@ import java.util.Optional;
  * - Check if a word exists and counts active words.
  * - Convert between domain and entity representations.
  * - Logs warnings if the database contains no words.
+ * Random words are picked with the configured {@link RandomWordStrategy}
+ * ({@code hangman.words.random-strategy}, defaults to {@code order-by-random}).
  */
 @Repository
 @Primary
@@ -33,14 +36,23 @@ public class JpaWordRepository implements WordRepository {
 
     private static final Logger log = LoggerFactory.getLogger(JpaWordRepository.class);
     private final WordJpaRepository jpaRepository;
+    private final IdRangeWordSampler idRangeSampler;
+    private final RandomWordStrategy randomStrategy;
 
     /**
      * Constructor a new JpaWordRepository using the underlying Jpa repository.
      *
      * @param jpaRepository the Jpa repository for WordEntity
+     * @param idRangeSampler the sampler used by the {@link RandomWordStrategy#ID_RANGE} strategy
+     * @param randomStrategy the strategy used to pick random words
      */
-    public JpaWordRepository(WordJpaRepository jpaRepository) {
+    public JpaWordRepository(
+            WordJpaRepository jpaRepository, IdRangeWordSampler idRangeSampler,
+            @Value("${hangman.words.random-strategy:order-by-random}") RandomWordStrategy randomStrategy) {
         this.jpaRepository = jpaRepository;
+        this.idRangeSampler = idRangeSampler;
+        this.randomStrategy = randomStrategy;
+        log.info("Random word strategy: {}", randomStrategy);
     }
 
 
@@ -59,11 +71,13 @@ public class JpaWordRepository implements WordRepository {
         String categoryParam = preferences.hasCategory() ? preferences.getCategory() : null;
         String difficultyParam = preferences.hasDifficulty() ? preferences.getDifficulty().name() : null;
 
-        Optional<WordEntity> randomWord = jpaRepository.findRandomWordByCriteria(
-                preferences.getLanguage().getCode(),
-                categoryParam,
-                difficultyParam
-        );
+        Optional<WordEntity> randomWord = isIdRangeSampling()
+                ? idRangeSampler.sample(preferences.getLanguage().getCode(), categoryParam, difficultyParam)
+                : jpaRepository.findRandomWordByCriteria(
+                        preferences.getLanguage().getCode(),
+                        categoryParam,
+                        difficultyParam
+                );
 
         if (randomWord.isEmpty()) {
             log.warn("No words found for preferences: {}, trying language only", preferences);
@@ -75,7 +89,9 @@ public class JpaWordRepository implements WordRepository {
     }
 
     public Word getRandomWordByLanguageAndCategory(Language language, String category) {
-        Optional<WordEntity> randomWord = jpaRepository.findRandomWordByLanguageAndCategory(language.getCode(), category);
+        Optional<WordEntity> randomWord = isIdRangeSampling()
+                ? idRangeSampler.sample(language.getCode(), category, null)
+                : jpaRepository.findRandomWordByLanguageAndCategory(language.getCode(), category);
 
         if (randomWord.isEmpty()) {
             log.warn("No words found for language: {} and category: {}, trying language only",
@@ -87,7 +103,9 @@ public class JpaWordRepository implements WordRepository {
     }
 
     public Word getRandomWordByLanguage(Language language) {
-        Optional<WordEntity> randomWord = jpaRepository.findRandomWordByLanguage(language.getCode());
+        Optional<WordEntity> randomWord = isIdRangeSampling()
+                ? idRangeSampler.sample(language.getCode(), null, null)
+                : jpaRepository.findRandomWordByLanguage(language.getCode());
 
         if (randomWord.isEmpty()) {
             log.warn("No words found for language: {}, trying fallback", language.getCode());
@@ -117,7 +135,9 @@ public class JpaWordRepository implements WordRepository {
      * @return a {@link Word} form the database
      */
     public Word getRandomWordByDifficulty( DifficultyLevel difficulty) {
-        Optional<WordEntity> randomWord = jpaRepository.findRandomWordByDifficulty(difficulty.name());
+        Optional<WordEntity> randomWord = isIdRangeSampling()
+                ? idRangeSampler.sample(null, null, difficulty.name())
+                : jpaRepository.findRandomWordByDifficulty(difficulty.name());
         return randomWord.map(this::convertToDomain).orElse(getRandomWord());
     }
 
@@ -155,7 +175,9 @@ public class JpaWordRepository implements WordRepository {
         return jpaRepository.countByLanguageAndIsActiveTrue(language.getCode());
     }
     private Word getFallbackWord() {
-        Optional<WordEntity> fallback = jpaRepository.findAnyRandomWord();
+        Optional<WordEntity> fallback = isIdRangeSampling()
+                ? idRangeSampler.sample(null, null, null)
+                : jpaRepository.findAnyRandomWord();
         if (fallback.isEmpty()) {
             log.error("No words available in database at all!");
             throw new IllegalStateException("No words available in the database");
@@ -166,6 +188,10 @@ public class JpaWordRepository implements WordRepository {
         return convertToDomain(fallback.get());
     }
 
+    private boolean isIdRangeSampling() {
+        return randomStrategy == RandomWordStrategy.ID_RANGE;
+    }
+
     /**
      * Convert a {@link WordEntity} to the domain {@link Word} object.
      *
@@ -0,0 +1,15 @@
+package com.join.tab.infra.repository.jpa.impl;
+
+/**
+ * Strategy used by {@link JpaWordRepository} to pick a random word in the database.
+ * Selected with {@code hangman.words.random-strategy}.
+ */
+public enum RandomWordStrategy {
+    /** {@code ORDER BY RANDOM() LIMIT 1}: uniform, but sorts every matching row */
+    ORDER_BY_RANDOM,
+    /**
+     * Random position among the cached word count of the bucket, read through its index;
+     * for the bucket of all words a random id inside its cached id range, then an index seek
+     */
+    ID_RANGE
+}
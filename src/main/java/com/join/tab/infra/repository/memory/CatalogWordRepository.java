@@ -0,0 +1,91 @@
+package com.join.tab.infra.repository.memory;
+
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.WordRepository;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.catalog.WordCatalog;
+import com.join.tab.infra.catalog.WordCatalogSnapshot;
+import com.join.tab.infra.repository.jpa.impl.JpaWordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link WordRepository} backed by the in-memory {@link WordCatalog}.
+ * Picking a word is a random index into a precomputed bucket, so starting a
+ * game does not need a database round trip.
+ * Follows the same fallback chain as {@link JpaWordRepository}:
+ * criteria -> language -> any word.
+ */
+@Repository
+public class CatalogWordRepository implements WordRepository {
+    private static final Logger log = LoggerFactory.getLogger(CatalogWordRepository.class);
+
+    private final WordCatalog wordCatalog;
+    private final JpaWordRepository jpaWordRepository;
+
+    public CatalogWordRepository(WordCatalog wordCatalog, JpaWordRepository jpaWordRepository) {
+        this.wordCatalog = wordCatalog;
+        this.jpaWordRepository = jpaWordRepository;
+    }
+
+    /**
+     * Returns a random word for the default preferences.
+     *
+     * @return a randomly selected {@link Word}
+     * @throws IllegalStateException if the catalog has no words at all
+     */
+    @Override
+    public Word getRandomWord() {
+        return getRandomWordByPreferences(GamePreferences.defaultPreferences());
+    }
+
+    @Override
+    public Word getRandomWordByPreferences(GamePreferences preferences) {
+        WordCatalogSnapshot snapshot = wordCatalog.current();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        String language = preferences.getLanguage().getCode();
+        String category = preferences.hasCategory() ? preferences.getCategory() : null;
+
+        Word word = snapshot.pick(language, category, preferences.getDifficulty(), random);
+        if (word != null) {
+            return word;
+        }
+
+        log.warn("No words found for preferences: {}, trying language only", preferences);
+        return getRandomWordByLanguage(snapshot, preferences.getLanguage(), random);
+    }
+
+    private Word getRandomWordByLanguage(WordCatalogSnapshot snapshot, Language language, ThreadLocalRandom random) {
+        Word word = snapshot.pickByLanguage(language.getCode(), random);
+        if (word != null) {
+            return word;
+        }
+
+        log.warn("No words found for language: {}, trying fallback", language.getCode());
+        Word fallback = snapshot.pickAny(random);
+        if (fallback == null) {
+            log.error("No words available in database at all!");
+            throw new IllegalStateException("No words available in the database");
+        }
+
+        log.info("Using fallback word: {} in language: {}", fallback.getContent(), fallback.getLanguage());
+        return fallback;
+    }
+
+    /**
+     * Finds a word by its database ID.
+     * The catalog is not indexed by ID, so this goes to the database.
+     *
+     * @param id the ID of the word to find
+     * @return the {@link Word}, or {@code null} if not found
+     */
+    @Override
+    public Word findById(Long id) {
+        return jpaWordRepository.findById(id);
+    }
+}
@@ -0,0 +1,263 @@
+package com.join.tab.infra.repository.memory;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link GameRepository} decorator that removes games nobody has touched for
+ * the idle timeout ({@code hangman.game.session-timeout}).
+ * Every stored game has one entry in a {@link HashedTimingWheel}. An access only
+ * writes the entry's last access time; when the entry fires, a game that was
+ * accessed in the meantime is rescheduled at its new deadline, otherwise it is
+ * deleted from the delegate. So a guess costs no wheel operation, and a game is
+ * rescheduled at most once per timeout.
+ * Features:
+ * - Expired games are counted in {@code hangman.games.expired}.
+ * - Keeps the {@code hangman.games.active} gauge at the number of stored games
+ *   in progress: finished, deleted and expired games leave it.
+ * - Games the delegate already holds when it is wrapped, e.g. replayed from a log,
+ *   are tracked as if they were saved at that moment.
+ * - Saving, deleting and expiring a game are serialized on the game's entry, so an expiry
+ *   never deletes a game that was started again for the same session. The delegate is
+ *   called outside of the map's locks, so a store that waits for its writes to be synced
+ *   only holds up that one game.
+ * - Idle games are removed with {@link GameRepository#evict(GameId)}, which need not wait
+ *   for the removal to be durable; an expiry lost in a crash simply runs again.
+ */
+public class ExpiringGameRepository implements GameRepository {
+    private static final Logger log = LoggerFactory.getLogger(ExpiringGameRepository.class);
+
+    private final GameRepository delegate;
+    private final GameMetrics gameMetrics;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final HashedTimingWheel<Entry> wheel;
+    private final Map<GameId, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new expiring repository.
+     *
+     * @param delegate the repository holding the games
+     * @param gameMetrics metrics for active and expired games
+     * @param idleTimeout the time without access after which a game is removed, zero to keep games
+     * @param tick the resolution of the timing wheel
+     * @param wheelSize the number of buckets of the timing wheel
+     */
+    public ExpiringGameRepository(GameRepository delegate, GameMetrics gameMetrics,
+                                  Duration idleTimeout, Duration tick, int wheelSize) {
+        this(delegate, gameMetrics, idleTimeout, tick, wheelSize, System::nanoTime);
+    }
+
+    /**
+     * Creates a new expiring repository with its own clock.
+     *
+     * @param nanoClock the source of {@link System#nanoTime()} like values
+     */
+    public ExpiringGameRepository(GameRepository delegate, GameMetrics gameMetrics,
+                                  Duration idleTimeout, Duration tick, int wheelSize, LongSupplier nanoClock) {
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout must not be negative");
+        }
+        this.delegate = delegate;
+        this.gameMetrics = gameMetrics;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.wheel = new HashedTimingWheel<>(tick.toNanos(), wheelSize, nanoClock.getAsLong());
+
+        long now = nanoClock.getAsLong();
+        delegate.forEach(game -> {
+            Entry entry = new Entry(game.getGameId(), now);
+            schedule(entry, now);
+            setActive(entry, game.isInProgress());
+            entries.put(game.getGameId(), entry);
+        });
+    }
+
+    @Override
+    public void save(HangmanGame game) {
+        long now = nanoClock.getAsLong();
+        while (true) {
+            Entry entry = entries.computeIfAbsent(game.getGameId(), gameId -> {
+                Entry created = new Entry(gameId, now);
+                schedule(created, now);
+                return created;
+            });
+            synchronized (entry) {
+                if (entries.get(game.getGameId()) != entry) {
+                    continue;
+                }
+                delegate.save(game);
+                entry.lastAccessNanos = now;
+                setActive(entry, game.isInProgress());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Optional<HangmanGame> findById(GameId gameId) {
+        touch(gameId);
+        return delegate.findById(gameId);
+    }
+
+    @Override
+    public <R> Optional<R> update(GameId gameId, Function<HangmanGame, R> change) {
+        Entry entry = touch(gameId);
+        boolean[] inProgress = {true};
+        Optional<R> result = delegate.update(gameId, game -> {
+            R changed = change.apply(game);
+            inProgress[0] = game.isInProgress();
+            return changed;
+        });
+
+        if (entry != null && result.isPresent() && !inProgress[0]) {
+            setActive(entry, false);
+        }
+        return result;
+    }
+
+    @Override
+    public void forEach(Consumer<HangmanGame> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        remove(gameId, false);
+    }
+
+    @Override
+    public void evict(GameId gameId) {
+        remove(gameId, true);
+    }
+
+    private void remove(GameId gameId, boolean evict) {
+        Entry entry;
+        while ((entry = entries.get(gameId)) != null) {
+            synchronized (entry) {
+                if (entries.get(gameId) == entry) {
+                    removeLocked(entry, evict);
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Deletes the entry's game from the delegate and drops the entry, must hold its monitor */
+    private void removeLocked(Entry entry, boolean evict) {
+        if (evict) {
+            delegate.evict(entry.gameId);
+        } else {
+            delegate.delete(entry.gameId);
+        }
+        entries.remove(entry.gameId);
+        if (entry.timeout != null) {
+            entry.timeout.cancel();
+        }
+        setActive(entry, false);
+    }
+
+    /**
+     * Visits the timing wheel up to now and removes the idle games.
+     * Runs on a fixed rate, see {@code hangman.games.expiry.tick}.
+     *
+     * @return the number of removed games
+     */
+    @Scheduled(fixedRateString = "${hangman.games.expiry.tick:PT1S}")
+    public synchronized int expireIdleGames() {
+        long now = nanoClock.getAsLong();
+        int[] expired = {0};
+        wheel.advance(now, timeout -> {
+            if (expire(timeout.item(), now)) {
+                expired[0]++;
+            }
+        });
+
+        if (expired[0] > 0) {
+            log.debug("Expired {} idle games", expired[0]);
+        }
+        return expired[0];
+    }
+
+    private boolean expire(Entry entry, long now) {
+        synchronized (entry) {
+            if (entries.get(entry.gameId) != entry) {
+                return false;
+            }
+            if (!isIdle(entry, now)) {
+                schedule(entry, entry.lastAccessNanos);
+                return false;
+            }
+            removeLocked(entry, true);
+        }
+        gameMetrics.recordGameExpired();
+        return true;
+    }
+
+    private boolean isIdle(Entry entry, long now) {
+        return now - entry.lastAccessNanos >= idleTimeoutNanos;
+    }
+
+    private Entry touch(GameId gameId) {
+        Entry entry = entries.get(gameId);
+        if (entry != null) {
+            entry.lastAccessNanos = nanoClock.getAsLong();
+        }
+        return entry;
+    }
+
+    private void schedule(Entry entry, long lastAccessNanos) {
+        if (idleTimeoutNanos > 0) {
+            entry.timeout = wheel.schedule(entry, lastAccessNanos + idleTimeoutNanos);
+        }
+    }
+
+    private void setActive(Entry entry, boolean active) {
+        if (entry.active.compareAndSet(!active, active)) {
+            if (active) {
+                gameMetrics.recordGameActivated();
+            } else {
+                gameMetrics.recordGameDeactivated();
+            }
+        }
+    }
+
+    /** Closes the delegate if it holds resources. Called by Spring when the context closes. */
+    public void shutdown() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /** Returns the number of stored games */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Expiry state of one stored game */
+    private static final class Entry {
+        private final GameId gameId;
+        private final AtomicBoolean active = new AtomicBoolean();
+        private volatile long lastAccessNanos;
+        private volatile HashedTimingWheel.Timeout<Entry> timeout;
+
+        Entry(GameId gameId, long lastAccessNanos) {
+            this.gameId = gameId;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+}
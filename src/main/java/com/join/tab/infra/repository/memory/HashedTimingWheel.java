@@ -0,0 +1,197 @@
+package com.join.tab.infra.repository.memory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: a ring of buckets, one per tick, holding the timeouts
+ * that expire on that tick or a whole number of rotations later.
+ * Scheduling and cancelling are O(1) and can be done from any thread;
+ * {@link #advance(long, Consumer)} must only be called by one thread at a time,
+ * it owns the buckets and visits one bucket per elapsed tick.
+ * Features:
+ * - New timeouts go to a concurrent queue and are put into their bucket on the next tick.
+ * - Cancelled timeouts are unlinked lazily when their bucket is visited.
+ * - Deadlines are {@link System#nanoTime()} values and fire on the first tick at or after them.
+ * Usage:
+ * <pre>
+ *     HashedTimingWheel&lt;String&gt; wheel = new HashedTimingWheel&lt;&gt;(tickNanos, 512, System.nanoTime());
+ *     wheel.schedule("game-1", System.nanoTime() + timeoutNanos);
+ *     wheel.advance(System.nanoTime(), timeout -&gt; expire(timeout.item()));
+ * </pre>
+ *
+ * @param <T> the type of the scheduled items
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final long startNanos;
+    private final Bucket<T>[] buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    /** the last visited tick, owned by the advancing thread */
+    private long tick;
+
+    /**
+     * Creates a timing wheel.
+     *
+     * @param tickNanos the duration of one tick in nanoseconds
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     * @param startNanos the {@link System#nanoTime()} value of tick zero
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickNanos, int wheelSize, long startNanos) {
+        if (tickNanos < 1 || wheelSize < 1 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = tickNanos;
+        this.mask = size - 1;
+        this.startNanos = startNanos;
+        this.buckets = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new Bucket<>();
+        }
+    }
+
+    /**
+     * Schedules an item.
+     *
+     * @param item the item to hand back when the timeout fires
+     * @param deadlineNanos the {@link System#nanoTime()} value to fire at
+     * @return the timeout, which can be cancelled
+     */
+    public Timeout<T> schedule(T item, long deadlineNanos) {
+        Timeout<T> timeout = new Timeout<>(item, deadlineNanos);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Visits every tick up to the given time and fires the timeouts whose
+     * deadline has passed. The handler may schedule new timeouts.
+     *
+     * @param nowNanos the current {@link System#nanoTime()} value
+     * @param expired called for every fired timeout
+     * @return the number of fired timeouts
+     */
+    public int advance(long nowNanos, Consumer<Timeout<T>> expired) {
+        long target = (nowNanos - startNanos) / tickNanos;
+        int fired = 0;
+        while (tick < target) {
+            tick++;
+            transferPending();
+            fired += buckets[(int) (tick & mask)].expire(expired);
+        }
+        return fired;
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long elapsed = timeout.deadlineNanos - startNanos;
+            long deadlineTick = elapsed <= 0 ? tick : Math.max(tick, (elapsed + tickNanos - 1) / tickNanos);
+            timeout.rounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * A scheduled item.
+     *
+     * @param <T> the type of the item
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineNanos;
+        private volatile boolean cancelled;
+        // owned by the advancing thread
+        private long rounds;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T item, long deadlineNanos) {
+            this.item = item;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /** Cancels the timeout; it is dropped the next time its bucket is visited */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        public long deadlineNanos() {
+            return deadlineNanos;
+        }
+    }
+
+    /** Doubly linked list of the timeouts of one bucket */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        int expire(Consumer<Timeout<T>> expired) {
+            int fired = 0;
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.rounds > 0) {
+                    timeout.rounds--;
+                } else {
+                    remove(timeout);
+                    expired.accept(timeout);
+                    fired++;
+                }
+                timeout = next;
+            }
+            return fired;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
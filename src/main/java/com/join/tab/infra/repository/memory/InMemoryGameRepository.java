@@ -4,18 +4,17 @@ import com.join.tab.domain.aggregate.HangmanGame;
 import com.join.tab.domain.enums.DifficultyLevel;
 import com.join.tab.domain.valueobject.GameId;
 import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.GuessedLetters;
 import com.join.tab.domain.valueobject.Language;
-import com.join.tab.domain.valueobject.Letter;
 import com.join.tab.domain.model.Word;
 import com.join.tab.domain.repository.GameRepository;
 import com.join.tab.domain.enums.GameStatus;
-import org.springframework.stereotype.Repository;
 
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * In-memory implementation of {@link GameRepository}.
@@ -23,8 +22,11 @@ import java.util.concurrent.ConcurrentHashMap;
  * temporary storage without a persistent database.
  * Provides basic CRUD operations for saving, retrieving, and deleting games.
  * Uses an internal ({@link GameData}) class to hold the game states.
+ * Every {@link #findById(GameId)} rebuilds the aggregate from its snapshot,
+ * see {@link LiveGameRepository} for the storage that keeps the aggregate itself.
+ * {@link #update(GameId, Function)} is a compare-and-set of the stored snapshot,
+ * retried when another update of the same game won the race.
  */
-@Repository
 public class InMemoryGameRepository implements GameRepository {
 
     private final Map<GameId, GameData> games = new ConcurrentHashMap<>();
@@ -50,7 +52,39 @@ public class InMemoryGameRepository implements GameRepository {
         if (gameData == null) {
             return Optional.empty();
         }
+        return Optional.of(toGame(gameId, gameData));
+    }
+
+    /**
+     * Applies a change to a copy of the stored game and replaces the snapshot
+     * only if it is still the one the copy was built from.
+     *
+     * @param gameId the ID of the game to update
+     * @param change the change, applied again to a fresh copy after a lost race
+     * @return the result of the change, or empty if the game was not found
+     */
+    @Override
+    public <R> Optional<R> update(GameId gameId, Function<HangmanGame, R> change) {
+        while (true) {
+            GameData current = games.get(gameId);
+            if (current == null) {
+                return Optional.empty();
+            }
+
+            HangmanGame game = toGame(gameId, current);
+            R result = change.apply(game);
+            if (games.replace(gameId, current, new GameData(game))) {
+                return Optional.ofNullable(result);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<HangmanGame> action) {
+        games.forEach((gameId, gameData) -> action.accept(toGame(gameId, gameData)));
+    }
 
+    private HangmanGame toGame(GameId gameId, GameData gameData) {
         Word word = new Word(gameData.getWord(), new Language(gameData.getLanguage()));
         GamePreferences preferences = new GamePreferences(
                 new Language(gameData.getLanguage()),
@@ -58,7 +92,7 @@ public class InMemoryGameRepository implements GameRepository {
                 gameData.getDifficulty() != null ? DifficultyLevel.valueOf(gameData.getDifficulty()) : null
         );
 
-        HangmanGame game = new HangmanGame(
+        return new HangmanGame(
                 gameId,
                 word,
                 preferences,
@@ -66,8 +100,6 @@ public class InMemoryGameRepository implements GameRepository {
                 gameData.getMistakeCount(),
                 gameData.getStatus()
         );
-
-        return Optional.of(game);
     }
 
     /**
@@ -82,7 +114,7 @@ public class InMemoryGameRepository implements GameRepository {
     /** Internal data class to store game state in memory **/
     private static class GameData {
         private final String word;
-        private final Set<Letter> guessedLetters;
+        private final GuessedLetters guessedLetters;
         private final int mistakeCount;
         private final GameStatus status;
         private final String language;     // новый
@@ -91,7 +123,7 @@ public class InMemoryGameRepository implements GameRepository {
 
         public GameData(HangmanGame game) {
             this.word = game.getWord();
-            this.guessedLetters = new HashSet<>(game.getGuessedLetters());
+            this.guessedLetters = game.getGuessedLetters();
             this.mistakeCount = game.getMistakeCount();
             this.status = game.getStatus();
             this.language = game.getPreferences().getLanguage().getCode();
@@ -102,7 +134,7 @@ public class InMemoryGameRepository implements GameRepository {
         }
 
         public String getWord() { return word; }
-        public Set<Letter> getGuessedLetters() { return guessedLetters; }
+        public GuessedLetters getGuessedLetters() { return guessedLetters; }
         public int getMistakeCount() { return mistakeCount; }
         public GameStatus getStatus() { return status; }
         public String getLanguage() { return language; }
@@ -0,0 +1,94 @@
+package com.join.tab.infra.repository.memory;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.GameId;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory implementation of {@link GameRepository} that keeps the live
+ * {@link HangmanGame} aggregates in the map.
+ * Unlike {@link InMemoryGameRepository} nothing is copied: {@link #findById(GameId)}
+ * returns the stored instance, so a guess is one map lookup plus the in-place
+ * mutation of the aggregate, and {@link #save(HangmanGame)} of a loaded game
+ * only replaces the entry with itself.
+ * {@link #update(GameId, Function)} holds the monitor of the game while it applies
+ * the change, so the lock lives with the game and only guesses of that game wait.
+ * Callers that read or mutate a game returned by {@link #findById(GameId)} must hold
+ * its monitor as well, or go through {@link #update(GameId, Function)};
+ * {@link #forEach(Consumer)} visits every game while holding its monitor.
+ */
+public class LiveGameRepository implements GameRepository {
+
+    private final Map<GameId, HangmanGame> games = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the game instance itself.
+     * @param game the game to save.
+     */
+    @Override
+    public void save(HangmanGame game) {
+        games.put(game.getGameId(), game);
+    }
+
+    /**
+     * Finds a game by its ID.
+     * @param gameId the ID the game to find
+     * @return an {@link Optional} containing the stored game if found, otherwise empty
+     */
+    @Override
+    public Optional<HangmanGame> findById(GameId gameId) {
+        return Optional.ofNullable(games.get(gameId));
+    }
+
+    /**
+     * Applies a change to the stored game while holding its monitor.
+     * If the game was replaced or deleted while waiting for the monitor,
+     * the change is applied to the current entry instead.
+     *
+     * @param gameId the ID of the game to update
+     * @param change the change
+     * @return the result of the change, or empty if the game was not found
+     */
+    @Override
+    public <R> Optional<R> update(GameId gameId, Function<HangmanGame, R> change) {
+        while (true) {
+            HangmanGame game = games.get(gameId);
+            if (game == null) {
+                return Optional.empty();
+            }
+            synchronized (game) {
+                if (games.get(gameId) == game) {
+                    return Optional.ofNullable(change.apply(game));
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every game while holding its monitor, so the action never sees a
+     * half applied guess.
+     */
+    @Override
+    public void forEach(Consumer<HangmanGame> action) {
+        for (HangmanGame game : games.values()) {
+            synchronized (game) {
+                action.accept(game);
+            }
+        }
+    }
+
+    /**
+     * Delete a game by its ID.
+     * @param gameId the ID of the game to delete
+     */
+    @Override
+    public void delete(GameId gameId) {
+        games.remove(gameId);
+    }
+}
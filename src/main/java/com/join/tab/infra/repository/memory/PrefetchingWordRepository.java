@@ -0,0 +1,214 @@
+package com.join.tab.infra.repository.memory;
+
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.WordRepository;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.infra.catalog.WordCatalogChangedEvent;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link WordRepository} decorator that keeps a bounded buffer of ready words
+ * for every (language, category, difficulty) combination.
+ * Starting a game only dequeues a word; a background refiller tops the buffer
+ * up in batches from the delegate repository once it drops below half capacity.
+ * When a buffer runs dry the word is looked up directly from the delegate.
+ * Features:
+ * - Buffer hits, misses and refill latency are recorded in {@link GameMetrics}.
+ * - Every buffered word is tagged with the word generation it was fetched in; the generation
+ *   moves on with every catalog change, and words of an older generation are dropped when
+ *   dequeued, so a word fetched just before a change is not served after it.
+ * - The number of buffered combinations is capped; requests beyond it go straight to the delegate.
+ */
+public class PrefetchingWordRepository implements WordRepository {
+    private static final Logger log = LoggerFactory.getLogger(PrefetchingWordRepository.class);
+
+    private final WordRepository delegate;
+    private final GameMetrics gameMetrics;
+    private final int bufferCapacity;
+    private final int refillBatchSize;
+    private final int maxBuffers;
+    private final Map<GamePreferences, WordBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ExecutorService refiller;
+
+    /**
+     * Creates a new prefetching repository.
+     *
+     * @param delegate the repository the words are fetched from
+     * @param gameMetrics metrics for buffer hits, misses and refill latency
+     * @param bufferCapacity the number of words kept per combination
+     * @param refillBatchSize the maximum number of words fetched per refill
+     * @param maxBuffers the maximum number of buffered combinations
+     */
+    public PrefetchingWordRepository(
+            WordRepository delegate, GameMetrics gameMetrics,
+            int bufferCapacity, int refillBatchSize, int maxBuffers) {
+        if (bufferCapacity < 1 || refillBatchSize < 1 || maxBuffers < 1) {
+            throw new IllegalArgumentException("Prefetch buffer sizes must be positive");
+        }
+        this.delegate = delegate;
+        this.gameMetrics = gameMetrics;
+        this.bufferCapacity = bufferCapacity;
+        this.refillBatchSize = refillBatchSize;
+        this.maxBuffers = maxBuffers;
+        this.refiller = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "word-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Word getRandomWord() {
+        return getRandomWordByPreferences(GamePreferences.defaultPreferences());
+    }
+
+    /**
+     * Returns a buffered word for the preferences, or looks one up directly
+     * if the buffer is empty.
+     *
+     * @param preferences the game preferences
+     * @return a random {@link Word} matching the preferences (with the delegate's fallbacks)
+     */
+    @Override
+    public Word getRandomWordByPreferences(GamePreferences preferences) {
+        WordBuffer buffer = bufferFor(preferences);
+        Word word = buffer != null ? poll(buffer) : null;
+
+        if (word != null) {
+            gameMetrics.recordWordBufferHit();
+        } else {
+            gameMetrics.recordWordBufferMiss();
+            word = delegate.getRandomWordByPreferences(preferences);
+        }
+
+        if (buffer != null) {
+            scheduleRefillIfLow(buffer);
+        }
+        return word;
+    }
+
+    @Override
+    public Word findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    /**
+     * Starts a new word generation and drops all buffered words once a catalog change
+     * is committed. Runs after the word catalog has built its next generation, so
+     * words fetched in the new generation come from the changed catalog.
+     *
+     * @param event the catalog change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onCatalogChanged(WordCatalogChangedEvent event) {
+        generation.incrementAndGet();
+        buffers.values().forEach(buffer -> buffer.words.clear());
+    }
+
+    /** Stops the background refiller. Called by Spring when the context closes. */
+    public void shutdown() {
+        refiller.shutdownNow();
+        try {
+            refiller.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WordBuffer bufferFor(GamePreferences preferences) {
+        GamePreferences key = new GamePreferences(
+                preferences.getLanguage(),
+                preferences.hasCategory() ? preferences.getCategory() : null,
+                preferences.getDifficulty());
+
+        WordBuffer buffer = buffers.get(key);
+        if (buffer == null && buffers.size() < maxBuffers) {
+            buffer = buffers.computeIfAbsent(key, k -> new WordBuffer(k, bufferCapacity));
+        }
+        return buffer;
+    }
+
+    private Word poll(WordBuffer buffer) {
+        long current = generation.get();
+        BufferedWord buffered;
+        while ((buffered = buffer.words.poll()) != null) {
+            if (buffered.generation == current) {
+                return buffered.word;
+            }
+        }
+        return null;
+    }
+
+    private void scheduleRefillIfLow(WordBuffer buffer) {
+        if (buffer.words.size() > bufferCapacity / 2 || !buffer.refillScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refiller.execute(() -> refill(buffer));
+        } catch (RejectedExecutionException e) {
+            buffer.refillScheduled.set(false);
+        }
+    }
+
+    private void refill(WordBuffer buffer) {
+        long startTime = System.nanoTime();
+        int added = 0;
+        try {
+            // read before fetching: a word fetched across a catalog change keeps the old generation
+            long fetchGeneration = generation.get();
+            int wanted = Math.min(refillBatchSize, buffer.words.remainingCapacity());
+            for (int i = 0; i < wanted; i++) {
+                Word word = delegate.getRandomWordByPreferences(buffer.preferences);
+                if (!buffer.words.offer(new BufferedWord(word, fetchGeneration))) {
+                    break;
+                }
+                added++;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to prefetch words for {}: {}", buffer.describe(), e.getMessage());
+        } finally {
+            buffer.refillScheduled.set(false);
+            gameMetrics.recordWordBufferRefill(System.nanoTime() - startTime);
+        }
+
+        log.debug("Prefetched {} words for {}", added, buffer.describe());
+    }
+
+    /** Bounded buffer of ready words for one preference combination */
+    private static final class WordBuffer {
+        private final GamePreferences preferences;
+        private final ArrayBlockingQueue<BufferedWord> words;
+        private final AtomicBoolean refillScheduled = new AtomicBoolean(false);
+
+        private WordBuffer(GamePreferences preferences, int capacity) {
+            this.preferences = preferences;
+            this.words = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private String describe() {
+            return preferences.getLanguage().getCode() + "/" + preferences.getCategory() + "/" + preferences.getDifficulty();
+        }
+    }
+
+    /** A buffered word and the word generation it was fetched in */
+    private record BufferedWord(Word word, long generation) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.join.tab.infra.service;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.infra.repository.file.GameCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps running games across restarts.
+ * On shutdown every stored game is written to {@code hangman.games.snapshot.file};
+ * on startup the file is read back into the {@link GameRepository} and deleted,
+ * so a crash after a restart does not bring back stale games.
+ * Features:
+ * - Runs in a lifecycle phase below the web server's: games are restored before the
+ *   server accepts requests, so before readiness, and written after it has stopped.
+ * - Games are streamed through a buffered channel with {@link GameCodec}, one record
+ *   after another, and the snapshot is written to a temporary file and moved in place.
+ * - Restored games share one {@code Word} per distinct word, see {@link GameCodec#reader()}.
+ * - The number of games and the restore time are logged.
+ * - Disabled with {@code hangman.games.snapshot.enabled=false}, and with
+ *   {@code hangman.games.storage=events}, whose event log already keeps the games.
+ */
+@Service
+public class GameSnapshotService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(GameSnapshotService.class);
+
+    private static final int MAGIC = 0x48475331; // "HGS1"
+    private static final int END_OF_GAMES = 0;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final GameRepository gameRepository;
+    private final Path file;
+    private final boolean enabled;
+    private volatile boolean running;
+
+    public GameSnapshotService(
+            GameRepository gameRepository,
+            @Value("${hangman.games.snapshot.file:data/hangman-games.snapshot}") Path file,
+            @Value("${hangman.games.snapshot.enabled:true}") boolean enabled,
+            @Value("${hangman.games.storage:live}") String storage) {
+        this.gameRepository = gameRepository;
+        this.file = file;
+        this.enabled = enabled && !"events".equalsIgnoreCase(storage.trim());
+    }
+
+    @Override
+    public void start() {
+        if (enabled && Files.exists(file)) {
+            restore();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (enabled) {
+            snapshot();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Starts before and stops after the web server */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Writes all stored games to the snapshot file.
+     *
+     * @return the number of written games
+     */
+    public long snapshot() {
+        long start = System.nanoTime();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long[] count = {0};
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 DataOutputStream out = new DataOutputStream(
+                         new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                gameRepository.forEach(game -> {
+                    try {
+                        GameCodec.write(game, out);
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.writeByte(END_OF_GAMES);
+                out.writeLong(count[0]);
+                out.flush();
+                channel.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to write game snapshot {}", file, e);
+            return 0;
+        }
+
+        log.info("Wrote {} games to snapshot {} in {} ms", count[0], file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return count[0];
+    }
+
+    /**
+     * Reads the games of the snapshot file into the repository and deletes the file.
+     * A truncated or corrupt file restores the games read before the damage.
+     *
+     * @return the number of restored games
+     */
+    public long restore() {
+        long start = System.nanoTime();
+        long count = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             DataInputStream in = new DataInputStream(
+                     new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a game snapshot");
+            }
+
+            GameCodec.Reader reader = GameCodec.reader();
+            while (true) {
+                in.mark(1);
+                if (in.readByte() == END_OF_GAMES) {
+                    break;
+                }
+                in.reset();
+                gameRepository.save(reader.read(in));
+                count++;
+            }
+
+            long expected = in.readLong();
+            if (expected != count) {
+                log.warn("Game snapshot {} lists {} games, restored {}", file, expected, count);
+            }
+        } catch (EOFException e) {
+            log.warn("Game snapshot {} is truncated, restored {} games", file, count);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to read game snapshot {}, restored {} games", file, count, e);
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete game snapshot {}", file, e);
+        }
+
+        log.info("Restored {} games from snapshot {} in {} ms", count, file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package com.join.tab.infra.service;
+
+import com.join.tab.infra.service.WordLoaderService.WordLoadResult;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A word import running in the background, see {@link WordImportJobService}.
+ * The progress is read from the {@link WordLoadResult} the import updates while it runs.
+ * Features:
+ * - Lifecycle: QUEUED, RUNNING and one of COMPLETED, FAILED or CANCELLED.
+ * - Live throughput based on the time since the job started.
+ * - Cooperative cancellation, checked by the import before every line.
+ */
+public class WordImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id;
+    private final String language;
+    private final String category;
+    private final WordLoadResult result;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile boolean cancelRequested;
+    private volatile String failure;
+
+    public WordImportJob(String id, String language, String category) {
+        this.id = id;
+        this.language = language;
+        this.category = category;
+        this.result = new WordLoadResult(language, category);
+    }
+
+    /** Asks the job to stop; a queued job will not start, a running job stops before the next line */
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void finished(Status finalStatus) {
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    void failed(String message) {
+        failure = message;
+        finished(Status.FAILED);
+    }
+
+    /** Returns the time the job has been running, up to now or until it finished */
+    public long getElapsedMillis() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        return Duration.between(start, end).toMillis();
+    }
+
+    /** Returns the number of loaded words per second since the job started */
+    public double getWordsPerSecond() {
+        long elapsed = getElapsedMillis();
+        return elapsed > 0 ? result.getLoadedCount() * 1000.0 / elapsed : 0;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public WordLoadResult getResult() {
+        return result;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,172 @@
+package com.join.tab.infra.service;
+
+import com.join.tab.domain.valueobject.Language;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs word uploads as background jobs, so large imports do not hold a request thread.
+ * Features:
+ * - The upload is moved to a temporary file (copied only if the container kept it
+ *   in memory) and imported with
+ *   {@link WordLoaderService#streamWords} on a dedicated pool of
+ *   {@code hangman.words.import.jobs.threads} threads.
+ * - At most {@code hangman.words.import.jobs.queue-capacity} jobs wait for a thread,
+ *   further submissions are rejected.
+ * - Finished jobs are kept for status queries, the oldest are dropped once more
+ *   than {@code hangman.words.import.jobs.max-retained} jobs are known.
+ */
+@Service
+public class WordImportJobService {
+    private static final Logger log = LoggerFactory.getLogger(WordImportJobService.class);
+
+    private final WordLoaderService wordLoaderService;
+    private final ThreadPoolExecutor executor;
+    private final int maxRetained;
+    private final Map<String, WordImportJob> jobs = new ConcurrentHashMap<>();
+
+    public WordImportJobService(
+            WordLoaderService wordLoaderService,
+            @Value("${hangman.words.import.jobs.threads:1}") int threads,
+            @Value("${hangman.words.import.jobs.queue-capacity:4}") int queueCapacity,
+            @Value("${hangman.words.import.jobs.max-retained:50}") int maxRetained) {
+        this.wordLoaderService = wordLoaderService;
+        this.maxRetained = maxRetained;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "word-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Takes over the upload as a temporary file and queues its import.
+     * Uploads the container spooled to disk are moved, so the request thread
+     * does not copy the file before the job is accepted.
+     *
+     * @param upload the uploaded words, one per line, UTF-8 encoded
+     * @param language the language of the words
+     * @param category the category to assign to the words
+     * @return the queued job
+     * @throws IllegalArgumentException if the language is not supported
+     * @throws RejectedExecutionException if the job queue is full
+     * @throws IOException if the upload cannot be moved
+     */
+    public WordImportJob submit(MultipartFile upload, String language, String category) throws IOException {
+        new Language(language); // Validate language
+
+        Path file = Files.createTempFile("word-import-", ".txt").toAbsolutePath();
+        try {
+            // the File variant lets the container move its spooled part; the Path variant always copies
+            upload.transferTo(file.toFile());
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        WordImportJob job = new WordImportJob(UUID.randomUUID().toString(), language, category);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        evictFinishedJobs();
+        log.info("Word import job {} queued for language: {}, category: {}", job.getId(), language, category);
+        return job;
+    }
+
+    public Optional<WordImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Requests cancellation of a job. Words committed before the job stops are kept.
+     *
+     * @param jobId the job id
+     * @return the job, or empty if it is unknown
+     */
+    public Optional<WordImportJob> cancel(String jobId) {
+        WordImportJob job = jobs.get(jobId);
+        if (job != null && !job.getStatus().isFinished()) {
+            job.cancel();
+            log.info("Cancellation requested for word import job {}", jobId);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private void run(WordImportJob job, Path file) {
+        try {
+            if (job.isCancelRequested()) {
+                job.finished(WordImportJob.Status.CANCELLED);
+                return;
+            }
+
+            job.started();
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                wordLoaderService.streamWords(inputStream, job.getLanguage(), job.getCategory(),
+                        job.getResult(), job::isCancelRequested);
+            }
+            job.finished(job.isCancelRequested() ? WordImportJob.Status.CANCELLED : WordImportJob.Status.COMPLETED);
+
+        } catch (Exception e) {
+            log.error("Word import job {} failed", job.getId(), e);
+            job.failed(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete temporary import file: {}", file, e);
+            }
+        }
+
+        log.info("Word import job {} {}: {} lines, {} loaded in {} ms",
+                job.getId(), job.getStatus(), job.getResult().getLinesProcessed(),
+                job.getResult().getLoadedCount(), job.getElapsedMillis());
+    }
+
+    private void evictFinishedJobs() {
+        int excess = jobs.size() - maxRetained;
+        if (excess <= 0) {
+            return;
+        }
+
+        jobs.values().stream()
+                .filter(job -> job.getStatus().isFinished())
+                .sorted(Comparator.comparing(WordImportJob::getFinishedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    /** Stops running jobs and the import threads on shutdown */
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(WordImportJob::cancel);
+        executor.shutdown();
+    }
+}
@@ -1,24 +1,44 @@
 package com.join.tab.infra.service;
 
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.valueobject.Alphabet;
 import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.catalog.WordCatalogChangedEvent;
 import com.join.tab.infra.entity.WordEntity;
+import com.join.tab.infra.repository.jdbc.WordBatchWriter;
 import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.WordState;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import com.join.tab.monitoring.metrics.WordStatistics;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 @Service
 public class WordLoaderService {
@@ -26,14 +46,28 @@ public class WordLoaderService {
 
     // interface
     private final WordJpaRepository wordJpaRepository;
-    // Language-specific validation patterns
-    private final Map<String, Pattern> validationPatterns = Map.of(
-            "en", Pattern.compile("^[a-zA-Z]{3,50}$"),
-            "ua", Pattern.compile("^[А-ЯІЇЄҐа-яіїєґ]{3,50}$"),
-            "de", Pattern.compile("^[a-zA-ZäöüÄÖÜß]{3,50}$"),
-            "fr", Pattern.compile("^[a-zA-ZàâäéèêëïîôöùûüÿçÀÂÄÉÈÊËÏÎÔÖÙÛÜŸÇ]{3,50}$"),
-            "es", Pattern.compile("^[a-zA-ZáéíóúüñÁÉÍÓÚÜÑ]{3,50}$")
+    private final ApplicationEventPublisher eventPublisher;
+    private final WordStatistics wordStatistics;
+    private final WordBatchWriter wordBatchWriter;
+    private final GameMetrics gameMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int loadParallelism;
+    private final int chunkSize;
+
+    private static final List<DefaultWordFile> DEFAULT_WORD_FILES = List.of(
+            // English words
+            new DefaultWordFile("words/english/general-words.txt", "en", "general"),
+            new DefaultWordFile("words/english/programming-words.txt", "en", "programming"),
+            new DefaultWordFile("words/english/animals-words.txt", "en", "animals"),
+            new DefaultWordFile("words/english/technology-words.txt", "en", "technology"),
+
+            // Ukrainian words
+            new DefaultWordFile("words/ukrainian/general-words.txt", "ua", "general"),
+            new DefaultWordFile("words/ukrainian/programming-words.txt", "ua", "programming"),
+            new DefaultWordFile("words/ukrainian/animals-words.txt", "ua", "animals"),
+            new DefaultWordFile("words/ukrainian/technology-words.txt", "ua", "technology")
     );
+
     // Language-specific banned words
     private final Map<String, Set<String>> bannedWords = Map.of(
             "en", Set.of("badword", "inappropriate"),
@@ -43,8 +77,20 @@ public class WordLoaderService {
             "es", Set.of("palabramala")
     );
 
-    public WordLoaderService (WordJpaRepository wordJpaRepository) {
+    public WordLoaderService (
+            WordJpaRepository wordJpaRepository, ApplicationEventPublisher eventPublisher,
+            WordStatistics wordStatistics, WordBatchWriter wordBatchWriter,
+            GameMetrics gameMetrics, PlatformTransactionManager transactionManager,
+            @Value("${hangman.words.load.parallelism:4}") int loadParallelism,
+            @Value("${hangman.words.import.chunk-size:10000}") int chunkSize) {
         this.wordJpaRepository = wordJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.wordStatistics = wordStatistics;
+        this.wordBatchWriter = wordBatchWriter;
+        this.gameMetrics = gameMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.loadParallelism = loadParallelism;
+        this.chunkSize = chunkSize;
     }
 
     /**
@@ -53,35 +99,137 @@ public class WordLoaderService {
      * If the database has no active words, it loads words from predefined files
      * and assigns them to appropriate categories.
      * Otherwise, logs the existing number of active words.
+     * Active words that are not valid for their language's {@link Alphabet}, e.g. stored
+     * before the alphabets were enforced, are deactivated, as no game could be started with them.
+     * The application is marked as ready to accept traffic only after the
+     * words are committed and the word catalog is rebuilt.
      */
     @EventListener(ApplicationReadyEvent.class)
-    @Transactional
     public void loadWordsOnStartup() {
-        if (wordJpaRepository.countByIsActiveTrue() == 0) {
-            log.info("No words found in database, loading from file");
+        transactionTemplate.executeWithoutResult(status -> {
+            long activeWords = wordStatistics.getActiveWords();
+            if (activeWords == 0) {
+                log.info("No words found in database, loading from file");
+
+                loadDefaultWords();
+
+            } else {
+                log.info("Words already exists in database : {} active words", activeWords);
+                deactivateInvalidWords();
+            }
+
+            publishCatalogChanged("startup");
+        });
 
-            loadDefaultWords();
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
 
-        } else {
-            log.info("Words already exists in database : {} active words",
-                    wordJpaRepository.countByIsActiveTrue());
+    /**
+     * Deactivates active words with letters outside their language's {@link Alphabet}.
+     * Inactive words are kept as they are.
+     */
+    private void deactivateInvalidWords() {
+        List<Long> invalidIds = new ArrayList<>();
+        for (WordState state : wordJpaRepository.findAllWordStates()) {
+            if (Boolean.TRUE.equals(state.getActive())
+                    && !isValidWordForLanguage(state.getContent(), state.getLanguage())) {
+                invalidIds.add(state.getId());
+            }
+        }
+
+        if (!invalidIds.isEmpty()) {
+            wordBatchWriter.updateActive(invalidIds, false);
+            wordStatistics.recordBulkChange();
+            log.warn("Deactivated {} stored words that are not valid for their language alphabet", invalidIds.size());
         }
     }
 
+    /**
+     * Loads all {@link #DEFAULT_WORD_FILES}.
+     * The files are read and validated in parallel on a bounded pool
+     * ({@code hangman.words.load.parallelism}), then deduplicated across files
+     * and stored with a single batched insert in the caller's transaction.
+     */
     private void loadDefaultWords() {
-        // load English words
-        loadWordsFromFile("words/english/general-words.txt", "en", "general");
-        loadWordsFromFile("words/english/programming-words.txt", "en", "programming");
-        loadWordsFromFile("words/english/animals-words.txt", "en", "animals");
-        loadWordsFromFile("words/english/technology-words.txt", "en", "technology");
-
-        // Load Ukrainian words
-        loadWordsFromFile("words/ukrainian/general-words.txt", "ua", "general");
-        loadWordsFromFile("words/ukrainian/programming-words.txt", "ua", "programming");
-        loadWordsFromFile("words/ukrainian/animals-words.txt", "ua", "animals");
-        loadWordsFromFile("words/ukrainian/technology-words.txt", "ua", "technology");
-
-        logLanguageStatistics();
+        long startTime = System.nanoTime();
+
+        // existing words are loaded on this thread, the workers never touch the database
+        Map<String, Set<String>> existingWords = new HashMap<>();
+        DEFAULT_WORD_FILES.forEach(file ->
+                existingWords.computeIfAbsent(file.language(), this::loadExistingWords));
+
+        List<WordImport> imports = readDefaultWords(existingWords::get);
+
+        List<WordEntity> words = new ArrayList<>();
+        imports.forEach(wordImport -> words.addAll(wordImport.pending));
+        wordBatchWriter.insert(words);
+        imports.forEach(WordImport::recordWritten);
+
+        List<WordLoadResult> results = new ArrayList<>();
+        for (WordImport wordImport : imports) {
+            WordLoadResult result = wordImport.result;
+            results.add(result);
+            log.info("Word loading completed for: {}: {} loaded, {} skipped, {} errors, parsed in {} ms",
+                    wordImport.source, result.getLoadedCount(), result.getSkippedCount(),
+                    result.getErrors().size(), wordImport.readNanos / 1_000_000);
+        }
+
+        long duration = System.nanoTime() - startTime;
+        gameMetrics.recordDefaultWordsLoad(duration);
+        log.info("Loaded {} default words from {} files in {} ms",
+                words.size(), imports.size(), duration / 1_000_000);
+
+        logLanguageStatistics(results);
+    }
+
+    /**
+     * Reads all {@link #DEFAULT_WORD_FILES} in parallel and drops words that
+     * appear in more than one file of a language; the first file wins.
+     *
+     * @param existingWords returns the words to skip for a language code
+     * @return one import per file, in file order
+     */
+    private List<WordImport> readDefaultWords(Function<String, Set<String>> existingWords) {
+        List<WordImport> imports = readInParallel(existingWords);
+
+        Map<String, Set<String>> mergedWords = new HashMap<>();
+        for (WordImport wordImport : imports) {
+            wordImport.dropDuplicates(mergedWords.computeIfAbsent(wordImport.language, k -> new HashSet<>()));
+            gameMetrics.recordWordFileLoad(wordImport.source, wordImport.readNanos);
+        }
+        return imports;
+    }
+
+    private List<WordImport> readInParallel(Function<String, Set<String>> existingWords) {
+        int threads = Math.max(1, Math.min(loadParallelism, DEFAULT_WORD_FILES.size()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "word-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<WordImport>> futures = new ArrayList<>();
+            for (DefaultWordFile file : DEFAULT_WORD_FILES) {
+                futures.add(executor.submit(() -> readWordsFromFile(
+                        file.path(), file.language(), file.category(), existingWords)));
+            }
+
+            List<WordImport> imports = new ArrayList<>();
+            for (Future<WordImport> future : futures) {
+                imports.add(future.get());
+            }
+            return imports;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading default words", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load default words", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
@@ -99,159 +247,230 @@ public class WordLoaderService {
     @Transactional
     public WordLoadResult loadWordsFromFile(
             String filePath, String language, String category) {
-        WordLoadResult result = new WordLoadResult(language, category);
-
-        try {
+        long startTime = System.nanoTime();
+        WordImport wordImport = readWordsFromFile(filePath, language, category, this::loadExistingWords);
+        WordLoadResult result = finishImport(wordImport, startTime);
 
-            // validate language
-            new Language(language);
-
-            ClassPathResource resource = new ClassPathResource(filePath);
-
-            if (!resource.exists()) {
-                log.warn("Word file not found: {}", filePath);
-                result.addError("File not found: " + filePath);
+        if (result.getLoadedCount() > 0) {
+            publishCatalogChanged("file " + filePath);
+        }
+        return result;
+    }
 
-                return  result;
-            }
+    private WordImport readWordsFromFile(
+            String filePath, String language, String category, Function<String, Set<String>> existingWords) {
+        ClassPathResource resource = new ClassPathResource(filePath);
 
-            Set<String> processWords = new HashSet<>();
+        if (!resource.exists()) {
+            log.warn("Word file not found: {}", filePath);
+            WordImport wordImport = new WordImport(filePath, language, category, Set.of());
+            wordImport.result.addError("File not found: " + filePath);
+            return wordImport;
+        }
 
-            try (InputStream inputStream = resource.getInputStream();
-                 BufferedReader reader = new BufferedReader(
-                         new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+        return readWords(filePath, language, category, existingWords,
+                () -> new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)));
+    }
 
-                String line;
-                int lineNumber = 0;
+    @Transactional
+    public WordLoadResult loadWordsFromStream(
+            InputStream inputStream, String language, String category) {
 
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    processWord(line.trim(), language, category, lineNumber, processWords, result);
-                }
-            }
+        WordLoadResult result = importWords("upload " + language, language, category,
+                () -> new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
 
-           log.info("Word loading completed for: {}: {} loaded, {} skipped, {} errors",
-                   filePath, result.getLoadedCount(), result.getSkippedCount(), result.getErrors().size());
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid language: {}", language, e);
-            result.addError("Invalid language: " + language);
-        } catch (IOException e) {
-            log.error("Error loading words form file: {}", filePath, e);
-            result.addError("IO Error: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("Unexpected error loading words from file: {}", filePath, e);
-            result.addError("Unexpected error: " + e.getMessage());
+        if (result.getLoadedCount() > 0) {
+            publishCatalogChanged("upload " + language);
         }
-
         return result;
     }
 
-    @Transactional
-    public WordLoadResult loadWordsFromStream(
-            InputStream inputStream, String language, String category) {
+    /**
+     * Imports words from a stream of any size with constant memory use.
+     * Lines are read one by one and the accepted words are committed in chunks
+     * of {@code hangman.words.import.chunk-size} words, each in its own transaction.
+     * Steps performed per chunk:
+     * 1. Validates and deduplicates the lines of the chunk in memory, see {@link WordImport#addLine}.
+     * 2. Drops words that are already stored, with one query per JDBC batch of words.
+     *    Words repeated in a later chunk are found here, since earlier chunks are committed.
+     * 3. Inserts the remaining words through {@link WordBatchWriter} and commits.
+     * Chunks committed before a failure are kept. Only the first
+     * {@link WordLoadResult#MAX_ERROR_DETAILS} error messages are kept, all errors are counted.
+     *
+     * @param inputStream the stream of words, one per line, UTF-8 encoded
+     * @param language the language of the words
+     * @param category the category to assign to the words
+     * @return a {@link WordLoadResult} with counts, the first errors, chunk count and throughput
+     */
+    public WordLoadResult streamWords(InputStream inputStream, String language, String category) {
+        return streamWords(inputStream, language, category, new WordLoadResult(language, category), () -> false);
+    }
+
+    /**
+     * Same as {@link #streamWords(InputStream, String, String)}, reporting progress to
+     * the given result while running and stopping early when cancelled.
+     * A cancelled import keeps the chunks committed so far and drops the current one.
+     *
+     * @param inputStream the stream of words, one per line, UTF-8 encoded
+     * @param language the language of the words
+     * @param category the category to assign to the words
+     * @param result the result to update, can be read by other threads while the import runs
+     * @param cancelled checked before every line, {@code true} stops the import
+     * @return {@code result}
+     */
+    public WordLoadResult streamWords(InputStream inputStream, String language, String category,
+                                      WordLoadResult result, BooleanSupplier cancelled) {
+        long startTime = System.nanoTime();
+        String source = "stream " + language;
+        String languageCode;
 
-        WordLoadResult result = new WordLoadResult(language, category);
         try {
             // validate language
-            new Language(language);
+            languageCode = new Language(language).getCode();
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid language: {}", language, e);
+            result.addError("Invalid language: " + language);
+            return result;
+        }
 
-            Set<String> processedWords = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            WordImport chunk = new WordImport(source, languageCode, category, Set.of(), result);
+            String line;
+            int lineNumber = 0;
 
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            while ((line = reader.readLine()) != null) {
+                if (cancelled.getAsBoolean()) {
+                    log.info("Word streaming cancelled for: {} after {} lines", source, lineNumber);
+                    return result;
+                }
 
-                String line;
-                int lineNumber = 0;
+                lineNumber++;
+                chunk.addLine(line.trim(), lineNumber);
+                result.incrementLines();
 
-                while ((line = reader.readLine()) != null) {
-                    lineNumber++;
-                    processWord(line.trim(), language, category, lineNumber, processedWords, result);
+                if (chunk.pending.size() >= chunkSize) {
+                    commitChunk(chunk);
+                    chunk = new WordImport(source, languageCode, category, Set.of(), result);
                 }
             }
+            commitChunk(chunk);
 
-            log.info("Word loading completed for language {}: {} loaded, {} skipped, {} errors",
-                    language, result.getLoadedCount(), result.getSkippedCount(), result.getErrors().size());
-
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid language: {}", language, e);
-            result.addError("Invalid language: " + language);
         } catch (IOException e) {
-            log.error("Error reading uploaded file for language: {}", language, e);
+            log.error("Error reading words from: {}", source, e);
             result.addError("IO Error: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("Unexpected error loading words for language: {}", language, e);
-            result.addError("Unexpected error: " + e.getMessage());
+        } finally {
+            result.recordDuration((System.nanoTime() - startTime) / 1_000_000);
+            if (result.getLoadedCount() > 0) {
+                publishCatalogChanged(source);
+            }
         }
 
+        log.info("Word streaming completed for: {}: {} loaded, {} skipped, {} errors, {} chunks in {} ms ({} words/sec)",
+                source, result.getLoadedCount(), result.getSkippedCount(), result.getErrorCount(),
+                result.getChunkCount(), result.getDurationMillis(), String.format("%.0f", result.getWordsPerSecond()));
         return result;
     }
 
+    private void commitChunk(WordImport chunk) {
+        if (chunk.pending.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> contents = chunk.pending.stream().map(WordEntity::getContent).toList();
+            Set<String> storedWords = new HashSet<>();
+            for (int from = 0; from < contents.size(); from += wordBatchWriter.getBatchSize()) {
+                List<String> batch = contents.subList(from, Math.min(from + wordBatchWriter.getBatchSize(), contents.size()));
+                storedWords.addAll(wordJpaRepository.findStoredContents(chunk.language, batch));
+            }
+
+            chunk.dropDuplicates(storedWords);
+            chunk.write();
+        });
+        chunk.result.recordChunk();
+    }
+
     /**
-     * Processes a single word from a file and attempts to save in the database.
-     * The method performs the following checks:
-     * - Skips empty lines and lines starting with '#'.
-     * - Validates word format (alphabetic only, proper length).
-     * - Skips duplicates within the current batch.
-     * - Skips words already present in the database.
-     * - Skips banned words.
-     * Successfully validated words are saved as {@link WordEntity} in the database.
-     * Updates the provided {@link  WordLoadResult} with counts of loaded, skipped words and errors.
+     * Imports the words read from a source in bulk.
+     * Steps performed:
+     * 1. Loads the existing words of the language into a hash set with one query.
+     * 2. Validates and deduplicates every line in memory, see {@link WordImport#addLine}.
+     * 3. Inserts the accepted words with JDBC batches through {@link WordBatchWriter}.
+     * Read errors are reported in the result; the words read up to that point are
+     * still stored. Insert failures are thrown, so the surrounding transaction rolls back.
      *
-     * @param word the word to process
-     * @param category the category to assign to the word
-     * @param lineNumber the line number in the source file (used for error reporting)
-     * @param processedWords a set of words already processed in the current batch
-     * @param result the {@link WordLoadResult} object to track success, skips, and errors
+     * @param source a description of the source, used for logging
+     * @param language the language of the words
+     * @param category the category to assign to the words
+     * @param readerSupplier opens the reader for the source
+     * @return a {@link WordLoadResult} with counts, errors and throughput
      */
-    private void processWord(
-            String word, String language, String category, int lineNumber,
-            Set<String> processedWords, WordLoadResult result) {
-        try {
+    private WordLoadResult importWords(
+            String source, String language, String category, ReaderSupplier readerSupplier) {
+        long startTime = System.nanoTime();
+        WordImport wordImport = readWords(source, language, category, this::loadExistingWords, readerSupplier);
+        return finishImport(wordImport, startTime);
+    }
 
-            // skip empty lines and comments
-            if (word.isEmpty() || word.startsWith("#")) {
-                return;
-            }
+    private WordLoadResult finishImport(WordImport wordImport, long startTime) {
+        wordImport.write();
 
-            String cleanWord = word.toLowerCase().trim();
+        WordLoadResult result = wordImport.result;
+        result.recordDuration((System.nanoTime() - startTime) / 1_000_000);
 
-            // Validate word format for specific language
-            if (!isValidWordForLanguage(cleanWord, language)) {
-                result.addError("Line " + lineNumber + ": Invalid word format for language: " + language + ": " + word);
-                result.incrementSkipped();
-                return;
-            }
+        log.info("Word loading completed for: {}: {} loaded, {} skipped, {} errors in {} ms ({} words/sec)",
+                wordImport.source, result.getLoadedCount(), result.getSkippedCount(), result.getErrors().size(),
+                result.getDurationMillis(), String.format("%.0f", result.getWordsPerSecond()));
+        return result;
+    }
 
-            // Check for duplicates in current batch
-            if (processedWords.contains(cleanWord)) {
-                result.incrementLoaded();
-                return;
-            }
+    /**
+     * Reads and validates the words of a source without storing them.
+     * Does not access the database itself, so it can run on any thread.
+     *
+     * @param source a description of the source, used for logging
+     * @param language the language of the words
+     * @param category the category to assign to the words
+     * @param existingWords returns the words already stored for a language code
+     * @param readerSupplier opens the reader for the source
+     * @return the {@link WordImport} holding the accepted words and the result
+     */
+    private WordImport readWords(
+            String source, String language, String category,
+            Function<String, Set<String>> existingWords, ReaderSupplier readerSupplier) {
+        long startTime = System.nanoTime();
+        String languageCode;
 
-            // Check if word already exists in database
-            if (wordJpaRepository.findByContentIgnoreCaseAndLanguage(cleanWord, language).isPresent()) {
-                result.incrementSkipped();
-                return;
-            }
+        try {
+            // validate language
+            languageCode = new Language(language).getCode();
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid language: {}", language, e);
+            WordImport wordImport = new WordImport(source, language, category, Set.of());
+            wordImport.result.addError("Invalid language: " + language);
+            return wordImport;
+        }
 
-            // Check banned words
-            if (isBannedWord(cleanWord, language)) {
-                result.addError("Line " + lineNumber + ": Banned word for " + language + ": " + word);
-                result.incrementSkipped();
-                return;
-            }
+        WordImport wordImport = new WordImport(source, languageCode, category, existingWords.apply(languageCode));
+        try (BufferedReader reader = readerSupplier.open()) {
+            String line;
+            int lineNumber = 0;
 
-            // Create and save word entity
-            WordEntity entity = createWordEntity(cleanWord, language, category);
-            wordJpaRepository.save(entity);
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                wordImport.addLine(line.trim(), lineNumber);
+            }
+        } catch (IOException e) {
+            log.error("Error reading words from: {}", source, e);
+            wordImport.result.addError("IO Error: " + e.getMessage());
+        }
 
-            processedWords.add(cleanWord);
-            result.incrementLoaded();
+        wordImport.readNanos = System.nanoTime() - startTime;
+        return wordImport;
+    }
 
-        } catch (Exception e) {
-            log.error("Error processing word '{}' at line '{}'", word, lineNumber, e);
-            result.addError("Line " + lineNumber + ": Error processing '" + word + "': " + e.getMessage());
-        }
+    private Set<String> loadExistingWords(String language) {
+        return new HashSet<>(wordJpaRepository.findContentsByLanguage(language));
     }
 
     private String normalizeWordForLanguage(String word, String language) {
@@ -267,15 +486,7 @@ public class WordLoaderService {
     }
 
     private boolean isValidWordForLanguage(String word, String language) {
-        if (word == null || word.trim().isEmpty()) return false;
-
-        Pattern pattern = validationPatterns.get(language);
-        if (pattern == null) {
-            // Default validation for unsupported languages
-            pattern = Pattern.compile("^[\\p{L}]{3,50}$"); // Unicode letters
-        }
-
-        return pattern.matcher(word).matches();
+        return Alphabet.forCode(language).isValidWord(word);
     }
 
 
@@ -285,20 +496,22 @@ public class WordLoaderService {
     }
 
     /**
-     * Creates a new {@link WordEntity} for persistence.
-     * Sets the word value, category, and marks it as active.
-     * The length and difficulty level will be automatically set by
-     * the {@code @PrePersist} method in {@link WordEntity}.
+     * Creates a new {@link WordEntity} for a bulk insert.
+     * The bulk insert bypasses the JPA lifecycle callbacks, so length and
+     * difficulty level are set here instead of in {@code @PrePersist}.
      *
-     * @param word the word value
-     * @param category the category to assign
-     * @return a new {@link WordEntity} ready for saving
+     * @param word the normalized word value
+     * @param language the language code
+     * @param category the normalized category to assign
+     * @return a new {@link WordEntity} ready for {@link WordBatchWriter}
      */
     private WordEntity createWordEntity(String word, String language, String category) {
         WordEntity entity = new WordEntity();
         entity.setContent(word);
         entity.setLanguage(language);
         entity.setCategory(category);
+        entity.setLength(word.length());
+        entity.setDifficultlyLevel(DifficultyLevel.fromWordLength(word.length()));
         entity.setIsActive(true);
         return entity;
     }
@@ -306,71 +519,98 @@ public class WordLoaderService {
     /**
      * Reloads words from predefined files into the database.
      * The method performs the following steps:
-     * 1. Deactivates all existing words in the database.
-     * 2. Loads fresh words from default, programming, and animals word files.
+     * 1. Reads the id, content and active flag of every stored word.
+     * 2. Reads the default word files in parallel, see {@link #readDefaultWords}.
+     * 3. Inserts file words that are not stored yet, reactivates stored inactive
+     *    file words and deactivates active words missing from the files, with
+     *    batched inserts and bulk updates.
      * This method is transactional, so all changes are applied atomically.
-     * It ensures the database has an up-to-date set of words while preserving
-     * inactive words for historical or rollback purposes.
+     * Active words are never all deactivated at once, and the word catalog is
+     * swapped to the new set of words only after commit, so games in progress
+     * never see an empty catalog. Inactive words are preserved for historical
+     * or rollback purposes.
      */
     @Transactional
     public void reloadWordFromFiles() {
         log.info("Reloading word from files...");
+        long startTime = System.nanoTime();
 
-        // Deactivate all existing words
-        List<WordEntity> allWords = wordJpaRepository.findAll();
-        allWords.forEach(word -> word.setIsActive(false));
-        wordJpaRepository.saveAll(allWords);
+        // stored words keyed by language and content
+        Map<String, Map<String, WordState>> storedWords = new HashMap<>();
+        for (WordState state : wordJpaRepository.findAllWordStates()) {
+            storedWords.computeIfAbsent(state.getLanguage(), k -> new HashMap<>()).put(state.getContent(), state);
+        }
+
+        List<WordImport> imports = readDefaultWords(language -> Set.of());
+
+        Set<Long> keptIds = new HashSet<>();
+        List<Long> reactivateIds = new ArrayList<>();
+        List<WordEntity> insertWords = new ArrayList<>();
+        for (WordImport wordImport : imports) {
+            wordImport.dropStored(storedWords.getOrDefault(wordImport.language, Map.of()), keptIds, reactivateIds);
+            insertWords.addAll(wordImport.pending);
+        }
 
-        // Load fresh words
-        loadDefaultWords();
+        List<Long> deactivateIds = new ArrayList<>();
+        storedWords.values().forEach(words -> words.values().forEach(state -> {
+            if (Boolean.TRUE.equals(state.getActive()) && !keptIds.contains(state.getId())) {
+                deactivateIds.add(state.getId());
+            }
+        }));
+
+        wordBatchWriter.insert(insertWords);
+        imports.forEach(WordImport::recordWritten);
+        wordBatchWriter.updateActive(reactivateIds, true);
+        wordBatchWriter.updateActive(deactivateIds, false);
+        wordStatistics.recordBulkChange();
+
+        log.info("Word reload completed in {} ms: {} inserted, {} reactivated, {} deactivated, {} unchanged",
+                (System.nanoTime() - startTime) / 1_000_000, insertWords.size(), reactivateIds.size(),
+                deactivateIds.size(), keptIds.size() - reactivateIds.size());
+        publishCatalogChanged("reload");
     }
 
     @Transactional
     public WordLoadResult loadWordsForLanguageFromContent(
             String content, String language, String category) {
 
-        WordLoadResult result = new WordLoadResult(language, category);
-
-        try {
-            // validate language
-            new Language(language);
-
-            Set<String> processedWords = new HashSet<>();
-            String[] lines = content.split("\n");
-
-            for (int i = 0; i < lines.length; i++) {
-                String line = lines[i].trim();
-                processWord(line, language, category, i + 1, processedWords, result);
-            }
-
-            log.info("Word loading from content completed for language {}: {} loaded, {} skipped",
-                    language, result.getLoadedCount(), result.getSkippedCount());
+        WordLoadResult result = importWords("content " + language, language, category,
+                () -> new BufferedReader(new StringReader(content)));
 
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid language: {}", language, e);
-            result.addError("Invalid language: " + language);
-        } catch (Exception e) {
-            log.error("Error loading words from content for language {}", language, e);
-            result.addError("Error processing content: " + e.getMessage());
+        if (result.getLoadedCount() > 0) {
+            publishCatalogChanged("content " + language);
         }
-
         return result;
     }
 
+    /**
+     * Returns the number of active words per language.
+     * Read from {@link WordStatistics}, no database query.
+     *
+     * @return active word counts keyed by language code
+     */
     public Map<String, Long> getLanguageStatistics () {
-        Map<String, Long> stats = new HashMap<>();
-        List<String> languages = wordJpaRepository.findSupportedLanguages();
-        for (String lang: languages) {
-            long count = wordJpaRepository.countByLanguageAndIsActiveTrue(lang);
-            stats.put(lang, count);
-        }
-
+        return wordStatistics.getActiveWordsByLanguage();
+    }
 
-        return stats;
+    /**
+     * Notifies listeners (e.g. the in-memory word catalog) that the active words changed.
+     * Transactional listeners receive it only after the surrounding transaction commits.
+     *
+     * @param reason short description of the change
+     */
+    private void publishCatalogChanged(String reason) {
+        eventPublisher.publishEvent(new WordCatalogChangedEvent(reason));
     }
 
-    private void logLanguageStatistics() {
-        Map<String, Long> stats = getLanguageStatistics();
+    /**
+     * Logs the number of words loaded per language.
+     * Taken from the load results, the statistics only see the words once the
+     * surrounding transaction commits.
+     */
+    private void logLanguageStatistics(List<WordLoadResult> results) {
+        Map<String, Long> stats = new TreeMap<>();
+        results.forEach(result -> stats.merge(result.getLanguage(), (long) result.getLoadedCount(), Long::sum));
         log.info("Language statistics:");
         stats.forEach((lang, count) -> {
             try {
@@ -382,6 +622,145 @@ public class WordLoaderService {
         });
     }
 
+    /** Opens the reader of an import source */
+    @FunctionalInterface
+    private interface ReaderSupplier {
+        BufferedReader open() throws IOException;
+    }
+
+    /** A default word file loaded on startup and on reload */
+    private record DefaultWordFile(String path, String language, String category) { }
+
+    /**
+     * Words of one import, validated and deduplicated in memory and written
+     * in batches at the end.
+     */
+    private final class WordImport {
+        private final String source;
+        private final String language;
+        private final String category;
+        private final WordLoadResult result;
+        private final Set<String> existingWords;
+        private final Set<String> seenWords = new HashSet<>();
+        private final List<WordEntity> pending = new ArrayList<>();
+        private long readNanos;
+
+        /**
+         * @param existingWords the words already stored for the language; only read,
+         *                      so it can be shared between imports running in parallel
+         */
+        private WordImport(String source, String language, String category, Set<String> existingWords) {
+            this(source, language, category, existingWords, new WordLoadResult(language, category));
+        }
+
+        /**
+         * @param result the result to report to, shared by the chunks of a streaming import
+         */
+        private WordImport(String source, String language, String category, Set<String> existingWords,
+                           WordLoadResult result) {
+            this.source = source;
+            this.language = language;
+            this.category = category != null ? category.toLowerCase().trim() : null;
+            this.result = result;
+            this.existingWords = existingWords;
+        }
+
+        /**
+         * Processes a single line of the source.
+         * The method performs the following checks:
+         * - Skips empty lines and lines starting with '#'.
+         * - Validates word format (alphabetic only, proper length).
+         * - Skips banned words.
+         * - Skips words already present in the database or earlier in the source.
+         * Accepted words are queued for the batch insert.
+         *
+         * @param word the trimmed line
+         * @param lineNumber the line number in the source (used for error reporting)
+         */
+        private void addLine(String word, int lineNumber) {
+            // skip empty lines and comments
+            if (word.isEmpty() || word.startsWith("#")) {
+                return;
+            }
+
+            String cleanWord = word.toLowerCase().trim();
+
+            // Validate word format for specific language
+            if (!isValidWordForLanguage(cleanWord, language)) {
+                result.addError("Line " + lineNumber + ": Invalid word format for language: " + language + ": " + word);
+                result.incrementSkipped();
+                return;
+            }
+
+            // Check banned words
+            if (isBannedWord(cleanWord, language)) {
+                result.addError("Line " + lineNumber + ": Banned word for " + language + ": " + word);
+                result.incrementSkipped();
+                return;
+            }
+
+            // Skip words already in the database or earlier in this source
+            if (existingWords.contains(cleanWord) || !seenWords.add(cleanWord)) {
+                result.incrementSkipped();
+                return;
+            }
+
+            pending.add(createWordEntity(cleanWord, language, category));
+        }
+
+        /**
+         * Removes queued words that another import of the same language already holds.
+         *
+         * @param mergedWords the words queued by earlier imports, updated with this import's words
+         */
+        private void dropDuplicates(Set<String> mergedWords) {
+            Iterator<WordEntity> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                if (!mergedWords.add(iterator.next().getContent())) {
+                    iterator.remove();
+                    result.incrementSkipped();
+                }
+            }
+        }
+
+        /**
+         * Removes queued words that are already stored.
+         *
+         * @param storedWords the stored words of this import's language, keyed by content
+         * @param keptIds collects the ids of the stored words found in this import
+         * @param reactivateIds collects the ids of the stored inactive words found in this import
+         */
+        private void dropStored(Map<String, WordState> storedWords, Set<Long> keptIds, List<Long> reactivateIds) {
+            Iterator<WordEntity> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                WordState state = storedWords.get(iterator.next().getContent());
+                if (state != null) {
+                    iterator.remove();
+                    keptIds.add(state.getId());
+                    if (!Boolean.TRUE.equals(state.getActive())) {
+                        reactivateIds.add(state.getId());
+                    }
+                }
+            }
+        }
+
+        /** Inserts the queued words */
+        private void write() {
+            wordBatchWriter.insert(pending);
+            recordWritten();
+        }
+
+        /** Counts the queued words as loaded once they are inserted */
+        private void recordWritten() {
+            result.addLoaded(pending.size());
+
+            Map<DifficultyLevel, Long> byDifficulty = new EnumMap<>(DifficultyLevel.class);
+            pending.forEach(word -> byDifficulty.merge(word.getDifficultlyLevel(), 1L, Long::sum));
+            byDifficulty.forEach((difficulty, count) ->
+                    wordStatistics.recordWordsAdded(language, category, difficulty, count));
+        }
+    }
+
     /**
      * Represents the result of loading words from a file or source.
      * Tracks the number of successfully loaded words, skipped words,
@@ -389,11 +768,19 @@ public class WordLoaderService {
      */
     public static class WordLoadResult {
 
+        /** Number of error messages kept, further errors are only counted */
+        public static final int MAX_ERROR_DETAILS = 100;
+
         private final String language;
         private final String category;
-        private int loadedCount = 0;
-        private int skippedCount = 0;
-        private final List<String> errors = new ArrayList<>();
+        // written by the importing thread only, volatile so progress can be read by others
+        private volatile int loadedCount = 0;
+        private volatile int skippedCount = 0;
+        private volatile int errorCount = 0;
+        private volatile int chunkCount = 0;
+        private volatile long linesProcessed = 0;
+        private volatile long durationMillis = 0;
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
 
         public WordLoadResult() {
             this(null, null);
@@ -404,9 +791,17 @@ public class WordLoaderService {
             this.category = category;
         }
 
-        public void incrementLoaded() { loadedCount++; }
+        public void addLoaded(int count) { loadedCount += count; }
+        public void recordDuration(long millis) { durationMillis = millis; }
         public void incrementSkipped() { skippedCount++; }
-        public void addError(String error) { errors.add(error); }
+        public void recordChunk() { chunkCount++; }
+        public void incrementLines() { linesProcessed++; }
+
+        public void addError(String error) {
+            if (errorCount++ < MAX_ERROR_DETAILS) {
+                errors.add(error);
+            }
+        }
 
         public int getLoadedCount() {
             return loadedCount;
@@ -416,12 +811,39 @@ public class WordLoaderService {
             return skippedCount;
         }
 
+        /** Returns the first {@link #MAX_ERROR_DETAILS} error messages */
         public List<String> getErrors() {
-            return new ArrayList<>(errors);
+            synchronized (errors) {
+                return new ArrayList<>(errors);
+            }
+        }
+
+        /** Returns the number of errors, including the ones without a kept message */
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        /** Returns the number of lines read by a streaming import */
+        public long getLinesProcessed() {
+            return linesProcessed;
+        }
+
+        /** Returns the number of committed chunks of a streaming import */
+        public int getChunkCount() {
+            return chunkCount;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /** Returns the number of loaded words per second of load time */
+        public double getWordsPerSecond() {
+            return durationMillis > 0 ? loadedCount * 1000.0 / durationMillis : loadedCount;
         }
 
         public boolean hasErrors() {
-            return !errors.isEmpty();
+            return errorCount > 0;
         }
 
         public String getLanguage () {
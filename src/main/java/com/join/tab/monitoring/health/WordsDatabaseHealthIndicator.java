@@ -1,6 +1,6 @@
 package com.join.tab.monitoring.health;
 
-import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.monitoring.metrics.WordStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.health.Health;
@@ -10,19 +10,18 @@ import org.springframework.stereotype.Component;
 @Component("worksDatabase")
 public class WordsDatabaseHealthIndicator implements HealthIndicator {
     private static final Logger log = LoggerFactory.getLogger(WordsDatabaseHealthIndicator.class);
-    private final WordJpaRepository wordJpaRepository;
+    private final WordStatistics wordStatistics;
 
-    public WordsDatabaseHealthIndicator (WordJpaRepository wordJpaRepository) {
-        this.wordJpaRepository = wordJpaRepository;
+    public WordsDatabaseHealthIndicator (WordStatistics wordStatistics) {
+        this.wordStatistics = wordStatistics;
     }
 
     @Override
     public Health health() {
        try {
-           // count total word in database
-           long totalWords = wordJpaRepository.count();
-           // count only active word
-           long activeWords = wordJpaRepository.countByIsActiveTrue();
+           // total and active word counts, kept in memory by WordStatistics
+           long totalWords = wordStatistics.getTotalWords();
+           long activeWords = wordStatistics.getActiveWords();
 
            // if no active words, mark health as DOWN
            if (activeWords == 0) {
@@ -37,7 +36,7 @@ public class WordsDatabaseHealthIndicator implements HealthIndicator {
            return Health.up()
                    .withDetail("totalWords", totalWords)
                    .withDetail("activeWords", activeWords)
-                   .withDetail("supportedLanguages", wordJpaRepository.findSupportedLanguages())
+                   .withDetail("supportedLanguages", wordStatistics.getSupportedLanguages())
                    .withDetail("status", "Words database is healthy")
                    .build();
 
@@ -1,7 +1,7 @@
 package com.join.tab.monitoring.info;
 
-import com.join.tab.infra.repository.jpa.WordJpaRepository;
 import com.join.tab.monitoring.metrics.GameMetrics;
+import com.join.tab.monitoring.metrics.WordStatistics;
 import org.springframework.boot.actuate.info.Info;
 import org.springframework.boot.actuate.info.InfoContributor;
 import org.springframework.stereotype.Component;
@@ -13,24 +13,24 @@ import java.util.Map;
  * Contributes game and word statistics to the Spring Boot Actuator / info endpoint
  * <p>
  *     This class collect metrics such as total games started, won, lost, win rate,
- *     as wel as word counts and supported languages form the database.
+ *     as wel as word counts and supported languages form {@link WordStatistics}.
  * </p>
  */
 @Component
 public class GameStatsInfoContributor implements InfoContributor {
 
     private final GameMetrics gameMetrics;
-    private final WordJpaRepository wordJpaRepository;
+    private final WordStatistics wordStatistics;
 
     /**
-     * Constructor to inject game metrics and word repository.
+     * Constructor to inject game metrics and word statistics.
      *
      * @param gameMetrics metrics about game play.
-     * @param wordJpaRepository repo for accessing word data
+     * @param wordStatistics in-memory word counts
      */
-    public GameStatsInfoContributor (GameMetrics gameMetrics, WordJpaRepository wordJpaRepository) {
+    public GameStatsInfoContributor (GameMetrics gameMetrics, WordStatistics wordStatistics) {
         this.gameMetrics = gameMetrics;
-        this.wordJpaRepository = wordJpaRepository;
+        this.wordStatistics = wordStatistics;
     }
 
     /**
@@ -48,9 +48,9 @@ public class GameStatsInfoContributor implements InfoContributor {
         gameStats.put("winRate", String.format("%.2f%%", gameMetrics.getWinRate() * 100));
 
         // Word statistics
-        gameStats.put("totalWords", wordJpaRepository.count());
-        gameStats.put("activeWords", wordJpaRepository.countByIsActiveTrue());
-        gameStats.put("supportedLanguages", wordJpaRepository.findSupportedLanguages());
+        gameStats.put("totalWords", wordStatistics.getTotalWords());
+        gameStats.put("activeWords", wordStatistics.getActiveWords());
+        gameStats.put("supportedLanguages", wordStatistics.getSupportedLanguages());
 
         builder.withDetail("gameStatistics", gameStats);
 
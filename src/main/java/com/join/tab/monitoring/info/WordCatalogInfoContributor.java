@@ -0,0 +1,37 @@
+package com.join.tab.monitoring.info;
+
+import com.join.tab.infra.catalog.WordCatalog;
+import com.join.tab.infra.catalog.WordCatalogSnapshot;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Contributes the serving word catalog generation to the Spring Boot Actuator / info endpoint.
+ * <p>
+ *     Shows the generation number, when it was built and how many words it holds,
+ *     so it is visible which admin change the catalog already includes.
+ * </p>
+ */
+@Component
+public class WordCatalogInfoContributor implements InfoContributor {
+
+    private final WordCatalog wordCatalog;
+
+    public WordCatalogInfoContributor (WordCatalog wordCatalog) {
+        this.wordCatalog = wordCatalog;
+    }
+
+    @Override
+    public void contribute (Info.Builder builder) {
+        WordCatalogSnapshot snapshot = wordCatalog.current();
+
+        builder.withDetail("wordCatalog", Map.of(
+                "generation", snapshot.getGeneration(),
+                "builtAt", snapshot.getBuiltAt().toString(),
+                "words", snapshot.size()
+        ));
+    }
+}
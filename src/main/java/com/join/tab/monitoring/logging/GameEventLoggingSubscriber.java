@@ -0,0 +1,44 @@
+package com.join.tab.monitoring.logging;
+
+import com.join.tab.domain.event.GameEndedEvent;
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.event.GameEventSubscriber;
+import com.join.tab.domain.event.GameStartedEvent;
+import com.join.tab.domain.event.LetterGuessedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Logs the published domain events at debug level, off the request thread.
+ * The word of a running game is not logged.
+ */
+@Component
+public class GameEventLoggingSubscriber implements GameEventSubscriber {
+    private static final Logger log = LoggerFactory.getLogger(GameEventLoggingSubscriber.class);
+
+    @Override
+    public void onEvents(List<GameEvent> events) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        for (GameEvent event : events) {
+            if (event instanceof GameStartedEvent started) {
+                log.debug("Game {} started: language={}, category={}, difficulty={}", started.getGameid(),
+                        started.getLanguage(), started.getCategory(), started.getDifficulty());
+            } else if (event instanceof LetterGuessedEvent guessed) {
+                log.debug("Game {}: letter '{}' guessed, correct: {}", guessed.getGameid(),
+                        guessed.getLetter().getValue(), guessed.isWasCorrect());
+            } else if (event instanceof GameEndedEvent ended) {
+                log.debug("Game {} ended: won={}, word={}", ended.getGameid(), ended.isPlayerWon(), ended.getWord());
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "logging";
+    }
+}
@@ -5,12 +5,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 /**
  * Component that tracks metrics for Hangman game sessions.
@@ -20,8 +24,16 @@ import java.util.concurrent.atomic.AtomicLong;
  *         <li>Total games started, won, and lost</li>
  *         <li>Total letters guesses, correct and incorrect guesses</li>
  *         <li>Duration of game session</li>
- *         <li>Active game count (Gauge)</li>
+ *         <li>Active game count (Gauge), kept by the game store</li>
+ *         <li>Games removed after the idle timeout</li>
+ *         <li>Games spilled to and faulted in from disk by a bounded game store</li>
+ *         <li>Records per group commit and sync time of the game event log</li>
+ *         <li>Depth, consumer lag and dropped events of the game event bus</li>
+ *         <li>Open game WebSocket channels</li>
+ *         <li>Game starts waiting for a thread of the async API</li>
  *         <li>Games grouped be language and category</li>
+ *         <li>Word prefetch buffer hits, misses and refill latency</li>
+ *         <li>Default word file load times</li>
  *     </ul>
  * </p>
  *
@@ -38,10 +50,21 @@ public class GameMetrics {
     private final Counter gamesStartedCounter;
     private final Counter gamesWonCounter;
     private final Counter gamesLostCounter;
+    private final Counter gamesExpiredCounter;
+    private final Counter gamesSpilledCounter;
+    private final Counter gamesFaultedInCounter;
+    private final Counter gameEventsDroppedCounter;
     private final Counter lettersGuessedCounter;
     private final Counter correctGuessesCounter;
     private final Counter incorrectGuessesCounter;
     private final Timer gameSessionTimer;
+    private final DistributionSummary eventLogBatchSummary;
+    private final Timer eventLogSyncTimer;
+    private final Counter wordBufferHitsCounter;
+    private final Counter wordBufferMissesCounter;
+    private final Timer wordBufferRefillTimer;
+    private final Timer defaultWordsLoadTimer;
+    private final MeterRegistry meterRegistry;
 
     private final AtomicLong activeGames = new AtomicLong(0);
     private final ConcurrentHashMap<String, AtomicLong> gamesByLanguage = new ConcurrentHashMap<>();
@@ -52,6 +75,8 @@ public class GameMetrics {
      * @param meterRegistry the registry to store metrics.
      */
     public GameMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
         // Counters for different game event
         this.gamesStartedCounter = Counter.builder("hangman.games.started")
                 .description("Total number of games started")
@@ -65,6 +90,18 @@ public class GameMetrics {
                 .description("Total number of games lost by players")
                 .register(meterRegistry);
 
+        this.gamesExpiredCounter = Counter.builder("hangman.games.expired")
+                .description("Total number of games removed after the idle timeout")
+                .register(meterRegistry);
+
+        this.gamesSpilledCounter = Counter.builder("hangman.games.spilled")
+                .description("Total number of games moved from memory to the spill file")
+                .register(meterRegistry);
+
+        this.gamesFaultedInCounter = Counter.builder("hangman.games.faulted")
+                .description("Total number of spilled games read back into memory")
+                .register(meterRegistry);
+
         this.lettersGuessedCounter = Counter.builder("hangman.letters.guessed")
                 .description("Total number of letters guessed")
                 .register(meterRegistry);
@@ -82,19 +119,49 @@ public class GameMetrics {
                 .description("Duration of game sessions")
                 .register(meterRegistry);
 
+        this.gameEventsDroppedCounter = Counter.builder("hangman.events.dropped")
+                .description("Game events dropped because the event bus was full")
+                .register(meterRegistry);
+
+        // Game event log
+        this.eventLogBatchSummary = DistributionSummary.builder("hangman.games.events.batch")
+                .description("Number of game event records synced together")
+                .register(meterRegistry);
+
+        this.eventLogSyncTimer = Timer.builder("hangman.games.events.sync")
+                .description("Duration of a game event log sync")
+                .register(meterRegistry);
+
+        // Word prefetch buffers
+        this.wordBufferHitsCounter = Counter.builder("hangman.words.buffer.hits")
+                .description("Number of words served from a prefetch buffer")
+                .register(meterRegistry);
+
+        this.wordBufferMissesCounter = Counter.builder("hangman.words.buffer.misses")
+                .description("Number of words looked up directly because the prefetch buffer was empty")
+                .register(meterRegistry);
+
+        this.wordBufferRefillTimer = Timer.builder("hangman.words.buffer.refill")
+                .description("Duration of prefetch buffer refills")
+                .register(meterRegistry);
+
+        // Default word files
+        this.defaultWordsLoadTimer = Timer.builder("hangman.words.load.defaults")
+                .description("Duration of loading all default word files")
+                .register(meterRegistry);
+
         // Gauge for currently active games
         Gauge.builder("hangman.games.active", activeGames, AtomicLong::get)
-                .description("Number of currently active games")
+                .description("Number of stored games in progress")
                 .register(meterRegistry);
     }
 
     /**
      * Records the start of a new game.
-     * Increments counters and active games, grouped by language and category
+     * Increments counters, grouped by language and category
      */
     public void recordGameStarted(String language, String category) {
         gamesStartedCounter.increment();
-        activeGames.incrementAndGet();
 
         gamesByLanguage.computeIfAbsent(language, k -> new AtomicLong(0)).incrementAndGet();
         if (category != null && !category.isEmpty()) {
@@ -106,24 +173,129 @@ public class GameMetrics {
 
     /**
      * Record a game won by a player.
-     * Decrements active games counter.
      */
     public void recordGameWon(String language) {
         gamesWonCounter.increment();
-        activeGames.decrementAndGet();
         log.debug("Recorded game won: language={}", language);
     }
 
     /**
      * Records a game lost be a player.
-     * Decrement active games counter.
      */
     public void recordGameLost(String language) {
         gamesLostCounter.increment();
-        activeGames.decrementAndGet();
         log.debug("Recorded game lost: language={}", language);
     }
 
+    /** Records a game in progress that was stored */
+    public void recordGameActivated() {
+        activeGames.incrementAndGet();
+    }
+
+    /** Records a stored game that finished, or was removed while in progress */
+    public void recordGameDeactivated() {
+        activeGames.decrementAndGet();
+    }
+
+    /** Records a game removed after the idle timeout */
+    public void recordGameExpired() {
+        gamesExpiredCounter.increment();
+    }
+
+    /**
+     * Registers the gauges of a capacity bounded game store.
+     * @param capacity the maximum number of games in memory
+     * @param inMemory the number of games in memory
+     * @param onDisk the number of games in the spill file
+     */
+    public void registerGameStore(int capacity, IntSupplier inMemory, IntSupplier onDisk) {
+        Gauge.builder("hangman.games.memory.capacity", () -> capacity)
+                .description("Maximum number of games kept in memory")
+                .register(meterRegistry);
+        Gauge.builder("hangman.games.memory.size", inMemory::getAsInt)
+                .description("Number of games kept in memory")
+                .register(meterRegistry);
+        Gauge.builder("hangman.games.disk.size", onDisk::getAsInt)
+                .description("Number of games in the spill file")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the gauge of open game WebSocket channels.
+     * @param open supplies the number of open channels
+     */
+    public void registerGameChannels(IntSupplier open) {
+        Gauge.builder("hangman.channels.open", open::getAsInt)
+                .description("Open game WebSocket channels")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the gauge of game starts queued by the async game API.
+     * @param queued supplies the number of starts waiting for a thread
+     */
+    public void registerGameStartQueue(IntSupplier queued) {
+        Gauge.builder("hangman.api.start.queued", queued::getAsInt)
+                .description("Game starts waiting for a thread of the async API")
+                .register(meterRegistry);
+    }
+
+    /** Records games moved from memory to the spill file */
+    public void recordGamesSpilled(int count) {
+        gamesSpilledCounter.increment(count);
+    }
+
+    /**
+     * Records one group commit of the game event log.
+     * @param records the number of records synced together
+     * @param nanos the sync duration in nanoseconds
+     */
+    public void recordEventLogSync(int records, long nanos) {
+        eventLogBatchSummary.record(records);
+        eventLogSyncTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers the gauges of the game event bus.
+     * @param capacity the number of slots of the bus
+     * @param depth the number of events not yet handled by every subscriber
+     */
+    public void registerGameEventBus(int capacity, LongSupplier depth) {
+        Gauge.builder("hangman.events.queue.capacity", () -> capacity)
+                .description("Number of slots of the game event bus")
+                .register(meterRegistry);
+        Gauge.builder("hangman.events.queue.depth", depth::getAsLong)
+                .description("Game events not yet handled by every subscriber")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the lag gauge of one game event subscriber.
+     * @param subscriber the subscriber name, used as the {@code subscriber} tag
+     * @param lag the number of published events the subscriber has not handled yet
+     */
+    public void registerGameEventConsumer(String subscriber, LongSupplier lag) {
+        Gauge.builder("hangman.events.consumer.lag", lag::getAsLong)
+                .description("Game events published but not yet handled by the subscriber")
+                .tag("subscriber", subscriber)
+                .register(meterRegistry);
+    }
+
+    /** Records game events dropped because the event bus was full */
+    public void recordGameEventsDropped(int count) {
+        gameEventsDroppedCounter.increment(count);
+    }
+
+    /** Return total game events dropped by the event bus */
+    public long getGameEventsDroppedCount() {
+        return (long) gameEventsDroppedCounter.count();
+    }
+
+    /** Records a spilled game read back into memory */
+    public void recordGameFaultedIn() {
+        gamesFaultedInCounter.increment();
+    }
+
     /**
      * Record a letter guess and correct of incorrect counters.
      */
@@ -151,10 +323,49 @@ public class GameMetrics {
         sample.stop(gameSessionTimer);
     }
 
+    /** Records a word served from a prefetch buffer */
+    public void recordWordBufferHit() {
+        wordBufferHitsCounter.increment();
+    }
+
+    /** Records a word looked up directly because its prefetch buffer was empty */
+    public void recordWordBufferMiss() {
+        wordBufferMissesCounter.increment();
+    }
+
+    /**
+     * Records the duration of a prefetch buffer refill.
+     * @param nanos the refill duration in nanoseconds
+     */
+    public void recordWordBufferRefill(long nanos) {
+        wordBufferRefillTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records how long reading and validating one word file took.
+     * @param file the file path, used as the {@code file} tag
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordWordFileLoad(String file, long nanos) {
+        Timer.builder("hangman.words.load.file")
+                .description("Duration of reading and validating a word file")
+                .tag("file", file)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records how long loading all default word files took, including the insert.
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordDefaultWordsLoad(long nanos) {
+        defaultWordsLoadTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Returns the number of currently active games.
      */
-    private long getActiveGames() {
+    public long getActiveGames() {
         return activeGames.get();
     }
 
@@ -168,11 +379,26 @@ public class GameMetrics {
         return (long) gamesWonCounter.count();
     }
 
+    /** Return total games removed after the idle timeout */
+    public long getGamesExpiredCount() {
+        return (long) gamesExpiredCounter.count();
+    }
+
     /** Return total games lose count */
     public long getGamesLostCount() {
         return (long) gamesLostCounter.count();
     }
 
+    /** Return total words served from prefetch buffers */
+    public long getWordBufferHitCount() {
+        return (long) wordBufferHitsCounter.count();
+    }
+
+    /** Return total prefetch buffer misses */
+    public long getWordBufferMissCount() {
+        return (long) wordBufferMissesCounter.count();
+    }
+
     /** Returns the win rate as a double (0.0 to 1.0) */
     public double getWinRate() {
         long total = getGamesWonCount() + getGamesLostCount();
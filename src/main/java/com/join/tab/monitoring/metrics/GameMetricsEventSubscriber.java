@@ -0,0 +1,52 @@
+package com.join.tab.monitoring.metrics;
+
+import com.join.tab.domain.event.GameEndedEvent;
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.event.GameEventSubscriber;
+import com.join.tab.domain.event.GameStartedEvent;
+import com.join.tab.domain.event.LetterGuessedEvent;
+import com.join.tab.domain.valueobject.Language;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Records the game counters of {@link GameMetrics} from the published domain events,
+ * off the request thread: games started by language and category, letters guessed,
+ * and games won or lost.
+ */
+@Component
+public class GameMetricsEventSubscriber implements GameEventSubscriber {
+
+    private final GameMetrics gameMetrics;
+
+    public GameMetricsEventSubscriber(GameMetrics gameMetrics) {
+        this.gameMetrics = gameMetrics;
+    }
+
+    @Override
+    public void onEvents(List<GameEvent> events) {
+        for (GameEvent event : events) {
+            if (event instanceof GameStartedEvent started) {
+                gameMetrics.recordGameStarted(code(started.getLanguage()), started.getCategory());
+            } else if (event instanceof LetterGuessedEvent guessed) {
+                gameMetrics.recordLetterGuessed(code(guessed.getLanguage()), guessed.isWasCorrect());
+            } else if (event instanceof GameEndedEvent ended) {
+                if (ended.isPlayerWon()) {
+                    gameMetrics.recordGameWon(code(ended.getLanguage()));
+                } else {
+                    gameMetrics.recordGameLost(code(ended.getLanguage()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "metrics";
+    }
+
+    private static String code(Language language) {
+        return language != null ? language.getCode() : Language.defaultLanguage().getCode();
+    }
+}
@@ -0,0 +1,387 @@
+package com.join.tab.monitoring.metrics;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.infra.entity.WordEntity;
+import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.BucketCount;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.BucketStatusCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory word statistics used by the monitoring and language endpoints.
+ * <p>
+ *     Keeps active and inactive word counters for every
+ *     (language, category, difficulty) bucket, so health checks, info and
+ *     stats endpoints never run {@code COUNT} queries.
+ *     {@link com.join.tab.infra.catalog.WordCounts} builds the language
+ *     and category snapshots from the same counters.
+ *     <ul>
+ *         <li>Word add, remove and upload paths update the counters, reloads
+ *         reload them from the database.
+ *         Inside a transaction the update is applied only after commit.</li>
+ *         <li>The counters are loaded on first use and periodically reconciled
+ *         against the database with one aggregate query, which also repairs
+ *         any drift. Updates applied while the query runs are replayed on top
+ *         of the loaded counts before they replace the current ones.
+ *         A change whose transaction commits before the query reads, but whose
+ *         update is applied after the reload started, is both loaded and replayed.
+ *         That double count is bounded by the changes racing the start of the query
+ *         and is repaired by the next reconcile.</li>
+ *     </ul>
+ * </p>
+ */
+@Component
+public class WordStatistics {
+    private static final Logger log = LoggerFactory.getLogger(WordStatistics.class);
+
+    private final WordJpaRepository wordJpaRepository;
+    private final TransactionTemplate readTransaction;
+    private volatile Map<BucketKey, BucketCounts> buckets;
+    /** Guards applying updates against swapping in reloaded counters */
+    private final Object updateLock = new Object();
+    /** Updates applied since the running reload started, {@code null} when no reload runs */
+    private List<Consumer<Map<BucketKey, BucketCounts>>> pendingUpdates;
+    /** Changes whenever the current counters change, guarded by the update lock */
+    private volatile long version;
+
+    public WordStatistics(WordJpaRepository wordJpaRepository, PlatformTransactionManager transactionManager) {
+        this.wordJpaRepository = wordJpaRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Records a newly stored active word.
+     *
+     * @param word the saved word entity
+     */
+    public void recordWordAdded(WordEntity word) {
+        recordWordsAdded(word.getLanguage(), word.getCategory(), word.getDifficultlyLevel(), 1);
+    }
+
+    /**
+     * Records a number of newly stored active words of one bucket.
+     *
+     * @param language the language code
+     * @param category the category, may be {@code null}
+     * @param difficulty the difficulty level
+     * @param count the number of stored words
+     */
+    public void recordWordsAdded(String language, String category, DifficultyLevel difficulty, long count) {
+        BucketKey key = new BucketKey(language, category, difficulty);
+        afterCommit(loaded -> counts(loaded, key).active.addAndGet(count));
+    }
+
+    /**
+     * Records an active word that was deactivated.
+     *
+     * @param word the deactivated word entity
+     */
+    public void recordWordDeactivated(WordEntity word) {
+        BucketKey key = BucketKey.of(word);
+        afterCommit(loaded -> {
+            BucketCounts counts = counts(loaded, key);
+            counts.active.decrementAndGet();
+            counts.inactive.incrementAndGet();
+        });
+    }
+
+    /**
+     * Records a bulk change that is not tracked per bucket,
+     * e.g. a reload. The counters are reloaded after commit.
+     */
+    public void recordBulkChange() {
+        afterCommit(this::reload);
+    }
+
+    /** Returns the number of words, active and inactive */
+    public long getTotalWords() {
+        long total = 0;
+        for (BucketCounts counts : buckets().values()) {
+            total += counts.active.get() + counts.inactive.get();
+        }
+        return total;
+    }
+
+    /** Returns the number of active words */
+    public long getActiveWords() {
+        long total = 0;
+        for (BucketCounts counts : buckets().values()) {
+            total += counts.active.get();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of active words of a language.
+     *
+     * @param language the language code
+     * @return the active word count, 0 if the language is unknown
+     */
+    public long getActiveWords(String language) {
+        long total = 0;
+        for (Map.Entry<BucketKey, BucketCounts> entry : buckets().entrySet()) {
+            if (entry.getKey().language().equals(language)) {
+                total += entry.getValue().active.get();
+            }
+        }
+        return total;
+    }
+
+    /** Returns the number of active words per language, ordered by language code */
+    public Map<String, Long> getActiveWordsByLanguage() {
+        Map<String, Long> distribution = new TreeMap<>();
+        buckets().forEach((key, counts) -> {
+            long active = counts.active.get();
+            if (active > 0) {
+                distribution.merge(key.language(), active, Long::sum);
+            }
+        });
+        return distribution;
+    }
+
+    /** Returns the number of active words per difficulty level */
+    public Map<DifficultyLevel, Long> getActiveWordsByDifficulty() {
+        Map<DifficultyLevel, Long> distribution = new TreeMap<>();
+        buckets().forEach((key, counts) -> {
+            long active = counts.active.get();
+            if (active > 0 && key.difficulty() != null) {
+                distribution.merge(key.difficulty(), active, Long::sum);
+            }
+        });
+        return distribution;
+    }
+
+    /** Returns the codes of all languages with active words, in alphabetical order */
+    public List<String> getSupportedLanguages() {
+        return new ArrayList<>(getActiveWordsByLanguage().keySet());
+    }
+
+    /**
+     * Returns the categories of a language that have active words.
+     *
+     * @param language the language code
+     * @return the category names in alphabetical order
+     */
+    public List<String> getCategories(String language) {
+        TreeSet<String> categories = new TreeSet<>();
+        buckets().forEach((key, counts) -> {
+            if (key.language().equals(language) && key.category() != null && counts.active.get() > 0) {
+                categories.add(key.category());
+            }
+        });
+        return new ArrayList<>(categories);
+    }
+
+    /**
+     * Returns the number of active words of every bucket that has active words.
+     *
+     * @return one row per bucket
+     */
+    public List<BucketCount> getActiveBucketCounts() {
+        List<BucketCount> rows = new ArrayList<>();
+        buckets().forEach((key, counts) -> {
+            long active = counts.active.get();
+            if (active > 0) {
+                rows.add(new ActiveBucket(key, active));
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Returns a number that changes whenever the counters change, so values
+     * derived from them can be cached until the next change.
+     * Loads the counters first, so loading them does not change the version
+     * a caller just read.
+     */
+    public long getVersion() {
+        buckets();
+        return version;
+    }
+
+    /**
+     * Reloads all counters from the database.
+     * Runs on a fixed delay, see {@code hangman.words.statistics.reconcile-interval}.
+     */
+    @Scheduled(
+            initialDelayString = "${hangman.words.statistics.reconcile-interval:PT5M}",
+            fixedDelayString = "${hangman.words.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        Map<BucketKey, BucketCounts> current = buckets;
+        Map<BucketKey, BucketCounts> loaded = reload();
+
+        if (current != null && !sameCounts(current, loaded)) {
+            log.info("Word statistics drifted from the database, reconciled {} buckets", loaded.size());
+        }
+    }
+
+    private Map<BucketKey, BucketCounts> buckets() {
+        Map<BucketKey, BucketCounts> current = buckets;
+        if (current == null) {
+            synchronized (this) {
+                current = buckets;
+                if (current == null) {
+                    current = reload();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Loads the counters and swaps them in. Updates applied while the query runs
+     * are recorded and replayed on the loaded counters first, so a word added or
+     * removed during the reload is not lost. Reloads run one at a time.
+     * The replay list is opened before the query takes its snapshot, so a change
+     * committed in between is counted twice until the next reconcile. Closing that
+     * window would mean holding back word commits while the query runs.
+     */
+    private synchronized Map<BucketKey, BucketCounts> reload() {
+        synchronized (updateLock) {
+            pendingUpdates = new ArrayList<>();
+        }
+
+        Map<BucketKey, BucketCounts> loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            synchronized (updateLock) {
+                pendingUpdates = null;
+            }
+            throw e;
+        }
+
+        synchronized (updateLock) {
+            pendingUpdates.forEach(update -> update.accept(loaded));
+            pendingUpdates = null;
+            buckets = loaded;
+            version++;
+        }
+        return loaded;
+    }
+
+    /**
+     * Runs the aggregate query in its own read-only transaction, so the counts
+     * only include committed words even when called from inside a write transaction.
+     */
+    private Map<BucketKey, BucketCounts> load() {
+        Map<BucketKey, BucketCounts> loaded = new ConcurrentHashMap<>();
+        List<BucketStatusCount> rows = readTransaction.execute(status -> wordJpaRepository.countWordsByBucketAndStatus());
+        for (BucketStatusCount row : rows) {
+            BucketCounts counts = loaded.computeIfAbsent(
+                    new BucketKey(row.getLanguage(), row.getCategory(), row.getDifficultyLevel()),
+                    k -> new BucketCounts());
+            if (Boolean.TRUE.equals(row.getActive())) {
+                counts.active.addAndGet(row.getWordCount());
+            } else {
+                counts.inactive.addAndGet(row.getWordCount());
+            }
+        }
+        return loaded;
+    }
+
+    private static BucketCounts counts(Map<BucketKey, BucketCounts> loaded, BucketKey key) {
+        return loaded.computeIfAbsent(key, k -> new BucketCounts());
+    }
+
+    private static boolean sameCounts(Map<BucketKey, BucketCounts> current, Map<BucketKey, BucketCounts> loaded) {
+        for (Map.Entry<BucketKey, BucketCounts> entry : current.entrySet()) {
+            BucketCounts other = loaded.getOrDefault(entry.getKey(), new BucketCounts());
+            if (entry.getValue().active.get() != other.active.get()
+                    || entry.getValue().inactive.get() != other.inactive.get()) {
+                return false;
+            }
+        }
+        return current.keySet().containsAll(loaded.keySet());
+    }
+
+    /**
+     * Applies the update after the current transaction commits, so rolled back
+     * changes are never counted. Without a transaction it is applied right away.
+     * Counters that were not loaded yet are left alone; the first read loads them
+     * with the committed change included. During a reload the update is also
+     * recorded for the reloaded counters.
+     */
+    private void afterCommit(Consumer<Map<BucketKey, BucketCounts>> update) {
+        afterCommit(() -> {
+            synchronized (updateLock) {
+                Map<BucketKey, BucketCounts> current = buckets;
+                if (current != null) {
+                    update.accept(current);
+                    version++;
+                }
+                if (pendingUpdates != null) {
+                    pendingUpdates.add(update);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable apply) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /** Identifies a (language, category, difficulty) bucket */
+    private record BucketKey(String language, String category, DifficultyLevel difficulty) {
+        private static BucketKey of(WordEntity word) {
+            return new BucketKey(word.getLanguage(), word.getCategory(), word.getDifficultlyLevel());
+        }
+    }
+
+    /** Active word count of a bucket, in the shape of the aggregate query rows */
+    private record ActiveBucket(BucketKey key, long count) implements BucketCount {
+        @Override
+        public String getLanguage() {
+            return key.language();
+        }
+
+        @Override
+        public String getCategory() {
+            return key.category();
+        }
+
+        @Override
+        public DifficultyLevel getDifficultyLevel() {
+            return key.difficulty();
+        }
+
+        @Override
+        public long getWordCount() {
+            return count;
+        }
+    }
+
+    /** Active and inactive word counters of a bucket */
+    private static final class BucketCounts {
+        private final AtomicLong active = new AtomicLong();
+        private final AtomicLong inactive = new AtomicLong();
+    }
+}
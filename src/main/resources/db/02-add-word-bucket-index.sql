@@ -0,0 +1,2 @@
+-- seek index for id-range random word sampling
+CREATE INDEX idx_word_bucket_id ON words (language, category, difficulty_level, id);
@@ -0,0 +1,4 @@
+-- seek indexes for id-range sampling of buckets without a category or without a language
+CREATE INDEX idx_word_language_id ON words (language, id);
+CREATE INDEX idx_word_language_difficulty_id ON words (language, difficulty_level, id);
+CREATE INDEX idx_word_difficulty_id ON words (difficulty_level, id);
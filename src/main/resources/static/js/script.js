@@ -99,11 +99,54 @@ window.addEventListener('DOMContentLoaded', () => {
             hangmanEl.src = `/images/stage-0.png`;
             enableAllButtons();
             usedLetters.clear();
+            // the session cookie exists now, so the channel plays this game
+            openChannel();
         } catch (e) {
             console.error('Error start a new game:', e);
         }
     }
 
+    // ======== Game channel ========
+    // guesses go over one WebSocket instead of a POST per letter, REST is the fallback
+    let channel = null;
+    const pendingReplies = [];
+
+    function openChannel() {
+        if (channel) return;
+        const scheme = location.protocol === 'https:' ? 'wss' : 'ws';
+        channel = new WebSocket(`${scheme}://${location.host}/ws/hangman`);
+        // replies come back in request order
+        channel.onmessage = event => {
+            const resolve = pendingReplies.shift();
+            if (resolve) resolve(event.data);
+        };
+        channel.onclose = () => {
+            channel = null;
+            pendingReplies.splice(0).forEach(resolve => resolve(null));
+        };
+    }
+
+    function sendOverChannel(request) {
+        if (!channel || channel.readyState !== WebSocket.OPEN) return Promise.resolve(null);
+        return new Promise(resolve => {
+            pendingReplies.push(resolve);
+            channel.send(request);
+        });
+    }
+
+    // g:<1|0>:<remainingTries>:<status>:<currentState>[:<word>]
+    function parseGuessReply(reply) {
+        const [type, correct, remainingTries, status, currentState, word] = reply.split(':');
+        if (type !== 'g') throw new Error(`guess failed: ${reply}`);
+        return { wasCorrect: correct === '1', remainingTries: Number(remainingTries), status, currentState, word };
+    }
+
+    async function guessOverRest(letter) {
+        const response = await fetch(`/api/hangman/guess?letter=${encodeURIComponent(letter)}&lang=${currentLang}`, { method: 'POST' });
+        if (!response.ok) throw new Error('response error');
+        return response.json();
+    }
+
     // ======== Confetti ========
     function triggerConfetti() {
         const random = Math.random;
@@ -252,10 +295,8 @@ window.addEventListener('DOMContentLoaded', () => {
         btn.disabled = true;
 
         try {
-            const response = await fetch(`/api/hangman/guess?letter=${encodeURIComponent(letter)}&lang=${currentLang}`, { method: 'POST' });
-            if (!response.ok) throw new Error('response error');
-
-            const result = await response.json();
+            const reply = await sendOverChannel(`g${letter}`);
+            const result = reply ? parseGuessReply(reply) : await guessOverRest(letter);
             wordEl.innerHTML = result.currentState.split('').join(' ');
 
             const mistakes = initialTries - result.remainingTries;
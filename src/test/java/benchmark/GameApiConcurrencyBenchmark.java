@@ -0,0 +1,125 @@
+package benchmark;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency comparison of the blocking and the async game API.
+ * Starters start games in a loop while players read their game's status; every
+ * client has its own HTTP session. With a blocking API the starters hold the
+ * servlet workers while a word is picked and the players queue behind them; with
+ * {@code hangman.api.mode=async} the starts wait on their own bounded pool.
+ * Prints the requests per second, p50 and p99 round trip and rejected (503) requests
+ * of both kinds of client. Unlike the JMH benchmarks this drives a running application,
+ * started once per mode with the same small worker pool, e.g.
+ * <pre>
+ *     java -jar target/hangman-web-0.0.1-SNAPSHOT.jar --server.tomcat.threads.max=8 \
+ *         --hangman.words.selection=database --hangman.words.prefetch.enabled=false --hangman.api.mode=async
+ *     mvn test-compile
+ *     java -cp "target/test-classes:target/classes:$(cat target/classpath.txt)" benchmark.GameApiConcurrencyBenchmark \
+ *         http://localhost:8080 64 16 20
+ * </pre>
+ * The arguments are the base url, the number of starters and players and the seconds to run.
+ */
+public class GameApiConcurrencyBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int starters = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        // warm up, then measure
+        run(baseUrl, starters, players, Math.max(1, seconds / 4));
+        List<Client> clients = run(baseUrl, starters, players, seconds);
+
+        print("start", clients.subList(0, starters), seconds);
+        print("status", clients.subList(starters, clients.size()), seconds);
+    }
+
+    private static List<Client> run(String baseUrl, int starters, int players, int seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < starters + players; i++) {
+            String path = i < starters ? "/api/hangman/start?lang=en" : "/api/hangman/status";
+            clients.add(new Client(baseUrl, path, i < starters ? "POST" : "GET"));
+        }
+        List<Thread> threads = new ArrayList<>();
+        for (Client client : clients) {
+            threads.add(new Thread(() -> client.play(deadline)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return clients;
+    }
+
+    private static void print(String kind, List<Client> clients, int seconds) {
+        long[] latencies = new long[0];
+        int count = 0;
+        int rejected = 0;
+        for (Client client : clients) {
+            latencies = Arrays.copyOf(latencies, count + client.count);
+            System.arraycopy(client.latencies, 0, latencies, count, client.count);
+            count += client.count;
+            rejected += client.rejected;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-7s %8.0f req/s   p50 %8.3f ms   p99 %8.3f ms   %d rejected%n",
+                kind, count / (double) seconds,
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, rejected);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, (long) (sorted.length * percentile))];
+    }
+
+    private static final class Client {
+        private final HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .build();
+        private final HttpRequest request;
+        private long[] latencies = new long[1 << 12];
+        private int count;
+        private int rejected;
+
+        Client(String baseUrl, String path, String method) {
+            this.request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .method(method, HttpRequest.BodyPublishers.noBody())
+                    .build();
+            // the session cookie and a game to read
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/hangman/start?lang=en"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build());
+        }
+
+        void play(long deadline) {
+            while (System.nanoTime() < deadline) {
+                long start = System.nanoTime();
+                if (send(request) == 503) {
+                    rejected++;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+
+        private int send(HttpRequest request) {
+            try {
+                return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
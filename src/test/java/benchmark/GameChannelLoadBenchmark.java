@@ -0,0 +1,210 @@
+package benchmark;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load comparison of the two ways a page can play: one {@code POST /api/hangman/guess}
+ * per letter, or one frame per letter over the game WebSocket channel.
+ * Every client has its own HTTP session, starts a game over REST and then guesses
+ * letters for a fixed time; a finished game is started again over the same path.
+ * Prints the requests per second and the p50 and p99 round trip of each path.
+ * Unlike the JMH benchmarks this drives a running application:
+ * <pre>
+ *     mvn test-compile
+ *     java -cp "target/test-classes:target/classes:$(cat target/classpath.txt)" benchmark.GameChannelLoadBenchmark \
+ *         http://localhost:8080 32 20
+ * </pre>
+ * The arguments are the base url, the number of clients and the seconds per path.
+ */
+public class GameChannelLoadBenchmark {
+
+    private static final String LETTERS = "etaoinsrhldcumfpgwybvkxjqz";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        for (String path : List.of("rest", "websocket")) {
+            // warm up the path, then measure it
+            run(baseUrl, path, clients, Math.max(1, seconds / 4));
+            Result result = run(baseUrl, path, clients, seconds);
+            System.out.printf("%-10s %9.0f req/s   p50 %7.3f ms   p99 %7.3f ms   (%d requests)%n",
+                    path, result.count / (double) seconds,
+                    result.percentile(0.50) / 1e6, result.percentile(0.99) / 1e6, result.count);
+        }
+    }
+
+    private static Result run(String baseUrl, String path, int clients, int seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Client> running = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Client client = path.equals("rest") ? new RestClient(baseUrl) : new SocketClient(baseUrl);
+            client.thread = new Thread(() -> client.play(deadline), "load-" + path + "-" + i);
+            running.add(client);
+        }
+        running.forEach(client -> client.thread.start());
+
+        Result result = new Result();
+        for (Client client : running) {
+            client.thread.join();
+            client.close();
+            result.add(client.latencies, client.count);
+        }
+        return result;
+    }
+
+    private abstract static class Client {
+        final HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .build();
+        final String baseUrl;
+        long[] latencies = new long[1 << 14];
+        int count;
+        Thread thread;
+
+        Client(String baseUrl) {
+            this.baseUrl = baseUrl;
+            // the session cookie and the first game
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/hangman/start?lang=en"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build());
+        }
+
+        void play(long deadline) {
+            int next = 0;
+            while (System.nanoTime() < deadline) {
+                long start = System.nanoTime();
+                boolean inProgress = next < LETTERS.length() && guess(LETTERS.charAt(next++));
+                if (!inProgress) {
+                    startGame();
+                    next = 0;
+                }
+                record(System.nanoTime() - start);
+            }
+        }
+
+        /** Guesses a letter and returns whether the game goes on */
+        abstract boolean guess(char letter);
+
+        abstract void startGame();
+
+        void close() {
+        }
+
+        String send(HttpRequest request) {
+            try {
+                return http.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private static final class RestClient extends Client {
+
+        RestClient(String baseUrl) {
+            super(baseUrl);
+        }
+
+        @Override
+        boolean guess(char letter) {
+            String body = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/hangman/guess?letter=" + letter))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build());
+            return body.contains("\"status\":\"IN_PROGRESS\"");
+        }
+
+        @Override
+        void startGame() {
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/hangman/start?lang=en"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build());
+        }
+    }
+
+    private static final class SocketClient extends Client implements WebSocket.Listener {
+        private final BlockingQueue<String> replies = new ArrayBlockingQueue<>(1);
+        private final StringBuilder frame = new StringBuilder();
+        private final WebSocket socket;
+
+        SocketClient(String baseUrl) {
+            super(baseUrl);
+            this.socket = http.newWebSocketBuilder()
+                    .buildAsync(URI.create(baseUrl.replaceFirst("^http", "ws") + "/ws/hangman"), this)
+                    .join();
+        }
+
+        @Override
+        boolean guess(char letter) {
+            // g:<1|0>:<remainingTries>:<status>:<currentState>[:<word>]
+            String[] reply = request("g" + letter).split(":");
+            return reply[0].equals("g") && reply[3].equals("IN_PROGRESS");
+        }
+
+        @Override
+        void startGame() {
+            request("nen");
+        }
+
+        @Override
+        void close() {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "done").join();
+        }
+
+        private String request(String request) {
+            socket.sendText(request, true).join();
+            try {
+                return replies.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            frame.append(data);
+            if (last) {
+                replies.add(frame.toString());
+                frame.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+    }
+
+    private static final class Result {
+        private long[] latencies = new long[0];
+        private int count;
+
+        void add(long[] clientLatencies, int clientCount) {
+            latencies = Arrays.copyOf(latencies, count + clientCount);
+            System.arraycopy(clientLatencies, 0, latencies, count, clientCount);
+            count += clientCount;
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, (long) (sorted.length * percentile))];
+        }
+    }
+}
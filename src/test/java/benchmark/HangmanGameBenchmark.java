@@ -0,0 +1,79 @@
+package benchmark;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the {@link HangmanGame} guess path: plays a whole game per
+ * operation, with correct and wrong guesses until the word is guessed.
+ * Run with allocation profiling:
+ * <pre>
+ *     mvn test-compile
+ *     java -cp "target/test-classes:target/classes:$(cat target/classpath.txt)" benchmark.HangmanGameBenchmark
+ * </pre>
+ * where {@code target/classpath.txt} is written by
+ * {@code mvn dependency:build-classpath -Dmdep.outputFile=target/classpath.txt}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HangmanGameBenchmark {
+
+    private final GamePreferences preferences = new GamePreferences(new Language("en"), null, null);
+    private final GameId gameId = new GameId("benchmark");
+
+    private Word word;
+    private Letter[] guesses;
+
+    @Setup
+    public void setUp() {
+        word = new Word("internationalization", new Language("en"));
+        guesses = "iexnqtrwaolz".chars()
+                .mapToObj(c -> new Letter((char) c))
+                .toArray(Letter[]::new);
+    }
+
+    @Benchmark
+    public void playGame(Blackhole blackhole) {
+        HangmanGame game = new HangmanGame(gameId, word, preferences);
+        for (Letter letter : guesses) {
+            if (!game.isInProgress()) {
+                break;
+            }
+            blackhole.consume(game.guessResult(letter));
+        }
+        blackhole.consume(game.getStatus());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HangmanGameBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
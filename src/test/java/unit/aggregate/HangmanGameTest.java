@@ -0,0 +1,104 @@
+package unit.aggregate;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.exception.LetterAlreadyGuessedException;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HangmanGameTest {
+
+    private final Language en = new Language("en");
+    private final GamePreferences preferences = new GamePreferences(en);
+
+    private HangmanGame newGame(String word) {
+        return new HangmanGame(new GameId("game-1"), new Word(word, en), preferences);
+    }
+
+    @Test
+    void correctGuessShouldRevealAllPositions() {
+        HangmanGame game = newGame("banana");
+
+        HangmanGame.GuessResult result = game.guessResult(new Letter('A'));
+
+        assertTrue(result.isWasCorrect());
+        assertEquals("_a_a_a", result.getCurrentState());
+        assertEquals(6, result.getRemainingTries());
+        assertEquals(GameStatus.IN_PROGRESS, result.getGameStatus());
+    }
+
+    @Test
+    void wrongGuessShouldCountMistake() {
+        HangmanGame game = newGame("banana");
+
+        HangmanGame.GuessResult result = game.guessResult(new Letter('z'));
+
+        assertFalse(result.isWasCorrect());
+        assertEquals("______", result.getCurrentState());
+        assertEquals(5, result.getRemainingTries());
+    }
+
+    @Test
+    void revealingEveryLetterShouldWin() {
+        HangmanGame game = newGame("banana");
+
+        game.guessResult(new Letter('b'));
+        game.guessResult(new Letter('n'));
+        HangmanGame.GuessResult result = game.guessResult(new Letter('a'));
+
+        assertEquals("banana", result.getCurrentState());
+        assertEquals(GameStatus.WON, result.getGameStatus());
+        assertTrue(game.isWon());
+    }
+
+    @Test
+    void sixMistakesShouldLose() {
+        HangmanGame game = newGame("cat");
+
+        for (char letter : "bdefgh".toCharArray()) {
+            game.guessResult(new Letter(letter));
+        }
+
+        assertTrue(game.isLost());
+        assertEquals(0, game.getRemainingTries());
+    }
+
+    @Test
+    void repeatedGuessShouldBeRejected() {
+        HangmanGame game = newGame("cat");
+        game.guessResult(new Letter('c'));
+
+        assertThrows(LetterAlreadyGuessedException.class, () -> game.guessResult(new Letter('C')));
+    }
+
+    @Test
+    void letterOutsideLanguageAlphabetShouldBeRejected() {
+        HangmanGame game = newGame("cat");
+
+        assertThrows(IllegalArgumentException.class, () -> game.guessResult(new Letter('ж')));
+        assertEquals(6, game.getRemainingTries());
+    }
+
+    @Test
+    void loadedGameShouldRestoreMaskedWord() {
+        HangmanGame game = new HangmanGame(new GameId("game-2"), new Word("banana", en), preferences,
+                Set.of(new Letter('n'), new Letter('x')), 1, GameStatus.IN_PROGRESS);
+
+        assertEquals("__n_n_", game.getCurrentState());
+        assertEquals(5, game.getRemainingTries());
+        assertTrue(game.hasGuessedLetter(new Letter('x')));
+        assertEquals(2, game.getGuessedLetters().size());
+
+        game.guessResult(new Letter('b'));
+        HangmanGame.GuessResult result = game.guessResult(new Letter('a'));
+        assertEquals(GameStatus.WON, result.getGameStatus());
+    }
+}
@@ -0,0 +1,119 @@
+package unit.catalog;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.catalog.WordCatalogSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordCatalogSnapshotTest {
+
+    private final Language en = new Language("en");
+    private final Language ua = new Language("ua");
+    private final Random random = new Random(42);
+
+    private WordCatalogSnapshot snapshot() {
+        return WordCatalogSnapshot.builder()
+                .add(new Word("cat", en), "animals", DifficultyLevel.EASY)
+                .add(new Word("elephant", en), "animals", DifficultyLevel.HARD)
+                .add(new Word("java", en), "programming", DifficultyLevel.EASY)
+                .add(new Word("misc", en), null, DifficultyLevel.EASY)
+                .add(new Word("кіт", ua), "animals", DifficultyLevel.EASY)
+                .build();
+    }
+
+    @Test
+    void pickShouldMatchAllCriteria() {
+        WordCatalogSnapshot snapshot = snapshot();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("elephant", snapshot.pick("en", "animals", DifficultyLevel.HARD, random).getContent());
+            assertEquals("java", snapshot.pick("en", "programming", null, random).getContent());
+            assertEquals("кіт", snapshot.pick("ua", null, null, random).getContent());
+        }
+    }
+
+    @Test
+    void pickByDifficultyShouldIncludeWordsWithoutCategory() {
+        WordCatalogSnapshot snapshot = snapshot();
+
+        boolean sawMisc = false;
+        for (int i = 0; i < 200; i++) {
+            Word word = snapshot.pick("en", null, DifficultyLevel.EASY, random);
+            assertNotEquals("elephant", word.getContent());
+            sawMisc |= word.getContent().equals("misc");
+        }
+        assertTrue(sawMisc);
+    }
+
+    @Test
+    void pickShouldReturnNullForEmptyBucket() {
+        WordCatalogSnapshot snapshot = snapshot();
+
+        assertNull(snapshot.pick("en", "programming", DifficultyLevel.HARD, random));
+        assertNull(snapshot.pick("en", "unknown", null, random));
+        assertNull(snapshot.pickByLanguage("de", random));
+    }
+
+    @Test
+    void pickAnyShouldCoverAllLanguages() {
+        WordCatalogSnapshot snapshot = snapshot();
+
+        assertEquals(5, snapshot.size());
+        assertNotNull(snapshot.pickAny(random));
+    }
+
+    @Test
+    void emptySnapshotShouldReturnNothing() {
+        WordCatalogSnapshot snapshot = WordCatalogSnapshot.empty();
+
+        assertTrue(snapshot.isEmpty());
+        assertNull(snapshot.pickAny(random));
+        assertNull(snapshot.pick("en", null, null, random));
+    }
+
+    @Test
+    void nextGenerationShouldNotChangeBaseSnapshot() {
+        WordCatalogSnapshot base = snapshot();
+
+        WordCatalogSnapshot next = WordCatalogSnapshot.builder(base)
+                .remove("en", "elephant")
+                .add(new Word("zebra", en), "animals", DifficultyLevel.MEDIUM)
+                .generation(2)
+                .build();
+
+        assertEquals(5, base.size());
+        assertEquals("elephant", base.pick("en", "animals", DifficultyLevel.HARD, random).getContent());
+        assertEquals(0, base.getGeneration());
+
+        assertEquals(5, next.size());
+        assertNull(next.pick("en", "animals", DifficultyLevel.HARD, random));
+        assertEquals("zebra", next.pick("en", "animals", DifficultyLevel.MEDIUM, random).getContent());
+        assertEquals("misc", findWord(next, "misc"));
+        assertEquals(2, next.getGeneration());
+    }
+
+    @Test
+    void removingLastWordShouldDropEmptyBuckets() {
+        WordCatalogSnapshot next = WordCatalogSnapshot.builder(snapshot())
+                .remove("ua", "кіт")
+                .build();
+
+        assertEquals(4, next.size());
+        assertNull(next.pickByLanguage("ua", random));
+    }
+
+    private String findWord(WordCatalogSnapshot snapshot, String content) {
+        for (int i = 0; i < 200; i++) {
+            Word word = snapshot.pick("en", null, DifficultyLevel.EASY, random);
+            if (word.getContent().equals(content)) {
+                return content;
+            }
+        }
+        return null;
+    }
+}
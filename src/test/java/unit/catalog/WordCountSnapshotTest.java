@@ -0,0 +1,59 @@
+package unit.catalog;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.infra.catalog.WordCountSnapshot;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.BucketCount;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordCountSnapshotTest {
+
+    private record Bucket(String language, String category, DifficultyLevel difficultyLevel, long wordCount)
+            implements BucketCount {
+        public String getLanguage() { return language; }
+        public String getCategory() { return category; }
+        public DifficultyLevel getDifficultyLevel() { return difficultyLevel; }
+        public long getWordCount() { return wordCount; }
+    }
+
+    private WordCountSnapshot snapshot() {
+        return WordCountSnapshot.from(List.of(
+                new Bucket("ua", "animals", DifficultyLevel.EASY, 4),
+                new Bucket("en", "programming", DifficultyLevel.EASY, 2),
+                new Bucket("en", "animals", DifficultyLevel.EASY, 3),
+                new Bucket("en", "animals", DifficultyLevel.HARD, 5),
+                new Bucket("en", null, DifficultyLevel.HARD, 1)
+        ));
+    }
+
+    @Test
+    void shouldListLanguagesAndCategoriesInOrder() {
+        WordCountSnapshot snapshot = snapshot();
+
+        assertEquals(List.of("en", "ua"), snapshot.getLanguages());
+        assertEquals(List.of("animals", "programming"), snapshot.getCategories("en"));
+        assertTrue(snapshot.getCategories("fr").isEmpty());
+    }
+
+    @Test
+    void shouldSumBucketCounts() {
+        WordCountSnapshot snapshot = snapshot();
+
+        assertEquals(15, snapshot.getTotalWords());
+        assertEquals(11, snapshot.getWordCount("en"));
+        assertEquals(8, snapshot.getWordCount("en", "animals"));
+        assertEquals(6, snapshot.getWordCount("en", DifficultyLevel.HARD));
+        assertEquals(0, snapshot.getWordCount("fr"));
+    }
+
+    @Test
+    void emptySnapshotShouldHaveNoLanguages() {
+        WordCountSnapshot snapshot = WordCountSnapshot.empty();
+
+        assertTrue(snapshot.getLanguages().isEmpty());
+        assertEquals(0, snapshot.getTotalWords());
+    }
+}
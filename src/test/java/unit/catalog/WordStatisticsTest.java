@@ -0,0 +1,79 @@
+package unit.catalog;
+
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.infra.catalog.WordCountSnapshot;
+import com.join.tab.infra.catalog.WordCounts;
+import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.BucketStatusCount;
+import com.join.tab.monitoring.metrics.WordStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WordStatisticsTest {
+
+    private record Row(String language, String category, DifficultyLevel difficultyLevel, long wordCount, Boolean active)
+            implements BucketStatusCount {
+        public String getLanguage() { return language; }
+        public String getCategory() { return category; }
+        public DifficultyLevel getDifficultyLevel() { return difficultyLevel; }
+        public long getWordCount() { return wordCount; }
+        public Boolean getActive() { return active; }
+    }
+
+    private final WordJpaRepository repository = mock(WordJpaRepository.class);
+    private final WordStatistics statistics =
+            new WordStatistics(repository, mock(PlatformTransactionManager.class));
+
+    private final List<BucketStatusCount> rows = List.of(
+            new Row("en", "animals", DifficultyLevel.EASY, 3, true),
+            new Row("en", "animals", DifficultyLevel.EASY, 2, false));
+
+    @Test
+    void wordsAddedDuringTheFirstLoadShouldBeCountedOnce() {
+        when(repository.countWordsByBucketAndStatus()).thenAnswer(invocation -> {
+            statistics.recordWordsAdded("en", "animals", DifficultyLevel.EASY, 1);
+            return rows;
+        });
+
+        assertEquals(4, statistics.getActiveWords());
+        assertEquals(6, statistics.getTotalWords());
+    }
+
+    @Test
+    void wordsAddedDuringReconcileShouldBeCountedOnce() {
+        when(repository.countWordsByBucketAndStatus()).thenReturn(rows);
+        assertEquals(3, statistics.getActiveWords());
+
+        when(repository.countWordsByBucketAndStatus()).thenAnswer(invocation -> {
+            statistics.recordWordsAdded("en", "animals", DifficultyLevel.EASY, 1);
+            assertEquals(4, statistics.getActiveWords());
+            return rows;
+        });
+        statistics.reconcile();
+
+        assertEquals(4, statistics.getActiveWords());
+        assertEquals(6, statistics.getTotalWords());
+    }
+
+    @Test
+    void wordCountsShouldFollowTheStatistics() {
+        when(repository.countWordsByBucketAndStatus()).thenReturn(rows);
+        WordCounts wordCounts = new WordCounts(statistics);
+
+        WordCountSnapshot first = wordCounts.current();
+        assertEquals(3, first.getTotalWords());
+        assertSame(first, wordCounts.current());
+
+        statistics.recordWordsAdded("en", "programming", DifficultyLevel.HARD, 2);
+
+        WordCountSnapshot second = wordCounts.current();
+        assertEquals(5, second.getTotalWords());
+        assertEquals(List.of("animals", "programming"), second.getCategories("en"));
+    }
+}
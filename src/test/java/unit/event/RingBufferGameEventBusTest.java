@@ -0,0 +1,195 @@
+package unit.event;
+
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.event.GameEventSubscriber;
+import com.join.tab.domain.event.LetterGuessedEvent;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.infra.event.RingBufferGameEventBus;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferGameEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GameMetrics gameMetrics = new GameMetrics(registry);
+    private RingBufferGameEventBus bus;
+
+    @AfterEach
+    void shutdown() {
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void everySubscriberShouldSeeEachProducersEventsInOrder() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        Recording first = new Recording("first");
+        Recording second = new Recording("second");
+        // room for all events, so none is dropped
+        bus = new RingBufferGameEventBus(producers * perProducer, 64, List.of(first, second), gameMetrics);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            GameId gameId = new GameId("game-" + p);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i += 2) {
+                    bus.publish(List.of(guess(gameId, i), guess(gameId, i + 1)));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        bus.shutdown();
+
+        for (Recording recording : List.of(first, second)) {
+            assertTrue(recording.maxBatch > 0 && recording.maxBatch <= 64);
+            for (int p = 0; p < producers; p++) {
+                List<Integer> seen = recording.byGame.get("game-" + p);
+                assertEquals(perProducer, seen.size());
+                for (int i = 0; i < perProducer; i++) {
+                    assertEquals(i, seen.get(i));
+                }
+            }
+        }
+        assertEquals(0, gameMetrics.getGameEventsDroppedCount());
+        assertEquals(0, bus.getDepth());
+    }
+
+    @Test
+    void shouldDropEventsWhenTheSlowestSubscriberFallsBehind() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Recording fast = new Recording("fast");
+        GameEventSubscriber blocked = new GameEventSubscriber() {
+            @Override
+            public void onEvents(List<GameEvent> events) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public String getName() {
+                return "blocked";
+            }
+        };
+        bus = new RingBufferGameEventBus(16, 4, List.of(fast, blocked), gameMetrics);
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish(List.of(guess(new GameId("game-1"), i)));
+        }
+
+        assertTrue(gameMetrics.getGameEventsDroppedCount() > 0);
+        assertTrue(bus.getDepth() <= 16);
+        assertEquals(bus.getDepth(), registry.get("hangman.events.queue.depth").gauge().value());
+        assertTrue(registry.get("hangman.events.consumer.lag").tag("subscriber", "blocked").gauge().value() > 0);
+
+        release.countDown();
+        bus.shutdown();
+        assertEquals(100 - gameMetrics.getGameEventsDroppedCount(), fast.count);
+    }
+
+    @Test
+    void aFailingSubscriberShouldKeepReceivingEvents() {
+        int[] calls = {0};
+        GameEventSubscriber failing = events -> {
+            calls[0]++;
+            throw new IllegalStateException("boom");
+        };
+        Recording recording = new Recording("recording");
+        bus = new RingBufferGameEventBus(64, 1, List.of(failing, recording), gameMetrics);
+
+        for (int i = 0; i < 10; i++) {
+            bus.publish(List.of(guess(new GameId("game-1"), i)));
+        }
+        bus.shutdown();
+
+        assertEquals(10, calls[0]);
+        assertEquals(10, recording.count);
+    }
+
+    @Test
+    void anIdleSubscriberShouldSleepUntilTheNextEvent() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        GameEventSubscriber waiting = new GameEventSubscriber() {
+            @Override
+            public void onEvents(List<GameEvent> events) {
+                received.countDown();
+            }
+
+            @Override
+            public String getName() {
+                return "waiting";
+            }
+        };
+        bus = new RingBufferGameEventBus(16, 4, List.of(waiting), gameMetrics);
+        Thread consumer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("game-events-waiting"))
+                .findFirst().orElseThrow();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (consumer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, consumer.getState());
+
+        bus.publish(List.of(guess(new GameId("game-1"), 0)));
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+    }
+
+    private static LetterGuessedEvent guess(GameId gameId, int sequence) {
+        return new SequencedEvent(gameId, sequence);
+    }
+
+    private static final class SequencedEvent extends LetterGuessedEvent {
+        final int sequence;
+
+        SequencedEvent(GameId gameId, int sequence) {
+            super(gameId, new Letter('a'), true);
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class Recording implements GameEventSubscriber {
+        private final String name;
+        private final Map<String, List<Integer>> byGame = new HashMap<>();
+        private volatile int count;
+        private volatile int maxBatch;
+
+        Recording(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void onEvents(List<GameEvent> events) {
+            maxBatch = Math.max(maxBatch, events.size());
+            for (GameEvent event : events) {
+                byGame.computeIfAbsent(event.getGameid().getValue(), id -> new ArrayList<>())
+                        .add(((SequencedEvent) event).sequence);
+            }
+            count += events.size();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
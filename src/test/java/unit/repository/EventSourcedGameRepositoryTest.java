@@ -0,0 +1,230 @@
+package unit.repository;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.infra.repository.file.EventSourcedGameRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventSourcedGameRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Language en = new Language("en");
+    private final List<EventSourcedGameRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void close() {
+        opened.forEach(EventSourcedGameRepository::close);
+    }
+
+    @Test
+    void shouldRebuildGamesByReplayingTheirEvents() {
+        EventSourcedGameRepository repository = open(1 << 20);
+        HangmanGame game = new HangmanGame(new GameId("game-1"), new Word("apple", en),
+                new GamePreferences(en, "fruits", DifficultyLevel.MEDIUM));
+        repository.save(game);
+        repository.update(game.getGameId(), g -> g.guessResult(new Letter('p')));
+        repository.update(game.getGameId(), g -> g.guessResult(new Letter('z')));
+        repository.save(newGame("game-2", "cat"));
+        repository.delete(new GameId("game-2"));
+
+        // reopened without closing, so nothing but the appended events is on disk
+        EventSourcedGameRepository replayed = open(1 << 20);
+
+        HangmanGame restored = replayed.findById(game.getGameId()).orElseThrow();
+        assertEquals("_pp__", restored.getCurrentState());
+        assertEquals(1, restored.getMistakeCount());
+        assertEquals(game.getGuessedLetters(), restored.getGuessedLetters());
+        assertEquals(game.getPreferences(), restored.getPreferences());
+        assertTrue(restored.getUncommittedEvents().isEmpty());
+        assertTrue(replayed.findById(new GameId("game-2")).isEmpty());
+        assertEquals(1, replayed.size());
+    }
+
+    @Test
+    void shouldReplayEndedGames() {
+        EventSourcedGameRepository repository = open(1 << 20);
+        repository.save(newGame("game-1", "cat"));
+        for (char letter : "cat".toCharArray()) {
+            repository.update(new GameId("game-1"), g -> g.guessResult(new Letter(letter)));
+        }
+
+        HangmanGame restored = open(1 << 20).findById(new GameId("game-1")).orElseThrow();
+
+        assertEquals(GameStatus.WON, restored.getStatus());
+        assertEquals("cat", restored.getCurrentState());
+    }
+
+    @Test
+    void checkpointShouldDropOldSegmentsAndKeepState() throws IOException {
+        // small segments, so the games are spread over many of them
+        EventSourcedGameRepository repository = open(4096);
+        for (int i = 0; i < 500; i++) {
+            GameId gameId = new GameId("game-" + i);
+            repository.save(newGame(gameId.getValue(), "banana"));
+            repository.update(gameId, g -> g.guessResult(new Letter('a')));
+            if (i % 2 == 0) {
+                repository.delete(gameId);
+            }
+        }
+        long before = segmentCount();
+
+        repository.checkpoint();
+        repository.update(new GameId("game-1"), g -> g.guessResult(new Letter('n')));
+
+        assertTrue(segmentCount() < before, "segments before the checkpoint should be deleted");
+        EventSourcedGameRepository replayed = open(4096);
+        assertEquals(250, replayed.size());
+        assertEquals("_anana", replayed.findById(new GameId("game-1")).orElseThrow().getCurrentState());
+        assertEquals("_a_a_a", replayed.findById(new GameId("game-3")).orElseThrow().getCurrentState());
+    }
+
+    @Test
+    void shouldIgnoreATornRecordAtTheEndOfTheLog() throws IOException {
+        EventSourcedGameRepository repository = open(1 << 20);
+        repository.save(newGame("game-1", "cat"));
+        repository.update(new GameId("game-1"), g -> g.guessResult(new Letter('c')));
+
+        Path last;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            last = files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted()
+                    .reduce((first, second) -> second).orElseThrow();
+        }
+        Files.write(last, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        HangmanGame restored = open(1 << 20).findById(new GameId("game-1")).orElseThrow();
+
+        assertEquals("c__", restored.getCurrentState());
+    }
+
+    @Test
+    void failedWriteShouldOnlyFailItsBatch() throws IOException {
+        EventSourcedGameRepository repository = open(1 << 20);
+        repository.save(newGame("game-1", "cat"));
+        // the checkpoint cannot open its segment where a directory is in the way
+        Files.createDirectory(tempDir.resolve(String.format("events-%020d.log", 1)));
+
+        assertThrows(RuntimeException.class, repository::checkpoint);
+
+        repository.update(new GameId("game-1"), g -> g.guessResult(new Letter('c')));
+        repository.save(newGame("game-2", "dog"));
+        EventSourcedGameRepository replayed = open(1 << 20);
+        assertEquals("c__", replayed.findById(new GameId("game-1")).orElseThrow().getCurrentState());
+        assertEquals("dog", replayed.findById(new GameId("game-2")).orElseThrow().getWord());
+    }
+
+    @Test
+    void replacedGamesShouldSurviveConcurrentCheckpoints() throws Exception {
+        EventSourcedGameRepository repository = open(1 << 20);
+        String[] words = {"cat", "dog", "cow"};
+        int games = 8;
+        int rounds = 60;
+        AtomicBoolean saving = new AtomicBoolean(true);
+
+        Thread[] savers = new Thread[games];
+        for (int t = 0; t < games; t++) {
+            GameId gameId = new GameId("game-" + t);
+            savers[t] = new Thread(() -> {
+                for (int round = 0; round < rounds; round++) {
+                    repository.save(newGame(gameId.getValue(), words[round % words.length]));
+                    repository.update(gameId, g -> g.guessResult(new Letter('o')));
+                }
+            });
+            savers[t].start();
+        }
+        Thread checkpoints = new Thread(() -> {
+            while (saving.get()) {
+                repository.checkpoint();
+            }
+        });
+        checkpoints.start();
+        for (Thread saver : savers) {
+            saver.join();
+        }
+        saving.set(false);
+        checkpoints.join();
+
+        // reopened without closing, so only what the checkpoints kept is on disk
+        EventSourcedGameRepository replayed = open(1 << 20);
+        String last = words[(rounds - 1) % words.length];
+        for (int t = 0; t < games; t++) {
+            HangmanGame game = replayed.findById(new GameId("game-" + t)).orElseThrow();
+            assertEquals(last, game.getWord());
+            assertEquals(repository.findById(new GameId("game-" + t)).orElseThrow().getCurrentState(),
+                    game.getCurrentState());
+        }
+    }
+
+    @Test
+    void gamesWhoseRecordsFailShouldBeDropped() {
+        EventSourcedGameRepository repository = open(1 << 20);
+        repository.save(newGame("game-1", "cat"));
+        repository.close();
+        opened.remove(repository);
+
+        // every append of a closed log has failed before the repository sees it
+        assertThrows(UncheckedIOException.class,
+                () -> repository.update(new GameId("game-1"), g -> g.guessResult(new Letter('c'))));
+        assertThrows(UncheckedIOException.class, () -> repository.save(newGame("game-2", "dog")));
+
+        assertTrue(repository.findById(new GameId("game-1")).isEmpty());
+        assertTrue(repository.findById(new GameId("game-2")).isEmpty());
+    }
+
+    @Test
+    void closeShouldCheckpointTheGames() {
+        EventSourcedGameRepository repository = open(1 << 20);
+        for (int i = 0; i < 100; i++) {
+            repository.save(newGame("game-" + i, "cat"));
+            repository.update(new GameId("game-" + i), g -> g.guessResult(new Letter('x')));
+        }
+        repository.close();
+        opened.remove(repository);
+
+        EventSourcedGameRepository replayed = open(1 << 20);
+
+        assertEquals(100, replayed.size());
+        assertEquals(1, replayed.findById(new GameId("game-42")).orElseThrow().getMistakeCount());
+    }
+
+    private EventSourcedGameRepository open(long segmentBytes) {
+        EventSourcedGameRepository repository = new EventSourcedGameRepository(tempDir, segmentBytes,
+                Duration.ZERO, true, new GameMetrics(new SimpleMeterRegistry()));
+        opened.add(repository);
+        return repository;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    private HangmanGame newGame(String gameId, String word) {
+        return new HangmanGame(new GameId(gameId), new Word(word, en), new GamePreferences(en));
+    }
+}
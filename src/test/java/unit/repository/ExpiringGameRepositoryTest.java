@@ -0,0 +1,126 @@
+package unit.repository;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.infra.repository.memory.ExpiringGameRepository;
+import com.join.tab.infra.repository.memory.LiveGameRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpiringGameRepositoryTest {
+
+    private final Language en = new Language("en");
+    private final AtomicLong clock = new AtomicLong();
+    private final GameMetrics metrics = new GameMetrics(new SimpleMeterRegistry());
+    private final ExpiringGameRepository repository = new ExpiringGameRepository(
+            new LiveGameRepository(), metrics, Duration.ofMinutes(30), Duration.ofSeconds(1), 64, clock::get);
+
+    @Test
+    void idleGameShouldBeRemoved() {
+        GameId gameId = save("game-1", "cat");
+        assertEquals(1, metrics.getActiveGames());
+
+        advance(Duration.ofMinutes(29));
+        assertEquals(0, repository.expireIdleGames());
+        advance(Duration.ofMinutes(1).plusSeconds(1));
+        assertEquals(1, repository.expireIdleGames());
+
+        assertTrue(repository.findById(gameId).isEmpty());
+        assertEquals(0, metrics.getActiveGames());
+        assertEquals(1, metrics.getGamesExpiredCount());
+    }
+
+    @Test
+    void accessShouldPostponeExpiry() {
+        GameId gameId = save("game-1", "cat");
+
+        advance(Duration.ofMinutes(20));
+        repository.update(gameId, game -> game.guessResult(new Letter('c')));
+        advance(Duration.ofMinutes(20));
+        assertEquals(0, repository.expireIdleGames());
+        assertTrue(repository.findById(gameId).isPresent());
+
+        advance(Duration.ofMinutes(31));
+        assertEquals(1, repository.expireIdleGames());
+    }
+
+    @Test
+    void restartedGameShouldNotBeExpiredByOldEntry() {
+        save("game-1", "cat");
+        advance(Duration.ofMinutes(25));
+        repository.delete(new GameId("game-1"));
+        GameId gameId = save("game-1", "dog");
+
+        advance(Duration.ofMinutes(10));
+        assertEquals(0, repository.expireIdleGames());
+        assertEquals("dog", repository.findById(gameId).orElseThrow().getWord());
+        assertEquals(1, metrics.getActiveGames());
+    }
+
+    @Test
+    void savingOverAGameShouldReplaceIt() {
+        save("game-1", "cat");
+        advance(Duration.ofMinutes(25));
+        GameId gameId = save("game-1", "dog");
+
+        advance(Duration.ofMinutes(10));
+        assertEquals(0, repository.expireIdleGames());
+        assertEquals("dog", repository.findById(gameId).orElseThrow().getWord());
+        assertEquals(1, repository.size());
+        assertEquals(1, metrics.getActiveGames());
+    }
+
+    @Test
+    void idleGamesShouldBeEvicted() {
+        List<GameId> evicted = new ArrayList<>();
+        ExpiringGameRepository expiring = new ExpiringGameRepository(new LiveGameRepository() {
+            @Override
+            public void evict(GameId gameId) {
+                evicted.add(gameId);
+                super.evict(gameId);
+            }
+        }, metrics, Duration.ofMinutes(30), Duration.ofSeconds(1), 64, clock::get);
+        GameId gameId = new GameId("game-1");
+        expiring.save(new HangmanGame(gameId, new Word("cat", en), new GamePreferences(en)));
+
+        advance(Duration.ofMinutes(31));
+        assertEquals(1, expiring.expireIdleGames());
+
+        assertEquals(List.of(gameId), evicted);
+        assertTrue(expiring.findById(gameId).isEmpty());
+    }
+
+    @Test
+    void finishedGameShouldLeaveActiveGauge() {
+        GameId gameId = save("game-1", "cat");
+
+        for (char letter : "cat".toCharArray()) {
+            repository.update(gameId, game -> game.guessResult(new Letter(letter)));
+        }
+
+        assertEquals(0, metrics.getActiveGames());
+        assertEquals(1, repository.size());
+    }
+
+    private GameId save(String id, String word) {
+        GameId gameId = new GameId(id);
+        repository.save(new HangmanGame(gameId, new Word(word, en), new GamePreferences(en)));
+        return gameId;
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
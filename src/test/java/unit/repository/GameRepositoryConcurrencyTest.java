@@ -0,0 +1,155 @@
+package unit.repository;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.exception.LetterAlreadyGuessedException;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.infra.repository.file.EventSourcedGameRepository;
+import com.join.tab.infra.repository.file.SpillingGameRepository;
+import com.join.tab.infra.repository.memory.InMemoryGameRepository;
+import com.join.tab.infra.repository.memory.LiveGameRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRepositoryConcurrencyTest {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+    private static final int THREADS = 32;
+    private static final int GAMES = 200;
+
+    @TempDir
+    static Path tempDir;
+
+    private final Language en = new Language("en");
+
+    static Stream<Arguments> repositories() {
+        return Stream.of(
+                Arguments.of("live", (Supplier<GameRepository>) LiveGameRepository::new),
+                Arguments.of("snapshot", (Supplier<GameRepository>) InMemoryGameRepository::new),
+                // capacity below the number of games, so games are spilled while they are guessed
+                Arguments.of("spill", (Supplier<GameRepository>) () -> new SpillingGameRepository(
+                        8, tempDir.resolve(System.nanoTime() + ".spill"), new GameMetrics(new SimpleMeterRegistry()))),
+                Arguments.of("events", (Supplier<GameRepository>) () -> new EventSourcedGameRepository(
+                        tempDir.resolve(System.nanoTime() + ".events"), 1 << 20, Duration.ZERO, true,
+                        new GameMetrics(new SimpleMeterRegistry())))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void concurrentGuessesShouldNotLoseUpdates(String name, Supplier<GameRepository> repositories) throws Exception {
+        GameRepository repository = repositories.get();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int g = 0; g < GAMES; g++) {
+                GameId gameId = new GameId("game-" + g);
+                repository.save(newGame(gameId, ALPHABET));
+
+                List<Callable<Boolean>> guesses = new ArrayList<>();
+                for (char letter : ALPHABET.toCharArray()) {
+                    guesses.add(() -> repository.update(gameId,
+                            game -> game.guessResult(new Letter(letter)).isWasCorrect()).orElseThrow());
+                }
+                runTogether(executor, guesses);
+
+                HangmanGame game = repository.findById(gameId).orElseThrow();
+                assertEquals(ALPHABET, game.getCurrentState());
+                assertEquals(ALPHABET.length(), game.getGuessedLetters().size());
+                assertEquals(0, game.getMistakeCount());
+                assertEquals(GameStatus.WON, game.getStatus());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void repeatedGuessShouldCountOneMistake(String name, Supplier<GameRepository> repositories) throws Exception {
+        GameRepository repository = repositories.get();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int g = 0; g < GAMES; g++) {
+                GameId gameId = new GameId("game-" + g);
+                repository.save(newGame(gameId, "cat"));
+
+                AtomicInteger rejected = new AtomicInteger();
+                List<Callable<Boolean>> guesses = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    guesses.add(() -> {
+                        try {
+                            return repository.update(gameId,
+                                    game -> game.guessResult(new Letter('z')).isWasCorrect()).orElseThrow();
+                        } catch (LetterAlreadyGuessedException e) {
+                            rejected.incrementAndGet();
+                            return false;
+                        }
+                    });
+                }
+                runTogether(executor, guesses);
+
+                assertEquals(THREADS - 1, rejected.get());
+                assertEquals(1, repository.findById(gameId).orElseThrow().getMistakeCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void updateOfMissingGameShouldBeEmpty(String name, Supplier<GameRepository> repositories) {
+        GameRepository repository = repositories.get();
+
+        assertTrue(repository.update(new GameId("missing"), HangmanGame::getStatus).isEmpty());
+    }
+
+    private HangmanGame newGame(GameId gameId, String word) {
+        return new HangmanGame(gameId, new Word(word, en), new GamePreferences(en));
+    }
+
+    /** Starts all tasks at the same moment and rethrows the first failure */
+    private static void runTogether(ExecutorService executor, List<Callable<Boolean>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (Callable<Boolean> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw (Exception) e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package unit.repository;
+
+import com.join.tab.infra.repository.memory.HashedTimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedTimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    void timeoutShouldFireOnFirstTickAtOrAfterDeadline() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("a", 2_500);
+
+        wheel.advance(2_999, timeout -> fired.add(timeout.item()));
+        assertEquals(List.of(), fired);
+
+        wheel.advance(3_000, timeout -> fired.add(timeout.item()));
+        assertEquals(List.of("a"), fired);
+    }
+
+    @Test
+    void deadlinesBeyondOneRotationShouldWaitForTheirRound() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 4, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("near", 2_000);
+        wheel.schedule("far", 10_000);
+
+        assertEquals(1, wheel.advance(9_000, timeout -> fired.add(timeout.item())));
+        assertEquals(1, wheel.advance(10_000, timeout -> fired.add(timeout.item())));
+        assertEquals(List.of("near", "far"), fired);
+    }
+
+    @Test
+    void cancelledTimeoutShouldNotFire() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", 1_000);
+        wheel.advance(500, t -> fail("fired early"));
+
+        timeout.cancel();
+
+        assertEquals(0, wheel.advance(5_000, t -> fail("cancelled timeout fired")));
+    }
+
+    @Test
+    void handlerShouldBeAbleToReschedule() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        List<Long> fired = new ArrayList<>();
+        wheel.schedule("a", 1_000);
+
+        wheel.advance(20_000, timeout -> {
+            fired.add(timeout.deadlineNanos());
+            if (timeout.deadlineNanos() < 3_000) {
+                wheel.schedule(timeout.item(), timeout.deadlineNanos() + 1_000);
+            }
+        });
+
+        assertEquals(List.of(1_000L, 2_000L, 3_000L), fired);
+    }
+}
@@ -0,0 +1,61 @@
+package unit.repository;
+
+import com.join.tab.infra.entity.WordEntity;
+import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.infra.repository.jpa.impl.IdRangeWordSampler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class IdRangeWordSamplerTest {
+
+    private final WordJpaRepository jpaRepository = mock(WordJpaRepository.class);
+    private final IdRangeWordSampler sampler = new IdRangeWordSampler(jpaRepository);
+
+    @Test
+    void filteredBucketShouldBePickedByPosition() {
+        WordEntity word = new WordEntity();
+        when(jpaRepository.countActiveWords("en", null, "EASY")).thenReturn(3L);
+        when(jpaRepository.findActiveWordAt(eq("en"), isNull(), eq("EASY"), anyLong())).thenReturn(Optional.of(word));
+
+        for (int i = 0; i < 50; i++) {
+            assertSame(word, sampler.sample("en", null, "EASY").orElseThrow());
+        }
+
+        verify(jpaRepository, times(1)).countActiveWords("en", null, "EASY");
+        verify(jpaRepository, never()).findFirstActiveWordFromId(any(), any(), any(), anyLong());
+        verify(jpaRepository, never()).findActiveWordAt(eq("en"), isNull(), eq("EASY"), longThat(offset -> offset < 0 || offset > 2));
+    }
+
+    @Test
+    void emptyBucketShouldNotBeQueried() {
+        when(jpaRepository.countActiveWords("en", "animals", null)).thenReturn(0L);
+
+        assertTrue(sampler.sample("en", "animals", null).isEmpty());
+
+        verify(jpaRepository, never()).findActiveWordAt(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void bucketOfAllWordsShouldSeekARandomId() {
+        WordEntity word = new WordEntity();
+        WordJpaRepository.IdRange range = mock(WordJpaRepository.IdRange.class);
+        when(range.getMinId()).thenReturn(10L);
+        when(range.getMaxId()).thenReturn(20L);
+        when(jpaRepository.findActiveIdRange(null, null, null)).thenReturn(range);
+        when(jpaRepository.findFirstActiveWordFromId(isNull(), isNull(), isNull(), anyLong()))
+                .thenReturn(Optional.of(word));
+
+        assertSame(word, sampler.sample(null, null, null).orElseThrow());
+
+        verify(jpaRepository).findFirstActiveWordFromId(isNull(), isNull(), isNull(),
+                longThat(id -> id >= 10 && id <= 20));
+        verify(jpaRepository, never()).countActiveWords(any(), any(), any());
+    }
+}
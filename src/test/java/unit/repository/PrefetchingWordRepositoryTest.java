@@ -0,0 +1,137 @@
+package unit.repository;
+
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.WordRepository;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.catalog.WordCatalogChangedEvent;
+import com.join.tab.infra.repository.memory.PrefetchingWordRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefetchingWordRepositoryTest {
+
+    private final Language en = new Language("en");
+    private final GamePreferences preferences = GamePreferences.withLanguage(en);
+    private final GameMetrics metrics = new GameMetrics(new SimpleMeterRegistry());
+    private final SourceRepository source = new SourceRepository();
+    private final PrefetchingWordRepository repository = new PrefetchingWordRepository(source, metrics, 8, 4, 16);
+
+    @AfterEach
+    void shutdown() {
+        repository.shutdown();
+    }
+
+    @Test
+    void missShouldRefillBufferInBatches() throws Exception {
+        assertEquals("cat", repository.getRandomWordByPreferences(preferences).getContent());
+        assertEquals(1, metrics.getWordBufferMissCount());
+
+        // the miss itself plus one refill batch
+        awaitFetches(1 + 4);
+        assertEquals("cat", repository.getRandomWordByPreferences(preferences).getContent());
+        assertEquals(1, metrics.getWordBufferHitCount());
+    }
+
+    @Test
+    void wordsBufferedBeforeCatalogChangeShouldBeDropped() throws Exception {
+        repository.getRandomWordByPreferences(preferences);
+        awaitFetches(1 + 4);
+
+        source.word.set("dog");
+        repository.onCatalogChanged(new WordCatalogChangedEvent("test"));
+
+        assertEquals("dog", repository.getRandomWordByPreferences(preferences).getContent());
+        assertEquals(2, metrics.getWordBufferMissCount());
+    }
+
+    @Test
+    void wordFetchedAcrossCatalogChangeShouldNotBeServed() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        repository.getRandomWordByPreferences(preferences);
+
+        // the refill is in the middle of fetching an old word when the catalog changes
+        source.block(fetching, release);
+        repository.getRandomWordByPreferences(new GamePreferences(en, "animals"));
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+        repository.onCatalogChanged(new WordCatalogChangedEvent("test"));
+        source.word.set("dog");
+        release.countDown();
+        awaitFetches(1 + 4 + 1 + 4);
+
+        assertEquals("dog", repository.getRandomWordByPreferences(new GamePreferences(en, "animals")).getContent());
+    }
+
+    @Test
+    void fullBufferShouldNotRefill() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            repository.getRandomWordByPreferences(preferences);
+            Thread.sleep(50);
+        }
+        // refills stop once the buffer is above half capacity
+        int fetched = source.fetches.get();
+        repository.getRandomWordByPreferences(preferences);
+        Thread.sleep(50);
+        assertEquals(fetched, source.fetches.get());
+    }
+
+    private void awaitFetches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (source.fetches.get() < count) {
+            assertTrue(System.nanoTime() < deadline, "refill did not run");
+            Thread.sleep(5);
+        }
+        // the last fetched word is offered right after the fetch
+        Thread.sleep(20);
+    }
+
+    /** Word source returning the current word, optionally holding one fetch */
+    private final class SourceRepository implements WordRepository {
+        private final AtomicReference<String> word = new AtomicReference<>("cat");
+        private final AtomicInteger fetches = new AtomicInteger();
+        private volatile CountDownLatch fetching;
+        private volatile CountDownLatch release;
+
+        private void block(CountDownLatch fetching, CountDownLatch release) {
+            this.release = release;
+            this.fetching = fetching;
+        }
+
+        @Override
+        public Word getRandomWord() {
+            return getRandomWordByPreferences(GamePreferences.defaultPreferences());
+        }
+
+        @Override
+        public Word getRandomWordByPreferences(GamePreferences preferences) {
+            String content = word.get();
+            CountDownLatch held = fetching;
+            if (held != null && Thread.currentThread().getName().equals("word-prefetch")) {
+                fetching = null;
+                held.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            fetches.incrementAndGet();
+            return new Word(content, en);
+        }
+
+        @Override
+        public Word findById(Long id) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package unit.repository;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.DifficultyLevel;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.infra.repository.file.GameCodec;
+import com.join.tab.infra.repository.file.SpillingGameRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpillingGameRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Language en = new Language("en");
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SpillingGameRepository repository;
+
+    @AfterEach
+    void close() {
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
+    @Test
+    void codecShouldRoundTripGameState() {
+        Language ua = new Language("ua");
+        HangmanGame game = new HangmanGame(new GameId("game-1"), new Word("кіт", ua),
+                new GamePreferences(ua, "animals", DifficultyLevel.EASY));
+        game.guessResult(new Letter('к'));
+        game.guessResult(new Letter('ґ'));
+
+        byte[] record = GameCodec.encode(game);
+        HangmanGame decoded = GameCodec.decode(record);
+
+        assertTrue(record.length < 64);
+        assertEquals("game-1", decoded.getGameId().getValue());
+        assertEquals("к__", decoded.getCurrentState());
+        assertEquals(game.getGuessedLetters(), decoded.getGuessedLetters());
+        assertEquals(1, decoded.getMistakeCount());
+        assertEquals(game.getPreferences(), decoded.getPreferences());
+        assertEquals(GameStatus.IN_PROGRESS, decoded.getStatus());
+    }
+
+    @Test
+    void leastRecentlyUsedGamesShouldBeSpilledAndFaultedIn() {
+        repository = new SpillingGameRepository(16, tempDir.resolve("games.spill"), new GameMetrics(registry));
+        for (int i = 0; i < 40; i++) {
+            save("game-" + i, "cat");
+        }
+        repository.update(new GameId("game-0"), game -> game.guessResult(new Letter('c')));
+
+        assertTrue(repository.getHotCount() <= 16);
+        assertEquals(40, repository.getHotCount() + repository.getSpilledCount());
+
+        HangmanGame faulted = repository.findById(new GameId("game-1")).orElseThrow();
+        assertEquals("___", faulted.getCurrentState());
+        assertEquals("c__", repository.findById(new GameId("game-0")).orElseThrow().getCurrentState());
+        assertTrue(registry.get("hangman.games.spilled").counter().count() > 0);
+        assertTrue(registry.get("hangman.games.faulted").counter().count() >= 1);
+    }
+
+    @Test
+    void deletedSpilledGameShouldBeGone() {
+        repository = new SpillingGameRepository(2, tempDir.resolve("games.spill"), new GameMetrics(registry));
+        save("game-1", "cat");
+        save("game-2", "dog");
+        save("game-3", "cow");
+        assertEquals(1, repository.getSpilledCount());
+
+        repository.delete(new GameId("game-1"));
+
+        assertTrue(repository.findById(new GameId("game-1")).isEmpty());
+        assertEquals(0, repository.getSpilledCount());
+    }
+
+    @Test
+    void spillFileShouldBeCompacted() throws Exception {
+        Path file = tempDir.resolve("games.spill");
+        repository = new SpillingGameRepository(8, file, new GameMetrics(registry));
+        for (int i = 0; i < 64; i++) {
+            save("game-" + i, "cat");
+        }
+
+        for (int round = 0; round < 1200; round++) {
+            for (int i = 0; i < 64; i++) {
+                repository.findById(new GameId("game-" + i)).orElseThrow();
+            }
+        }
+
+        assertTrue(Files.size(file) < 1 << 21);
+        for (int i = 0; i < 64; i++) {
+            assertEquals("cat", repository.findById(new GameId("game-" + i)).orElseThrow().getWord());
+        }
+    }
+
+    @Test
+    void deadBytesShouldMatchTheFileWhenFaultsRaceCompaction() throws Exception {
+        Path file = tempDir.resolve("games.spill");
+        repository = new SpillingGameRepository(8, file, new GameMetrics(registry));
+        for (int i = 0; i < 64; i++) {
+            save("game-" + i, "cat");
+        }
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 16;
+            threads[t] = new Thread(() -> {
+                for (int round = 0; round < 600; round++) {
+                    for (int i = 0; i < 64; i++) {
+                        repository.findById(new GameId("game-" + ((i + offset) % 64))).orElseThrow();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < 64; i++) {
+            assertEquals("cat", repository.findById(new GameId("game-" + i)).orElseThrow().getWord());
+            repository.delete(new GameId("game-" + i));
+        }
+        assertEquals(Files.size(file), repository.getDeadBytes());
+    }
+
+    @Test
+    void guessesShouldSurviveConcurrentSpills() throws Exception {
+        repository = new SpillingGameRepository(4, tempDir.resolve("games.spill"), new GameMetrics(registry));
+        String word = "abcdefghijklmnopqrstuvwxyz";
+        int games = 64;
+        for (int i = 0; i < games; i++) {
+            save("game-" + i, word);
+        }
+
+        Thread[] guessers = new Thread[4];
+        for (int t = 0; t < guessers.length; t++) {
+            int first = t;
+            guessers[t] = new Thread(() -> {
+                for (char letter : word.toCharArray()) {
+                    // every guesser owns every fourth game, touching them in turn keeps them spilling
+                    for (int i = first; i < games; i += guessers.length) {
+                        repository.update(new GameId("game-" + i), game -> game.guessResult(new Letter(letter)));
+                    }
+                }
+            });
+            guessers[t].start();
+        }
+        for (Thread guesser : guessers) {
+            guesser.join();
+        }
+
+        for (int i = 0; i < games; i++) {
+            HangmanGame game = repository.findById(new GameId("game-" + i)).orElseThrow();
+            assertEquals(word, game.getCurrentState(), "lost a guess of game-" + i);
+            assertEquals(GameStatus.WON, game.getStatus());
+        }
+    }
+
+    private void save(String id, String word) {
+        repository.save(new HangmanGame(new GameId(id), new Word(word, en), new GamePreferences(en)));
+    }
+}
@@ -0,0 +1,72 @@
+package unit.service;
+
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import com.join.tab.infra.repository.memory.LiveGameRepository;
+import com.join.tab.infra.service.GameSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSnapshotServiceTest {
+
+    private static final int GAMES = 200_000;
+
+    @TempDir
+    Path tempDir;
+
+    private final Language en = new Language("en");
+
+    @Test
+    void gamesShouldSurviveRestart() {
+        Path file = tempDir.resolve("games.snapshot");
+        GameRepository before = new LiveGameRepository();
+        for (int i = 0; i < GAMES; i++) {
+            HangmanGame game = new HangmanGame(new GameId("session-" + i), new Word("hangman", en),
+                    new GamePreferences(en));
+            game.guessResult(new Letter(i % 2 == 0 ? 'a' : 'z'));
+            before.save(game);
+        }
+        assertEquals(GAMES, new GameSnapshotService(before, file, true, "live").snapshot());
+
+        GameRepository after = new LiveGameRepository();
+        GameSnapshotService restarted = new GameSnapshotService(after, file, true, "live");
+        restarted.start();
+
+        assertFalse(Files.exists(file));
+        assertEquals("_a___a_", after.findById(new GameId("session-0")).orElseThrow().getCurrentState());
+        HangmanGame odd = after.findById(new GameId("session-" + (GAMES - 1))).orElseThrow();
+        assertEquals("_______", odd.getCurrentState());
+        assertEquals(1, odd.getMistakeCount());
+    }
+
+    @Test
+    void truncatedSnapshotShouldRestoreCompleteGames() throws Exception {
+        Path file = tempDir.resolve("games.snapshot");
+        GameRepository before = new LiveGameRepository();
+        for (int i = 0; i < 10; i++) {
+            before.save(new HangmanGame(new GameId("session-" + i), new Word("hangman", en), new GamePreferences(en)));
+        }
+        new GameSnapshotService(before, file, true, "live").snapshot();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 20);
+        }
+
+        GameRepository after = new LiveGameRepository();
+        long restored = new GameSnapshotService(after, file, true, "live").restore();
+
+        assertTrue(restored > 0 && restored < 10);
+        assertFalse(Files.exists(file));
+    }
+}
@@ -0,0 +1,81 @@
+package unit.service;
+
+import com.join.tab.application.dto.BatchGuessDto;
+import com.join.tab.application.dto.BatchGuessDto.LetterOutcome;
+import com.join.tab.application.dto.BatchGuessDto.Outcome;
+import com.join.tab.application.service.impl.HangmanGameServiceImpl;
+import com.join.tab.domain.aggregate.HangmanGame;
+import com.join.tab.domain.enums.GameStatus;
+import com.join.tab.domain.event.GameEndedEvent;
+import com.join.tab.domain.event.GameEvent;
+import com.join.tab.domain.exception.GameNotFoundException;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.GameRepository;
+import com.join.tab.domain.valueobject.GameId;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.repository.memory.LiveGameRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HangmanGameServiceImplTest {
+
+    private final Language en = new Language("en");
+    private final GameRepository repository = new LiveGameRepository();
+    private final List<List<GameEvent>> published = new ArrayList<>();
+    private final HangmanGameServiceImpl service = new HangmanGameServiceImpl(
+            repository, null, null, new GameMetrics(new SimpleMeterRegistry()), published::add);
+
+    @Test
+    void batchShouldReportEveryLetterAndStopAtTheGameEndingGuess() {
+        repository.save(new HangmanGame(new GameId("session-1"), new Word("java", en), new GamePreferences(en)));
+
+        BatchGuessDto result = service.guessLetters("session-1", "ax1jAvz");
+
+        assertEquals(List.of(
+                new LetterOutcome('a', Outcome.CORRECT),
+                new LetterOutcome('x', Outcome.INCORRECT),
+                new LetterOutcome('1', Outcome.INVALID),
+                new LetterOutcome('j', Outcome.CORRECT),
+                new LetterOutcome('A', Outcome.ALREADY_GUESSED),
+                new LetterOutcome('v', Outcome.CORRECT),
+                new LetterOutcome('z', Outcome.SKIPPED)
+        ), result.getResults());
+        assertEquals(GameStatus.WON, result.getStatus());
+        assertEquals("java", result.getWord());
+        assertEquals(5, result.getRemainingTries());
+
+        // one publish for the whole batch: four guesses and the end of the game
+        assertEquals(1, published.size());
+        assertEquals(5, published.get(0).size());
+        assertInstanceOf(GameEndedEvent.class, published.get(0).get(4));
+    }
+
+    @Test
+    void batchShouldKeepTheGameInProgressWhenNoGuessEndsIt() {
+        repository.save(new HangmanGame(new GameId("session-1"), new Word("java", en), new GamePreferences(en)));
+
+        BatchGuessDto result = service.guessLetters("session-1", "aq");
+
+        assertEquals(GameStatus.IN_PROGRESS, result.getStatus());
+        assertNull(result.getWord());
+        assertEquals("_a_a", result.getCurrentState());
+        assertEquals(GameStatus.IN_PROGRESS, repository.findById(new GameId("session-1")).orElseThrow().getStatus());
+    }
+
+    @Test
+    void batchShouldRejectMissingGamesAndOversizedBatches() {
+        assertThrows(GameNotFoundException.class, () -> service.guessLetters("session-1", "a"));
+
+        repository.save(new HangmanGame(new GameId("session-1"), new Word("java", en), new GamePreferences(en)));
+        assertThrows(IllegalArgumentException.class, () -> service.guessLetters("session-1", ""));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.guessLetters("session-1", "a".repeat(HangmanGameServiceImpl.MAX_BATCH_LETTERS + 1)));
+    }
+}
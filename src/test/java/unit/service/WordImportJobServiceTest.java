@@ -0,0 +1,94 @@
+package unit.service;
+
+import com.join.tab.infra.service.WordImportJob;
+import com.join.tab.infra.service.WordImportJob.Status;
+import com.join.tab.infra.service.WordImportJobService;
+import com.join.tab.infra.service.WordLoaderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class WordImportJobServiceTest {
+
+    private final WordLoaderService loader = mock(WordLoaderService.class);
+    private final WordImportJobService jobs = new WordImportJobService(loader, 1, 4, 50);
+
+    @AfterEach
+    void shutdown() {
+        jobs.shutdown();
+    }
+
+    @Test
+    void queuedJobCancelledBeforeItStartsShouldNotRun() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(loader.streamWords(any(), anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(3);
+        });
+
+        WordImportJob first = jobs.submit(upload("apple"), "en", "fruit");
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        WordImportJob queued = jobs.submit(upload("banana"), "en", "fruit");
+        assertEquals(Status.QUEUED, queued.getStatus());
+
+        jobs.cancel(queued.getId());
+        release.countDown();
+
+        awaitFinished(first);
+        awaitFinished(queued);
+        assertEquals(Status.COMPLETED, first.getStatus());
+        assertEquals(Status.CANCELLED, queued.getStatus());
+        assertNull(queued.getStartedAt());
+        verify(loader, times(1)).streamWords(any(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void failingImportShouldEndRunningJobAsFailed() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(loader.streamWords(any(), anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("database is down");
+        });
+
+        WordImportJob job = jobs.submit(upload("apple"), "en", "fruit");
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(Status.RUNNING, job.getStatus());
+        release.countDown();
+
+        awaitFinished(job);
+        assertEquals(Status.FAILED, job.getStatus());
+        assertEquals("database is down", job.getFailure());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void unsupportedLanguageShouldBeRejectedOnSubmit() {
+        assertThrows(IllegalArgumentException.class, () -> jobs.submit(upload("apple"), "xx", "fruit"));
+        verifyNoInteractions(loader);
+    }
+
+    private static MockMultipartFile upload(String content) {
+        return new MockMultipartFile("file", "words.txt", "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitFinished(WordImportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.getStatus().isFinished()) {
+            assertTrue(System.nanoTime() < deadline, "job did not finish");
+            Thread.sleep(5);
+        }
+    }
+}
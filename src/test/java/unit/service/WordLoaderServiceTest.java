@@ -0,0 +1,213 @@
+package unit.service;
+
+import com.join.tab.infra.catalog.WordCatalogChangedEvent;
+import com.join.tab.infra.entity.WordEntity;
+import com.join.tab.infra.repository.jdbc.WordBatchWriter;
+import com.join.tab.infra.repository.jpa.WordJpaRepository;
+import com.join.tab.infra.repository.jpa.WordJpaRepository.WordState;
+import com.join.tab.infra.service.WordLoaderService;
+import com.join.tab.infra.service.WordLoaderService.WordLoadResult;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import com.join.tab.monitoring.metrics.WordStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WordLoaderServiceTest {
+
+    private final StoredWords stored = new StoredWords();
+    private final WordJpaRepository repository = mock(WordJpaRepository.class);
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void reloadShouldDeactivateMissingWordsAndReactivateReturnedOnes() {
+        long returned = stored.add("en", "cat", false);
+        long missing = stored.add("en", "qwertyuiop", true);
+        long kept = stored.add("en", "dog", true);
+        long missingUa = stored.add("ua", "вишиванка", true);
+        long inactive = stored.add("en", "zyxwvut", false);
+
+        loader(10_000).reloadWordFromFiles();
+
+        assertEquals(List.of(returned), stored.activated);
+        assertEquals(List.of(missing, missingUa), stored.deactivated);
+        assertFalse(stored.deactivated.contains(kept));
+        assertFalse(stored.deactivated.contains(inactive));
+
+        // file words that are not stored are inserted once, stored ones never again
+        List<String> inserted = stored.insertedContents();
+        assertTrue(inserted.contains("en:sun"));
+        assertFalse(inserted.contains("en:cat"));
+        assertFalse(inserted.contains("en:dog"));
+        assertEquals(inserted.size(), inserted.stream().distinct().count());
+        assertTrue(events.stream().anyMatch(WordCatalogChangedEvent.class::isInstance));
+    }
+
+    @Test
+    void reloadWithoutChangesShouldNotTouchStoredWords() {
+        WordLoaderService loader = loader(10_000);
+        loader.reloadWordFromFiles();
+        int inserted = stored.inserted.size();
+        stored.activated.clear();
+        stored.deactivated.clear();
+
+        loader.reloadWordFromFiles();
+
+        assertEquals(inserted, stored.inserted.size());
+        assertTrue(stored.activated.isEmpty());
+        assertTrue(stored.deactivated.isEmpty());
+    }
+
+    @Test
+    void streamShouldCommitFullChunksAndTheRest() {
+        WordLoadResult result = loader(3).streamWords(lines("apple", "banana", "cherry", "grape", "lemon",
+                "mango", "peach"), "en", "fruit");
+
+        assertEquals(List.of(3, 3, 1), stored.insertSizes);
+        assertEquals(3, result.getChunkCount());
+        assertEquals(7, result.getLoadedCount());
+        assertEquals(7, result.getLinesProcessed());
+    }
+
+    @Test
+    void streamEndingOnAChunkBoundaryShouldNotCommitAnEmptyChunk() {
+        WordLoadResult result = loader(3).streamWords(lines("apple", "banana", "cherry"), "en", "fruit");
+
+        assertEquals(List.of(3), stored.insertSizes);
+        assertEquals(1, result.getChunkCount());
+    }
+
+    @Test
+    void streamShouldDropDuplicatesWithinAndAcrossChunks() {
+        stored.add("en", "melon", false);
+
+        WordLoadResult result = loader(3).streamWords(lines(
+                "apple", "banana", "apple", "cherry",  // chunk 1, apple repeated in the chunk
+                "banana", "grape", "cherry",           // chunk 2, only grape is new
+                "melon", "lemon", "Grape", "", "# comment", "xy"), "en", "fruit");
+
+        assertEquals(List.of("en:apple", "en:banana", "en:cherry", "en:grape", "en:lemon"), stored.insertedContents());
+        assertEquals(5, result.getLoadedCount());
+        // apple, banana, cherry, melon, grape and the invalid xy
+        assertEquals(6, result.getSkippedCount());
+        assertEquals(1, result.getErrorCount());
+        // stored words are looked up in batches of the writer's batch size
+        assertTrue(stored.lookupSizes.stream().allMatch(size -> size <= stored.getBatchSize()));
+    }
+
+    @Test
+    void cancelledStreamShouldKeepCommittedChunks() {
+        WordLoadResult result = new WordLoadResult("en", "fruit");
+
+        loader(2).streamWords(lines("apple", "banana", "cherry", "grape", "lemon"), "en", "fruit",
+                result, () -> result.getLinesProcessed() >= 3);
+
+        assertEquals(List.of("en:apple", "en:banana"), stored.insertedContents());
+        assertEquals(1, result.getChunkCount());
+    }
+
+    private static InputStream lines(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private WordLoaderService loader(int chunkSize) {
+        when(repository.findAllWordStates()).thenAnswer(invocation -> stored.states());
+        when(repository.findStoredContents(anyString(), any())).thenAnswer(invocation ->
+                stored.storedContents(invocation.getArgument(0), invocation.getArgument(1)));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        return new WordLoaderService(repository, events::add, mock(WordStatistics.class), stored,
+                new GameMetrics(new SimpleMeterRegistry()), transactionManager, 2, chunkSize);
+    }
+
+    /** The words table, written through the batch writer */
+    static final class StoredWords extends WordBatchWriter {
+        private final Map<String, WordRow> rows = new LinkedHashMap<>();
+        private final List<WordEntity> inserted = new ArrayList<>();
+        private final List<Long> activated = new ArrayList<>();
+        private final List<Long> deactivated = new ArrayList<>();
+        private final List<Integer> insertSizes = new ArrayList<>();
+        private final List<Integer> lookupSizes = new ArrayList<>();
+
+        StoredWords() {
+            super(null, 2);
+        }
+
+        long add(String language, String content, boolean active) {
+            long id = rows.size() + 1;
+            rows.put(language + ":" + content, new WordRow(id, language, content, active));
+            return id;
+        }
+
+        @Override
+        public int insert(List<WordEntity> words) {
+            if (!words.isEmpty()) {
+                insertSizes.add(words.size());
+            }
+            for (WordEntity word : words) {
+                assertNull(rows.get(word.getLanguage() + ":" + word.getContent()), "duplicate " + word.getContent());
+                add(word.getLanguage(), word.getContent(), true);
+                inserted.add(word);
+            }
+            return words.size();
+        }
+
+        @Override
+        public int updateActive(List<Long> ids, boolean active) {
+            (active ? activated : deactivated).addAll(ids);
+            rows.replaceAll((key, row) -> ids.contains(row.id())
+                    ? new WordRow(row.id(), row.language(), row.content(), active) : row);
+            return ids.size();
+        }
+
+        List<WordState> states() {
+            return new ArrayList<>(rows.values());
+        }
+
+        List<String> storedContents(String language, Collection<String> contents) {
+            lookupSizes.add(contents.size());
+            return contents.stream().filter(content -> rows.containsKey(language + ":" + content)).toList();
+        }
+
+        List<String> insertedContents() {
+            return inserted.stream().map(word -> word.getLanguage() + ":" + word.getContent()).toList();
+        }
+    }
+
+    private record WordRow(Long id, String language, String content, Boolean active) implements WordState {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getLanguage() {
+            return language;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public Boolean getActive() {
+            return active;
+        }
+    }
+}
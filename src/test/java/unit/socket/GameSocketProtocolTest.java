@@ -0,0 +1,66 @@
+package unit.socket;
+
+import com.join.tab.application.service.impl.HangmanGameServiceImpl;
+import com.join.tab.controller.socket.GameSocketProtocol;
+import com.join.tab.domain.model.Word;
+import com.join.tab.domain.repository.WordRepository;
+import com.join.tab.domain.service.GameFactory;
+import com.join.tab.domain.valueobject.GamePreferences;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.infra.repository.memory.LiveGameRepository;
+import com.join.tab.monitoring.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSocketProtocolTest {
+
+    private final WordRepository words = new WordRepository() {
+        @Override
+        public Word getRandomWord() {
+            return new Word("java", new Language("en"));
+        }
+
+        @Override
+        public Word getRandomWordByPreferences(GamePreferences preferences) {
+            return new Word("java", preferences.getLanguage());
+        }
+
+        @Override
+        public Word findById(Long id) {
+            return null;
+        }
+    };
+
+    private final GameSocketProtocol protocol = new GameSocketProtocol(new HangmanGameServiceImpl(
+            new LiveGameRepository(), new GameFactory(words), null,
+            new GameMetrics(new SimpleMeterRegistry()), events -> { }));
+
+    @Test
+    void shouldPlayAGameOverTheChannel() {
+        assertEquals("e:no-game", protocol.handle("session-1", "s"));
+        assertEquals("e:no-game", protocol.handle("session-1", "ga"));
+
+        assertEquals("s:6:IN_PROGRESS:____", protocol.handle("session-1", "nen"));
+        assertEquals("g:1:6:IN_PROGRESS:_a_a", protocol.handle("session-1", "ga"));
+        assertEquals("g:0:5:IN_PROGRESS:_a_a", protocol.handle("session-1", "gx"));
+        assertEquals("e:already-guessed", protocol.handle("session-1", "gA"));
+        assertEquals("e:invalid-letter", protocol.handle("session-1", "g1"));
+        assertEquals("g:1:5:IN_PROGRESS:ja_a", protocol.handle("session-1", "gj"));
+        assertEquals("g:1:5:WON:java:java", protocol.handle("session-1", "gv"));
+        assertEquals("s:5:WON:java:java", protocol.handle("session-1", "s"));
+        assertEquals("e:game-over", protocol.handle("session-1", "gz"));
+    }
+
+    @Test
+    void shouldRejectMalformedRequests() {
+        protocol.handle("session-1", "n");
+
+        assertEquals("e:bad-request", protocol.handle("session-1", ""));
+        assertEquals("e:bad-request", protocol.handle("session-1", "g"));
+        assertEquals("e:bad-request", protocol.handle("session-1", "gab"));
+        assertEquals("e:bad-request", protocol.handle("session-1", "x"));
+        assertEquals("e:unsupported-language", protocol.handle("session-1", "nxx"));
+    }
+}
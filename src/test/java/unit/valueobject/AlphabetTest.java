@@ -0,0 +1,90 @@
+package unit.valueobject;
+
+import com.join.tab.domain.valueobject.Alphabet;
+import com.join.tab.domain.valueobject.Language;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AlphabetTest {
+
+    @Test
+    void containsShouldAcceptBothCasesOfLanguageLetters() {
+        Alphabet english = Alphabet.of(new Language("en"));
+        assertTrue(english.contains('a'));
+        assertTrue(english.contains('Z'));
+        assertFalse(english.contains('ä'));
+        assertFalse(english.contains('ж'));
+
+        Alphabet ukrainian = Alphabet.of(new Language("ua"));
+        assertTrue(ukrainian.contains('ї'));
+        assertTrue(ukrainian.contains('Ґ'));
+        assertFalse(ukrainian.contains('a'));
+        assertFalse(ukrainian.contains('ё'));
+    }
+
+    @Test
+    void ukrainianAlphabetShouldHaveOnlyUkrainianLetters() {
+        Alphabet ukrainian = Alphabet.forCode("ua");
+
+        assertEquals(33, ukrainian.size());
+        for (char russian : "ёъыэ".toCharArray()) {
+            assertFalse(ukrainian.contains(russian), String.valueOf(russian));
+        }
+    }
+
+    @Test
+    void ukrainianAlphabetShouldAcceptEveryCyrillicWordOfTheWordFiles() throws IOException {
+        Alphabet ukrainian = Alphabet.forCode("ua");
+
+        for (String file : List.of("general", "programming", "animals", "technology")) {
+            String path = "words/ukrainian/" + file + "-words.txt";
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+                assertNotNull(in, path);
+                // words with apostrophes, underscores or latin letters are rejected by the loader
+                new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                        .map(String::trim)
+                        .filter(word -> word.matches("\\p{IsCyrillic}{3,}"))
+                        .forEach(word -> assertTrue(ukrainian.isValidWord(word), path + ": " + word));
+            }
+        }
+    }
+
+    @Test
+    void indexOfShouldBeDenseAndIgnoreCase() {
+        Alphabet german = Alphabet.forCode("de");
+
+        assertEquals(30, german.size());
+        assertEquals(0, german.indexOf('a'));
+        assertEquals(german.indexOf('ü'), german.indexOf('Ü'));
+        assertEquals('ß', german.letterAt(german.indexOf('ß')));
+        assertEquals(-1, german.indexOf('1'));
+        assertEquals(-1, german.indexOf('я'));
+    }
+
+    @Test
+    void isValidWordShouldCheckLengthAndLetters() {
+        Alphabet french = Alphabet.forCode("fr");
+
+        assertTrue(french.isValidWord("Château"));
+        assertFalse(french.isValidWord("ab"));
+        assertFalse(french.isValidWord("a".repeat(51)));
+        assertFalse(french.isValidWord("mot-clé"));
+        assertFalse(french.isValidWord(null));
+    }
+
+    @Test
+    void unknownLanguageShouldAcceptLettersOfAllLanguages() {
+        Alphabet any = Alphabet.forCode("xx");
+
+        assertTrue(any.isValidWord("straße"));
+        assertTrue(any.isValidWord("кіт"));
+        assertTrue(Alphabet.isKnownLetter('ñ'));
+        assertFalse(Alphabet.isKnownLetter('%'));
+    }
+}
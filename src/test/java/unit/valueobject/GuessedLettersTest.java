@@ -0,0 +1,59 @@
+package unit.valueobject;
+
+import com.join.tab.domain.valueobject.Alphabet;
+import com.join.tab.domain.valueobject.GuessedLetters;
+import com.join.tab.domain.valueobject.Language;
+import com.join.tab.domain.valueobject.Letter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuessedLettersTest {
+
+    @Test
+    void englishLettersShouldFitTheFirstWord() {
+        GuessedLetters guessed = GuessedLetters.empty(Alphabet.of(new Language("en")))
+                .with('a')
+                .with('Z');
+
+        assertTrue(guessed.contains('A'));
+        assertTrue(guessed.contains('z'));
+        assertFalse(guessed.contains('b'));
+        assertEquals(2, guessed.size());
+        assertEquals(0L, guessed.getHigh());
+    }
+
+    @Test
+    void lettersPastTheFirstWordShouldUseTheSecond() {
+        Alphabet any = Alphabet.forCode("xx");
+        GuessedLetters guessed = GuessedLetters.empty(any).with('а').with('я');
+
+        assertTrue(any.size() > Long.SIZE && any.size() <= Alphabet.MAX_SIZE);
+        assertTrue(guessed.contains('А'));
+        assertTrue(guessed.contains('я'));
+        assertNotEquals(0L, guessed.getHigh());
+        assertEquals(2, guessed.size());
+    }
+
+    @Test
+    void toLettersShouldDecodeInAlphabetOrder() {
+        Alphabet english = Alphabet.of(new Language("en"));
+        GuessedLetters guessed = GuessedLetters.of(english,
+                List.of(new Letter('t'), new Letter('c'), new Letter('a')));
+
+        assertEquals(List.of(new Letter('a'), new Letter('c'), new Letter('t')),
+                List.copyOf(guessed.toLetters()));
+        assertEquals(Set.of(), GuessedLetters.empty(english).toLetters());
+    }
+
+    @Test
+    void letterOutsideAlphabetShouldBeRejected() {
+        GuessedLetters guessed = GuessedLetters.empty(Alphabet.of(new Language("en")));
+
+        assertThrows(IllegalArgumentException.class, () -> guessed.with('ж'));
+        assertFalse(guessed.contains('ж'));
+    }
+}